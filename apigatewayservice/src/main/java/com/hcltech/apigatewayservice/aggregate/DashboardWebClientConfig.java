@@ -0,0 +1,43 @@
+package com.hcltech.apigatewayservice.aggregate;
+
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.hcltech.apigatewayservice.loadbalancer.InstanceLoadTracker;
+
+/**
+ * Load-balanced {@link WebClient} used by the gateway's own composition endpoints.
+ * <p>
+ * Requests to {@code http://SERVICENAME/...} are resolved through Spring Cloud LoadBalancer
+ * against the Eureka registry, exactly like {@code lb://} routes. The client is a dedicated
+ * bean rather than a {@code @LoadBalanced} builder so the shared {@link WebClient.Builder}
+ * stays usable for ordinary absolute URLs.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class DashboardWebClientConfig {
+
+    /**
+     * Creates the load-balanced client.
+     *
+     * @param builder the shared web client builder
+     * @param loadBalancerFunction the load balancer exchange filter function
+     * @param loadTracker records the latency of the chosen instances for the load balancer
+     * @return the load-balanced web client
+     */
+    @Bean
+    public WebClient dashboardWebClient(WebClient.Builder builder,
+                                        LoadBalancedExchangeFilterFunction loadBalancerFunction,
+                                        InstanceLoadTracker loadTracker) {
+        return builder.clone()
+            .filter(loadBalancerFunction)
+            .filter(loadTracker.exchangeFilter())
+            .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.hcltech.apigatewayservice.aggregate;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Merged document returned by {@code GET /api/dashboard/me}.
+ * <p>
+ * The service payloads are passed through unchanged as JSON trees, so the gateway does not
+ * duplicate the service DTOs:
+ * <ul>
+ *     <li>{@code student} - body of {@code GET /api/students/me}</li>
+ *     <li>{@code applications} - body of {@code GET /api/applications/students/{id}}, or
+ *     {@code null} when that leg failed</li>
+ *     <li>{@code universities} - body of {@code GET /api/universities/{id}} keyed by id, one
+ *     entry per distinct university referenced by the applications</li>
+ *     <li>{@code partial} - whether any leg failed or timed out</li>
+ *     <li>{@code failures} - the failed legs mapped to a short reason</li>
+ * </ul>
+ * </p>
+ *
+ * @param student the current student
+ * @param applications the student's applications, or {@code null}
+ * @param universities the referenced universities keyed by id
+ * @param partial whether some legs are missing
+ * @param failures the failed legs and why
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public record StudentDashboard(
+        JsonNode student,
+        JsonNode applications,
+        Map<String, JsonNode> universities,
+        boolean partial,
+        Map<String, String> failures) {
+}
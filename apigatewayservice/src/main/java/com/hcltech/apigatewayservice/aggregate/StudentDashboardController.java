@@ -0,0 +1,79 @@
+package com.hcltech.apigatewayservice.aggregate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hcltech.apigatewayservice.config.JsonErrorResponses;
+import com.hcltech.apigatewayservice.filter.IdentityAssertionFilter;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Gateway-side composition endpoint for the student home page.
+ * <p>
+ * Replaces the browser's {@code /api/students/me}, {@code /api/applications/students/{id}} and
+ * per-application {@code /api/universities/{id}} round trips with one request whose latency is
+ * roughly that of the slowest leg. See {@link StudentDashboardService} for the fan-out and
+ * partial result rules. Only the {@code STUDENT} role may call it, as enforced by
+ * {@code SecurityConfig}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class StudentDashboardController {
+
+    private final StudentDashboardService dashboardService;
+    private final IdentityAssertionFilter identityAssertionFilter;
+
+    /**
+     * Creates the controller.
+     *
+     * @param dashboardService the dashboard aggregation service
+     * @param identityAssertionFilter builds the identity assertion forwarded on each leg
+     */
+    public StudentDashboardController(StudentDashboardService dashboardService,
+                                      IdentityAssertionFilter identityAssertionFilter) {
+        this.dashboardService = dashboardService;
+        this.identityAssertionFilter = identityAssertionFilter;
+    }
+
+    /**
+     * Returns the current student's profile, applications and the universities they apply to.
+     *
+     * @param exchange the current exchange
+     * @param authentication the authenticated student
+     * @return the merged dashboard
+     */
+    @GetMapping("/me")
+    public Mono<StudentDashboard> getCurrentStudentDashboard(ServerWebExchange exchange,
+                                                             Authentication authentication) {
+        return dashboardService.load(
+            exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION),
+            identityAssertionFilter.assertionFor(authentication));
+    }
+
+    /**
+     * Renders a failed student leg in the gateway's usual JSON error shape.
+     *
+     * @param exchange the current exchange
+     * @param e the failure
+     * @return completion of the write
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public Mono<Void> handleUnavailable(ServerWebExchange exchange, ResponseStatusException e) {
+        HttpStatus status = HttpStatus.resolve(e.getStatusCode().value());
+        return JsonErrorResponses.write(exchange, status != null ? status : HttpStatus.BAD_GATEWAY,
+            "dashboard_unavailable", e.getReason());
+    }
+}
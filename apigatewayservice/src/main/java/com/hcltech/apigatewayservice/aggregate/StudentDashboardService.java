@@ -0,0 +1,204 @@
+package com.hcltech.apigatewayservice.aggregate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.hcltech.commonlib.deadline.RequestDeadline;
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Builds the student home page from STUDENTSERVICE, APPLICATIONSERVICE and UNIVERSITYSERVICE
+ * in a single gateway-side pass.
+ * <p>
+ * The legs run as follows, each bounded by its own timeout:
+ * <ol>
+ *     <li>{@code GET /api/students/me} - required, it yields the student id; its failure fails
+ *     the whole request</li>
+ *     <li>{@code GET /api/applications/students/{id}} - optional</li>
+ *     <li>{@code GET /api/universities/{id}} - one call per <em>distinct</em> university
+ *     referenced by the applications, all issued concurrently</li>
+ * </ol>
+ * A failed or timed-out optional leg is recorded in {@link StudentDashboard#failures()} and the
+ * rest of the document is still returned, so one slow university never blanks the page.
+ * Timing out a leg cancels its downstream request.
+ * </p>
+ * <p>
+ * The caller's {@code Authorization} header and identity assertion are forwarded on every leg,
+ * so the services apply their usual authorization, and each leg carries its own timeout as
+ * the {@value RequestDeadline#HEADER} deadline.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.dashboard.student-timeout} - timeout of the student leg (default 2s)</li>
+ *     <li>{@code gateway.dashboard.applications-timeout} - timeout of the applications leg
+ *     (default 2s)</li>
+ *     <li>{@code gateway.dashboard.university-timeout} - timeout of each university leg
+ *     (default 1s)</li>
+ *     <li>{@code gateway.dashboard.university-concurrency} - maximum concurrent university legs
+ *     (default 8)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+public class StudentDashboardService {
+
+    static final String STUDENT_URL = "http://STUDENTSERVICE/api/students/me";
+    static final String APPLICATIONS_URL = "http://APPLICATIONSERVICE/api/applications/students/{id}";
+    static final String UNIVERSITY_URL = "http://UNIVERSITYSERVICE/api/universities/{id}";
+
+    static final String APPLICATIONS_LEG = "applications";
+    static final String UNIVERSITY_LEG_PREFIX = "university:";
+
+    private final WebClient webClient;
+    private final Duration studentTimeout;
+    private final Duration applicationsTimeout;
+    private final Duration universityTimeout;
+    private final int universityConcurrency;
+
+    /**
+     * Creates the service.
+     *
+     * @param webClient the load-balanced web client
+     * @param studentTimeout timeout of the student leg
+     * @param applicationsTimeout timeout of the applications leg
+     * @param universityTimeout timeout of each university leg
+     * @param universityConcurrency maximum number of concurrent university legs
+     */
+    public StudentDashboardService(@Qualifier("dashboardWebClient") WebClient webClient,
+                                   @Value("${gateway.dashboard.student-timeout:2s}") Duration studentTimeout,
+                                   @Value("${gateway.dashboard.applications-timeout:2s}") Duration applicationsTimeout,
+                                   @Value("${gateway.dashboard.university-timeout:1s}") Duration universityTimeout,
+                                   @Value("${gateway.dashboard.university-concurrency:8}") int universityConcurrency) {
+        this.webClient = webClient;
+        this.studentTimeout = studentTimeout;
+        this.applicationsTimeout = applicationsTimeout;
+        this.universityTimeout = universityTimeout;
+        this.universityConcurrency = universityConcurrency;
+    }
+
+    /**
+     * Loads the dashboard of the calling student.
+     *
+     * @param authorization the caller's {@code Authorization} header, may be {@code null}
+     * @param assertion the identity assertion to forward, may be empty
+     * @return the merged dashboard, or a {@link ResponseStatusException} if the student leg failed
+     */
+    public Mono<StudentDashboard> load(String authorization, String assertion) {
+        Map<String, String> failures = new ConcurrentSkipListMap<>();
+        return get(authorization, assertion, studentTimeout, STUDENT_URL)
+            .onErrorMap(StudentDashboardService::toStatusException)
+            .flatMap(student -> {
+                String studentId = student.path("id").asText("");
+                if (studentId.isEmpty()) {
+                    return Mono.error(new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                        "Student profile has no id"));
+                }
+                return get(authorization, assertion, applicationsTimeout, APPLICATIONS_URL, studentId)
+                    .defaultIfEmpty(MissingNode.getInstance())
+                    .onErrorResume(e -> {
+                        failures.put(APPLICATIONS_LEG, reason(e));
+                        return Mono.just(MissingNode.getInstance());
+                    })
+                    .flatMap(applications -> universities(authorization, assertion, applications, failures)
+                        .map(universities -> new StudentDashboard(student,
+                            applications.isMissingNode() ? null : applications, universities,
+                            !failures.isEmpty(), Collections.unmodifiableMap(failures))));
+            });
+    }
+
+    private Mono<Map<String, JsonNode>> universities(String authorization, String assertion,
+                                                     JsonNode applications, Map<String, String> failures) {
+        return Flux.fromIterable(distinctUniversityIds(applications))
+            .flatMapSequential(id -> get(authorization, assertion, universityTimeout, UNIVERSITY_URL, id)
+                .map(university -> Map.entry(id, university))
+                .onErrorResume(e -> {
+                    failures.put(UNIVERSITY_LEG_PREFIX + id, reason(e));
+                    return Mono.empty();
+                }), universityConcurrency)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+    }
+
+    /**
+     * Collects the university ids referenced by the applications, in first-seen order and
+     * without duplicates.
+     *
+     * @param applications the applications array
+     * @return the distinct university ids
+     */
+    static Set<String> distinctUniversityIds(JsonNode applications) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (JsonNode application : applications) {
+            String id = application.path("universityId").asText("");
+            if (!id.isEmpty()) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private Mono<JsonNode> get(String authorization, String assertion, Duration timeout,
+                               String uri, Object... uriVariables) {
+        return webClient.get()
+            .uri(uri, uriVariables)
+            .accept(MediaType.APPLICATION_JSON)
+            .headers(headers -> {
+                if (authorization != null) {
+                    headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                }
+                if (assertion != null && !assertion.isEmpty()) {
+                    headers.set(IdentityAssertionCodec.HEADER, assertion);
+                }
+                headers.set(RequestDeadline.HEADER, Long.toString(System.currentTimeMillis() + timeout.toMillis()));
+            })
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .timeout(timeout);
+    }
+
+    private static String reason(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return "status " + responseException.getStatusCode().value();
+        }
+        return "unavailable";
+    }
+
+    private static Throwable toStatusException(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Student service timed out", e);
+        }
+        if (e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError()) {
+            return new ResponseStatusException(responseException.getStatusCode(), "Student profile unavailable", e);
+        }
+        return new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Student service unavailable", e);
+    }
+}
@@ -0,0 +1,136 @@
+package com.hcltech.apigatewayservice.canary;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.hcltech.apigatewayservice.canary.CanaryReleases.CanaryRelease;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+/**
+ * Actuator endpoint comparing the versions of each service side by side, at
+ * {@code /actuator/canary}.
+ * <p>
+ * For every service it reports the configured canary, if any, and for every version seen by
+ * {@link VersionLatencyFilter} since startup the number of requests, the error rate, and the
+ * mean and the 50th, 95th and 99th percentile latency of successful requests in milliseconds,
+ * so a regression of the canary shows up before it takes all the traffic.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "canary")
+public class CanaryEndpoint {
+
+    private final MeterRegistry registry;
+    private final CanaryReleases releases;
+
+    /**
+     * Creates the endpoint.
+     *
+     * @param registry the meter registry holding the per-version timers
+     * @param releases the configured canaries
+     */
+    public CanaryEndpoint(MeterRegistry registry, CanaryReleases releases) {
+        this.registry = registry;
+        this.releases = releases;
+    }
+
+    /**
+     * Returns the comparison of every service.
+     *
+     * @return the services keyed by id
+     */
+    @ReadOperation
+    public Map<String, ServiceComparison> compare() {
+        Map<String, Map<String, Timer>> success = new TreeMap<>();
+        Map<String, Map<String, Timer>> error = new TreeMap<>();
+        for (Timer timer : registry.find(VersionLatencyFilter.METRIC).timers()) {
+            String service = timer.getId().getTag("service");
+            String version = timer.getId().getTag("version");
+            Map<String, Map<String, Timer>> byOutcome = "error".equals(timer.getId().getTag("outcome")) ? error : success;
+            byOutcome.computeIfAbsent(service, key -> new TreeMap<>()).put(version, timer);
+        }
+
+        Map<String, ServiceComparison> services = new TreeMap<>();
+        releases.all().forEach((service, release) -> services.put(service, new ServiceComparison(release, new TreeMap<>())));
+        for (String service : union(success.keySet(), error.keySet())) {
+            Map<String, Timer> successByVersion = success.getOrDefault(service, Map.of());
+            Map<String, Timer> errorByVersion = error.getOrDefault(service, Map.of());
+            ServiceComparison comparison = services.computeIfAbsent(service,
+                key -> new ServiceComparison(null, new TreeMap<>()));
+            for (String version : union(successByVersion.keySet(), errorByVersion.keySet())) {
+                comparison.versions().put(version, stats(successByVersion.get(version), errorByVersion.get(version)));
+            }
+        }
+        return services;
+    }
+
+    private static VersionStats stats(Timer success, Timer error) {
+        long successes = success != null ? success.count() : 0;
+        long errors = error != null ? error.count() : 0;
+        long requests = successes + errors;
+        if (success == null || successes == 0) {
+            return new VersionStats(requests, errors, requests == 0 ? 0 : (double) errors / requests, 0, 0, 0, 0);
+        }
+        HistogramSnapshot snapshot = success.takeSnapshot();
+        double p50 = 0;
+        double p95 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            double millis = value.value(TimeUnit.MILLISECONDS);
+            if (value.percentile() == 0.5) {
+                p50 = millis;
+            } else if (value.percentile() == 0.95) {
+                p95 = millis;
+            } else if (value.percentile() == 0.99) {
+                p99 = millis;
+            }
+        }
+        return new VersionStats(requests, errors, (double) errors / requests, snapshot.mean(TimeUnit.MILLISECONDS),
+            p50, p95, p99);
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> keys = new TreeSet<>(first);
+        keys.addAll(second);
+        return keys;
+    }
+
+    /**
+     * The comparison of one service.
+     *
+     * @param canary the configured canary, or {@code null}
+     * @param versions the statistics of every version seen, keyed by version
+     */
+    public record ServiceComparison(CanaryRelease canary, Map<String, VersionStats> versions) {
+    }
+
+    /**
+     * The statistics of one version of a service.
+     *
+     * @param requests the number of requests
+     * @param errors the number of failed requests and server errors
+     * @param errorRate the share of errors
+     * @param meanMillis the mean latency of successful requests
+     * @param p50Millis the median latency of successful requests
+     * @param p95Millis the 95th percentile latency of successful requests
+     * @param p99Millis the 99th percentile latency of successful requests
+     */
+    public record VersionStats(long requests, long errors, double errorRate, double meanMillis,
+                               double p50Millis, double p95Millis, double p99Millis) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.hcltech.apigatewayservice.canary;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Per-service instance list configuration, instantiated in each service's child context by
+ * {@link CanaryLoadBalancerConfig}.
+ * <p>
+ * Builds the same discovery client and caching chain as the Spring Cloud default, with the
+ * {@link CanaryServiceInstanceListSupplier} on top. Deliberately not annotated with
+ * {@code @Configuration}, so component scanning does not register it in the gateway context
+ * itself.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class CanaryLoadBalancerClientConfiguration {
+
+    /**
+     * Creates the instance list supplier of one service.
+     *
+     * @param context the child context of the service
+     * @param releases the configured canaries from the gateway context
+     * @return the instance list supplier
+     */
+    @Bean
+    public ServiceInstanceListSupplier canaryServiceInstanceListSupplier(ConfigurableApplicationContext context,
+                                                                         CanaryReleases releases) {
+        return ServiceInstanceListSupplier.builder()
+            .withDiscoveryClient()
+            .withCaching()
+            .with((ctx, delegate) -> new CanaryServiceInstanceListSupplier(delegate, releases))
+            .build(context);
+    }
+}
@@ -0,0 +1,22 @@
+package com.hcltech.apigatewayservice.canary;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Puts the {@link CanaryServiceInstanceListSupplier} in front of the load balancer of every
+ * service.
+ * <p>
+ * Applies to {@code lb://} routes and to the load-balanced web clients alike, whichever load
+ * balancer is active. Services without an entry in {@link CanaryReleases} see all their
+ * instances as before.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = CanaryLoadBalancerClientConfiguration.class)
+public class CanaryLoadBalancerConfig {
+}
@@ -0,0 +1,96 @@
+package com.hcltech.apigatewayservice.canary;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * The canary releases currently configured, one per service at most.
+ * <p>
+ * A canary is a new build of a service registered in Eureka next to the current one, told apart
+ * by the {@value #VERSION_METADATA} entry of its instance metadata. The gateway sends it
+ * {@code percent} of the service's traffic and everything else to the instances of any other
+ * version. Configured per service id, in lower case:
+ * <pre>
+ * gateway:
+ *   canary:
+ *     services:
+ *       universityservice:
+ *         version: 1.1.0
+ *         percent: 10
+ * </pre>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class CanaryReleases {
+
+    /** Eureka instance metadata key holding the build version of an instance. */
+    public static final String VERSION_METADATA = "version";
+
+    private final Map<String, CanaryRelease> releases;
+
+    /**
+     * Binds the configured canaries.
+     *
+     * @param environment the gateway environment
+     */
+    @Autowired
+    public CanaryReleases(Environment environment) {
+        this(Binder.get(environment)
+            .bind("gateway.canary.services", Bindable.mapOf(String.class, CanaryRelease.class))
+            .orElse(Map.of()));
+    }
+
+    CanaryReleases(Map<String, CanaryRelease> releases) {
+        this.releases = Map.copyOf(releases);
+    }
+
+    /**
+     * Returns the canary of a service.
+     *
+     * @param serviceId the service id, in any case
+     * @return the canary, or {@code null} if the service has none
+     */
+    public CanaryRelease find(String serviceId) {
+        return serviceId == null ? null : releases.get(serviceId.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the build version of an instance.
+     *
+     * @param instance the service instance
+     * @return its {@value #VERSION_METADATA} metadata, or {@code null} if it has none
+     */
+    public static String versionOf(ServiceInstance instance) {
+        Map<String, String> metadata = instance.getMetadata();
+        return metadata == null ? null : metadata.get(VERSION_METADATA);
+    }
+
+    /**
+     * Returns every configured canary keyed by lower-case service id.
+     *
+     * @return the canaries
+     */
+    public Map<String, CanaryRelease> all() {
+        return releases;
+    }
+
+    /**
+     * The canary of one service.
+     *
+     * @param version the version metadata of the canary instances
+     * @param percent the share of requests sent to them, from 0 to 100
+     */
+    public record CanaryRelease(String version, int percent) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.hcltech.apigatewayservice.canary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import com.hcltech.apigatewayservice.canary.CanaryReleases.CanaryRelease;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Instance list supplier that narrows every request to either the canary or the stable
+ * instances of a service.
+ * <p>
+ * For each request it draws whether the request goes to the canary, with the configured
+ * percentage, and hands the load balancer only the instances whose
+ * {@value CanaryReleases#VERSION_METADATA} metadata matches the outcome, so the load balancer
+ * still picks the best instance within that version. When one side has no instances up, all
+ * instances are returned, so a canary never takes a service down. Services without a canary
+ * are passed through unchanged.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class CanaryServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final CanaryReleases releases;
+    private final DoubleSupplier random;
+
+    /**
+     * Creates the supplier.
+     *
+     * @param delegate the supplier of all instances of the service
+     * @param releases the configured canaries
+     */
+    public CanaryServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, CanaryReleases releases) {
+        this(delegate, releases, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    CanaryServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, CanaryReleases releases,
+                                      DoubleSupplier random) {
+        super(delegate);
+        this.releases = releases;
+        this.random = random;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return delegate.get().map(this::select);
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get(Request request) {
+        return delegate.get(request).map(this::select);
+    }
+
+    /**
+     * Returns the instances of the version drawn for one request.
+     *
+     * @param instances all instances of the service
+     * @return the canary or the stable instances, or all of them if one side has none
+     */
+    List<ServiceInstance> select(List<ServiceInstance> instances) {
+        CanaryRelease release = releases.find(getServiceId());
+        if (release == null || release.version() == null) {
+            return instances;
+        }
+        List<ServiceInstance> canary = new ArrayList<>();
+        List<ServiceInstance> stable = new ArrayList<>();
+        for (ServiceInstance instance : instances) {
+            (release.version().equals(CanaryReleases.versionOf(instance)) ? canary : stable)
+                .add(instance);
+        }
+        if (canary.isEmpty() || stable.isEmpty()) {
+            return instances;
+        }
+        return random.getAsDouble() * 100 < release.percent() ? canary : stable;
+    }
+}
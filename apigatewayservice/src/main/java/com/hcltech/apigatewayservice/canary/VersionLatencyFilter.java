@@ -0,0 +1,100 @@
+package com.hcltech.apigatewayservice.canary;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hcltech.apigatewayservice.filter.HedgeGatewayFilterFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Global filter that records the latency of every {@code lb://} exchange per service version.
+ * <p>
+ * Runs right after the {@link ReactiveLoadBalancerClientFilter} has chosen an instance, and
+ * after the {@code Hedge} filter, so each attempt of a hedged request is recorded against the
+ * version it was sent to, and records the time until the downstream response headers arrive in the
+ * {@value #METRIC} timer, tagged with the service id, the instance's
+ * {@value CanaryReleases#VERSION_METADATA} metadata ({@code unknown} when absent) and the
+ * outcome, {@code error} for failures and {@code 5xx} responses. The timer publishes a
+ * percentile histogram, so a canary can be compared with the stable version in Prometheus as
+ * well as on the {@link CanaryEndpoint}. Cancelled exchanges, such as the losing
+ * attempt of a hedged request, are not recorded.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class VersionLatencyFilter implements GlobalFilter, Ordered {
+
+    /** Name of the per-version downstream latency timer. */
+    public static final String METRIC = "gateway.downstream.requests";
+
+    static final String UNKNOWN_VERSION = "unknown";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Creates the filter.
+     *
+     * @param registry the meter registry
+     */
+    public VersionLatencyFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> chosen = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (chosen == null || !chosen.hasServer()) {
+            return chain.filter(exchange);
+        }
+        ServiceInstance instance = chosen.getServer();
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+            .doOnSuccess(done -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                record(instance, System.nanoTime() - start, status != null && status.is5xxServerError());
+            })
+            .doOnError(error -> record(instance, System.nanoTime() - start, true));
+    }
+
+    @Override
+    public int getOrder() {
+        return HedgeGatewayFilterFactory.HEDGE_FILTER_ORDER + 1;
+    }
+
+    /**
+     * Records one downstream exchange.
+     *
+     * @param instance the instance that served it
+     * @param nanos the elapsed time
+     * @param failed whether it failed or returned a server error
+     */
+    void record(ServiceInstance instance, long nanos, boolean failed) {
+        String version = CanaryReleases.versionOf(instance);
+        Timer.builder(METRIC)
+            .description("Downstream latency per service version")
+            .tag("service", instance.getServiceId().toLowerCase(Locale.ROOT))
+            .tag("version", version != null ? version : UNKNOWN_VERSION)
+            .tag("outcome", failed ? "error" : "success")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,112 @@
+package com.hcltech.apigatewayservice.circuitbreaker;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hcltech.apigatewayservice.config.JsonErrorResponses;
+import com.hcltech.apigatewayservice.filter.BufferedResponse;
+import com.hcltech.apigatewayservice.filter.CatalogCacheGatewayFilterFactory;
+import com.hcltech.apigatewayservice.filter.CatalogResponseCache;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Fallback targets of the per-route {@code CircuitBreaker} filters.
+ * <p>
+ * Routes forward here with {@code fallbackUri: forward:/fallback/...} when their breaker is
+ * open, the call timed out or the service answered with a configured error status, so the
+ * client gets an immediate answer instead of waiting on a degraded service:
+ * <ul>
+ *     <li>{@code /fallback/unavailable} - a JSON {@code 503}, or {@code 504} after a timeout,
+ *     in the same shape as the gateway's {@code 401} and {@code 403} bodies</li>
+ *     <li>{@code /fallback/catalog} - the last good response of a public catalog GET, marked
+ *     {@code X-Cache: STALE}, falling back to the JSON error when there is none</li>
+ * </ul>
+ * Forwards are dispatched internally and bypass the security filter chain, which denies
+ * direct client access to these paths. A response that was already committed before the
+ * breaker tripped is left as it is, since its status and headers can no longer change.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/fallback")
+public class CircuitBreakerFallbackController {
+
+    private final CatalogResponseCache catalogCache;
+
+    /**
+     * Creates the controller.
+     *
+     * @param catalogCache the catalog cache holding the last good responses
+     */
+    public CircuitBreakerFallbackController(CatalogResponseCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    /**
+     * Answers with a structured error for a route whose breaker rejected the call.
+     *
+     * @param exchange the forwarded exchange
+     * @return completion of the write
+     */
+    @RequestMapping("/unavailable")
+    public Mono<Void> unavailable(ServerWebExchange exchange) {
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.empty();
+        }
+        return writeError(exchange);
+    }
+
+    /**
+     * Serves the last good response of a catalog GET, or a structured error.
+     *
+     * @param exchange the forwarded exchange
+     * @return completion of the write
+     */
+    @RequestMapping("/catalog")
+    public Mono<Void> catalog(ServerWebExchange exchange) {
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.empty();
+        }
+        URI original = originalUri(exchange);
+        if (exchange.getRequest().getMethod() == HttpMethod.GET && original != null) {
+            String query = original.getRawQuery();
+            BufferedResponse lastGood = catalogCache.getLastGood(
+                query == null ? original.getRawPath() : original.getRawPath() + '?' + query);
+            if (lastGood != null) {
+                return lastGood
+                    .withHeader(CatalogCacheGatewayFilterFactory.CACHE_STATUS_HEADER, "STALE")
+                    .withHeader(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .writeTo(exchange.getResponse());
+            }
+        }
+        return writeError(exchange);
+    }
+
+    private static Mono<Void> writeError(ServerWebExchange exchange) {
+        Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+        if (cause instanceof TimeoutException) {
+            return JsonErrorResponses.write(exchange, HttpStatus.GATEWAY_TIMEOUT,
+                "gateway_timeout", "Service did not respond in time");
+        }
+        return JsonErrorResponses.write(exchange, HttpStatus.SERVICE_UNAVAILABLE,
+            "service_unavailable", "Service temporarily unavailable, please retry later");
+    }
+
+    private static URI originalUri(ServerWebExchange exchange) {
+        Set<URI> originals = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR);
+        return originals == null || originals.isEmpty() ? null : originals.iterator().next();
+    }
+}
@@ -0,0 +1,350 @@
+package com.hcltech.apigatewayservice.compression;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Global filter that compresses large text responses on their way to the client.
+ * <p>
+ * The codec is negotiated from the request's {@code Accept-Encoding}: the first of the
+ * configured {@code codecs} that the client accepts and that is available wins. A response is
+ * compressed only if all of these hold:
+ * <ul>
+ *     <li>its content type is one of the configured {@code mime-types}</li>
+ *     <li>it is not already encoded and does not carry {@code Cache-Control: no-transform}</li>
+ *     <li>its body is at least {@code min-response-size}; when the service sends no
+ *     {@code Content-Length}, the first chunks are held back until that much has arrived,
+ *     and a body that ends sooner is sent as it is</li>
+ * </ul>
+ * Past that point the body is compressed chunk by chunk as it streams from the service, so
+ * multi-megabyte lists are never held in memory whole. {@code Content-Length} is dropped,
+ * {@code Vary: Accept-Encoding} is added and a strong {@code ETag} becomes weak, since the
+ * compressed bytes differ from the ones it was computed on. Responses written with
+ * {@code writeAndFlushWith}, such as server-sent events, are left alone.
+ * </p>
+ * <p>
+ * Every compressed response records, tagged with the route and the codec:
+ * <ul>
+ *     <li>{@code gateway.compression.ratio} - compressed size over original size</li>
+ *     <li>{@code gateway.compression.cpu} - CPU time spent compressing it</li>
+ *     <li>{@code gateway.compression.bytes} - bytes in and out, tagged {@code stage=original|compressed}</li>
+ * </ul>
+ * Responses left uncompressed count in {@code gateway.compression.skipped}, tagged with the
+ * reason.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.compression.enabled} - compress at all (default true)</li>
+ *     <li>{@code gateway.compression.codecs} - codecs in order of preference (default zstd, gzip)</li>
+ *     <li>{@code gateway.compression.min-response-size} - smaller bodies are not compressed (default 2KB)</li>
+ *     <li>{@code gateway.compression.mime-types} - content types to compress (default JSON, XML and text)</li>
+ *     <li>{@code gateway.compression.gzip-level} - gzip level from 1 to 9 (default 6)</li>
+ *     <li>{@code gateway.compression.zstd-level} - zstd level from 1 to 19 (default 3)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class ResponseCompressionFilter implements GlobalFilter, Ordered {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final boolean enabled;
+    private final List<CompressionCodec> codecs;
+    private final long minResponseBytes;
+    private final List<MediaType> mimeTypes;
+    private final Map<CompressionCodec, Integer> levels;
+    private final MeterRegistry registry;
+
+    /**
+     * Creates the filter.
+     *
+     * @param enabled whether responses are compressed at all
+     * @param codecs the codec encodings in order of preference
+     * @param minResponseSize the size below which bodies are not compressed
+     * @param mimeTypes the content types to compress
+     * @param gzipLevel the gzip compression level
+     * @param zstdLevel the zstd compression level
+     * @param registry the meter registry
+     */
+    public ResponseCompressionFilter(@Value("${gateway.compression.enabled:true}") boolean enabled,
+                                     @Value("${gateway.compression.codecs:zstd,gzip}") List<String> codecs,
+                                     @Value("${gateway.compression.min-response-size:2KB}") DataSize minResponseSize,
+                                     @Value("${gateway.compression.mime-types:application/json,application/*+json,"
+                                         + "application/xml,application/javascript,text/html,text/plain,text/css,text/xml}")
+                                     List<MediaType> mimeTypes,
+                                     @Value("${gateway.compression.gzip-level:6}") int gzipLevel,
+                                     @Value("${gateway.compression.zstd-level:3}") int zstdLevel,
+                                     MeterRegistry registry) {
+        this.enabled = enabled;
+        this.codecs = new ArrayList<>();
+        for (String encoding : codecs) {
+            CompressionCodec codec = CompressionCodec.fromEncoding(encoding);
+            if (codec == null) {
+                throw new IllegalArgumentException("Unknown compression codec: " + encoding);
+            }
+            if (codec.isAvailable()) {
+                this.codecs.add(codec);
+            }
+        }
+        this.minResponseBytes = minResponseSize.toBytes();
+        this.mimeTypes = List.copyOf(mimeTypes);
+        this.levels = Map.of(CompressionCodec.GZIP, gzipLevel, CompressionCodec.ZSTD, zstdLevel);
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled || exchange.getRequest().getMethod() == HttpMethod.HEAD) {
+            return chain.filter(exchange);
+        }
+        CompressionCodec codec = negotiate(exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+        if (codec == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new CompressingResponse(exchange, codec)).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    /**
+     * Picks the codec for a request.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header values, may be {@code null}
+     * @return the most preferred codec the client accepts, or {@code null} if none
+     */
+    CompressionCodec negotiate(List<String> acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        Map<String, Double> accepted = new HashMap<>();
+        for (String value : acceptEncoding) {
+            for (String entry : value.split(",")) {
+                String[] parts = entry.split(";");
+                double quality = 1.0;
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            quality = Double.parseDouble(parameter.substring(2));
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                accepted.put(parts[0].trim().toLowerCase(Locale.ROOT), quality);
+            }
+        }
+        for (CompressionCodec codec : codecs) {
+            if (accepted.getOrDefault(codec.encoding(), accepted.getOrDefault("*", 0.0)) > 0) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    private String skipReason(ServerHttpResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        HttpHeaders headers = response.getHeaders();
+        if (status != null && (status.is1xxInformational() || status.value() == 204 || status.value() == 304)) {
+            return "status";
+        }
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return "encoded";
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null && cacheControl.contains("no-transform")) {
+            return "no-transform";
+        }
+        MediaType contentType = headers.getContentType();
+        if (contentType == null || mimeTypes.stream().noneMatch(type -> type.isCompatibleWith(contentType))) {
+            return "type";
+        }
+        long length = headers.getContentLength();
+        if (length >= 0 && length < minResponseBytes) {
+            return "small";
+        }
+        return null;
+    }
+
+    private void skipped(String reason) {
+        registry.counter("gateway.compression.skipped", "reason", reason).increment();
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static long size(List<DataBuffer> buffers) {
+        long size = 0;
+        for (DataBuffer buffer : buffers) {
+            size += buffer.readableByteCount();
+        }
+        return size;
+    }
+
+    /**
+     * Response decorator compressing the body written through it.
+     */
+    private final class CompressingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final CompressionCodec codec;
+
+        CompressingResponse(ServerWebExchange exchange, CompressionCodec codec) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.codec = codec;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            String reason = skipReason(getDelegate());
+            if (reason != null) {
+                skipped(reason);
+                return super.writeWith(body);
+            }
+            AtomicLong seen = new AtomicLong();
+            Flux<DataBuffer> out = Flux.<DataBuffer>from(body)
+                .bufferUntil(buffer -> seen.addAndGet(buffer.readableByteCount()) >= minResponseBytes)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .switchOnFirst((first, batches) -> {
+                    Flux<DataBuffer> buffers = batches.concatMapIterable(batch -> batch);
+                    if (!first.hasValue() || size(first.get()) < minResponseBytes) {
+                        skipped("small");
+                        return buffers;
+                    }
+                    return compress(buffers);
+                });
+            return super.writeWith(out);
+        }
+
+        private Flux<DataBuffer> compress(Flux<DataBuffer> body) {
+            HttpHeaders headers = getDelegate().getHeaders();
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.set(HttpHeaders.CONTENT_ENCODING, codec.encoding());
+            if (!headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+                headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            String etag = headers.getETag();
+            if (etag != null && !etag.startsWith("W/")) {
+                headers.setETag("W/" + etag);
+            }
+            return Flux.using(() -> new Compression(codec, codec.newEncoder(levels.get(codec))),
+                compression -> body
+                    .map(compression::encode)
+                    .concatWith(Mono.fromSupplier(compression::finish))
+                    .filter(bytes -> bytes.length > 0)
+                    .map(bytes -> bufferFactory().wrap(bytes))
+                    .doOnComplete(() -> compression.record(routeId())),
+                Compression::close);
+        }
+
+        private String routeId() {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            return route != null ? route.getId() : "unknown";
+        }
+    }
+
+    /**
+     * The compression of one body and its running totals.
+     */
+    private final class Compression {
+
+        private final CompressionCodec codec;
+        private final CompressionCodec.Encoder encoder;
+        private long originalBytes;
+        private long compressedBytes;
+        private long cpuNanos;
+
+        Compression(CompressionCodec codec, CompressionCodec.Encoder encoder) {
+            this.codec = codec;
+            this.encoder = encoder;
+        }
+
+        byte[] encode(DataBuffer buffer) {
+            byte[] chunk = new byte[buffer.readableByteCount()];
+            buffer.read(chunk);
+            DataBufferUtils.release(buffer);
+            long start = cpuTime();
+            byte[] out = encoder.encode(chunk);
+            cpuNanos += cpuTime() - start;
+            originalBytes += chunk.length;
+            compressedBytes += out.length;
+            return out;
+        }
+
+        byte[] finish() {
+            long start = cpuTime();
+            byte[] out = encoder.finish();
+            cpuNanos += cpuTime() - start;
+            compressedBytes += out.length;
+            return out;
+        }
+
+        void record(String routeId) {
+            String encoding = codec.encoding();
+            DistributionSummary.builder("gateway.compression.ratio")
+                .description("Compressed size over original size of compressed responses")
+                .tag("route", routeId)
+                .tag("codec", encoding)
+                .publishPercentiles(0.5, 0.95)
+                .register(registry)
+                .record(originalBytes == 0 ? 1.0 : (double) compressedBytes / originalBytes);
+            Timer.builder("gateway.compression.cpu")
+                .description("CPU time spent compressing a response")
+                .tag("route", routeId)
+                .tag("codec", encoding)
+                .register(registry)
+                .record(cpuNanos, TimeUnit.NANOSECONDS);
+            registry.counter("gateway.compression.bytes", "route", routeId, "codec", encoding, "stage", "original")
+                .increment(originalBytes);
+            registry.counter("gateway.compression.bytes", "route", routeId, "codec", encoding, "stage", "compressed")
+                .increment(compressedBytes);
+        }
+
+        void close() {
+            encoder.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hcltech.apigatewayservice.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Writes the small JSON error bodies the gateway returns when it rejects an exchange itself.
+ * <p>
+ * Shared by the security entry point, the access denied handler and the JWT authentication
+ * failure handler, so every 401 and 403 has the same shape and never carries a
+ * {@code WWW-Authenticate} header that would trigger a browser login popup.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class JsonErrorResponses {
+
+    private JsonErrorResponses() {
+    }
+
+    /**
+     * Writes {@code {"error":"...","message":"..."}} with the given status.
+     *
+     * @param exchange the current exchange
+     * @param status the response status
+     * @param error the short error code
+     * @param message the human-readable message
+     * @return completion of the write
+     */
+    public static Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String error, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().remove(HttpHeaders.WWW_AUTHENTICATE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = ("{\"error\":\"" + error + "\",\"message\":\"" + message + "\"}\n")
+            .getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
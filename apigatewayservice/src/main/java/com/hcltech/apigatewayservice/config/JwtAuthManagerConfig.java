@@ -2,12 +2,25 @@ package com.hcltech.apigatewayservice.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.Authentication;
+
+import com.hcltech.apigatewayservice.config.VerifiedTokenCache.VerifiedToken;
+import com.hcltech.apigatewayservice.revocation.TokenRevocationChecker;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.jsonwebtoken.JwtException;
 import reactor.core.publisher.Mono;
 
+import java.util.Date;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -20,7 +33,10 @@ import java.util.stream.Collectors;
  * <p>
  * The authentication manager extracts and validates JWT tokens, retrieves user
  * information and roles, and constructs Spring Security authentication objects
- * for downstream security filters.
+ * for downstream security filters. Successful verifications are remembered in the
+ * {@link VerifiedTokenCache}, so a token's signature is checked once rather than on
+ * every exchange. Revocation is checked on every exchange, cached or not, against the
+ * {@link TokenRevocationChecker}.
  * </p>
  *
  * @author HCL Tech
@@ -37,12 +53,50 @@ public class JwtAuthManagerConfig {
     private final JwtUtil jwtUtil;
 
     /**
-     * Constructs a new JwtAuthManagerConfig with the required JWT utility.
+     * Cache of already verified tokens and their resolved authorities.
+     */
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * Checker of token IDs against the auth service's revocation filter.
+     */
+    private final TokenRevocationChecker revocationChecker;
+
+    /**
+     * Time spent verifying token signatures, i.e. on verified-token cache misses.
+     */
+    private final Timer verificationTimer;
+
+    /**
+     * Verified-token cache lookups that found the token.
+     */
+    private final Counter cacheHits;
+
+    /**
+     * Verified-token cache lookups that had to verify the token.
+     */
+    private final Counter cacheMisses;
+
+    /**
+     * Constructs a new JwtAuthManagerConfig with the required JWT utility, token cache, revocation
+     * checker and meter registry.
      *
      * @param jwtUtil the JWT utility component for token operations
+     * @param verifiedTokenCache the cache of already verified tokens
+     * @param revocationChecker the checker of revoked token IDs
+     * @param meterRegistry the registry for the {@code gateway.jwt.*} meters
      */
-    public JwtAuthManagerConfig(JwtUtil jwtUtil) {
+    public JwtAuthManagerConfig(JwtUtil jwtUtil, VerifiedTokenCache verifiedTokenCache,
+                                TokenRevocationChecker revocationChecker, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationChecker = revocationChecker;
+        this.verificationTimer = Timer.builder("gateway.jwt.verification")
+            .description("Time spent verifying JWT signatures")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.cacheHits = Counter.builder("gateway.jwt.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.cacheMisses = Counter.builder("gateway.jwt.cache.requests").tag("result", "miss").register(meterRegistry);
     }
 
     /**
@@ -51,15 +105,20 @@ public class JwtAuthManagerConfig {
      * This manager performs the following operations:
      * <ul>
      *     <li>Extracts the JWT token from authentication credentials</li>
-     *     <li>Validates the token signature and expiration</li>
+     *     <li>Returns the cached result if the token was already verified and has not expired</li>
+     *     <li>Otherwise validates the token signature and expiration with a single parse</li>
      *     <li>Extracts username and roles from token claims</li>
      *     <li>Ensures role names are prefixed with "ROLE_" for Spring Security</li>
-     *     <li>Constructs an authenticated {@link Authentication} object</li>
+     *     <li>Rejects the token if its ID is in the revocation filter and the auth service confirms
+     *     the revocation; tokens not in the filter are accepted without a remote call</li>
+     *     <li>Constructs an authenticated {@link Authentication} object whose details hold the
+     *     {@link VerifiedToken}, which the identity assertion filter forwards downstream</li>
      * </ul>
      * </p>
      * <p>
-     * Returns an empty {@link Mono} if the token is missing, invalid, or expired,
-     * which will result in an authentication failure.
+     * Returns an empty {@link Mono} if the token is missing, and signals a
+     * {@link BadCredentialsException} if it is invalid, expired or revoked, which the
+     * authentication web filter answers with a JSON {@code 401}.
      * </p>
      *
      * @return a configured reactive authentication manager bean
@@ -72,19 +131,73 @@ public class JwtAuthManagerConfig {
                 return Mono.empty();
             }
 
-            String username = jwtUtil.extractUsername(token);
-            if (username == null || !jwtUtil.validateToken(token, username)) {
-                return Mono.empty();
+            VerifiedToken verified = verifiedTokenCache.get(token);
+            if (verified != null) {
+                cacheHits.increment();
+            } else {
+                cacheMisses.increment();
+                try {
+                    verified = timedVerify(token);
+                } catch (JwtException | IllegalArgumentException e) {
+                    return Mono.error(new BadCredentialsException("Invalid token", e));
+                }
+                if (verified == null) {
+                    return Mono.error(new BadCredentialsException("Token has no subject or has expired"));
+                }
+                verifiedTokenCache.put(token, verified);
             }
 
-            var roles = jwtUtil.extractRoles(token);
-            var authorities = roles.stream()
-                .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-
-            Authentication auth = new UsernamePasswordAuthenticationToken(username, token, authorities);
-            return Mono.just(auth);
+            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(verified.username(),
+                token, verified.authorities());
+            auth.setDetails(verified);
+            if (revocationChecker.mightBeRevoked(verified.tokenId())) {
+                return revocationChecker.confirmRevoked(verified.tokenId())
+                    .flatMap(revoked -> revoked
+                        ? Mono.<Authentication>error(new BadCredentialsException("Token has been revoked"))
+                        : Mono.<Authentication>just(auth));
+            }
+            return Mono.<Authentication>just(auth);
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies the token and records the time taken in {@code gateway.jwt.verification}.
+     *
+     * @param token the raw JWT token
+     * @return the verification result, or {@code null} if the token has no subject or has expired
+     */
+    private VerifiedToken timedVerify(String token) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return verify(token);
+        } finally {
+            sample.stop(verificationTimer);
+        }
+    }
+
+    /**
+     * Verifies the token signature and expiration and resolves its authorities.
+     * <p>
+     * The token is parsed once; subject, expiration and roles are all read from the
+     * same {@link JwtClaimsView}.
+     * </p>
+     *
+     * @param token the raw JWT token
+     * @return the verification result, or {@code null} if the token has no subject or has expired
+     * @throws io.jsonwebtoken.JwtException if the token is malformed or the signature is invalid
+     */
+    private VerifiedToken verify(String token) {
+        JwtClaimsView claims = jwtUtil.parse(token);
+        String username = claims.getSubject();
+        Date expiration = claims.getExpiration();
+        if (username == null || expiration == null || claims.isExpired()) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = claims.getRoles().stream()
+            .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
+            .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toUnmodifiableList());
+        return new VerifiedToken(username, authorities, expiration.getTime(), claims.getId());
+    }
+}
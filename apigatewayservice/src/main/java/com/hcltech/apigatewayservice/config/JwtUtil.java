@@ -1,16 +1,11 @@
 package com.hcltech.apigatewayservice.config;
 
-import java.util.Base64;
-import java.util.Date;
 import java.util.List;
-import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.security.Key;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
+import com.hcltech.commonlib.jwt.JwtTokenParser;
 
 /**
  * Utility component for JWT (JSON Web Token) operations.
@@ -21,7 +16,8 @@ import java.security.Key;
  * </p>
  * <p>
  * The utility uses HMAC-SHA algorithm for token signature verification with a
- * Base64-encoded secret key configured via application properties.
+ * Base64-encoded secret key configured via application properties. The key and the
+ * parser are built once by the shared {@link JwtTokenParser}.
  * </p>
  *
  * @author HCL Tech
@@ -32,72 +28,58 @@ import java.security.Key;
 public class JwtUtil {
 
 	/**
-	 * Base64-encoded secret key used for JWT signature verification.
-	 * Injected from application configuration property 'jwt.secret'.
+	 * Shared parser holding the decoded signing key.
 	 */
-	@Value("${jwt.secret}")
-	private String secret;
+	private final JwtTokenParser tokenParser;
 
 	/**
-	 * Extracts the username (subject) from the JWT token.
-	 * <p>
-	 * The username is stored in the standard JWT 'sub' (subject) claim.
-	 * </p>
+	 * Creates the utility and decodes the signing key once.
 	 *
-	 * @param token the JWT token string
-	 * @return the username extracted from the token
-	 * @throws io.jsonwebtoken.JwtException if the token is malformed or signature is invalid
+	 * @param secret Base64-encoded secret key used for JWT signature verification,
+	 *        injected from application configuration property 'jwt.secret'
 	 */
-	public String extractUsername(String token) {
-		return extractClaim(token, Claims::getSubject);
+	public JwtUtil(@Value("${jwt.secret}") String secret) {
+		this.tokenParser = new JwtTokenParser(secret);
 	}
 
 	/**
-	 * Extracts the single role from the JWT token.
-	 * <p>
-	 * This method retrieves a custom 'role' claim from the token payload.
-	 * Note: For multiple roles, use {@link #extractRoles(String)} instead.
-	 * </p>
+	 * Verifies the JWT token once and returns all of its claims.
 	 *
 	 * @param token the JWT token string
-	 * @return the role extracted from the token, or null if not present
-	 * @throws io.jsonwebtoken.JwtException if the token is malformed or signature is invalid
+	 * @return an immutable view of the token claims
+	 * @throws io.jsonwebtoken.JwtException if the token is malformed, expired or signature is invalid
 	 */
-	public String extractRole(String token) {
-		return extractClaim(token, claims -> claims.get("role", String.class));
+	public JwtClaimsView parse(String token) {
+		return tokenParser.parse(token);
 	}
 
 	/**
-	 * Extracts a specific claim from the JWT token using a custom claims resolver function.
+	 * Extracts the username (subject) from the JWT token.
 	 * <p>
-	 * This generic method allows extraction of any claim from the token by providing
-	 * a function that operates on the {@link Claims} object.
+	 * The username is stored in the standard JWT 'sub' (subject) claim.
 	 * </p>
 	 *
-	 * @param <T> the type of the claim value to extract
 	 * @param token the JWT token string
-	 * @param claimsResolver a function to extract the desired claim from the Claims object
-	 * @return the extracted claim value
+	 * @return the username extracted from the token
 	 * @throws io.jsonwebtoken.JwtException if the token is malformed or signature is invalid
 	 */
-	public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-		final Claims claims = extractAllClaims(token);
-		return claimsResolver.apply(claims);
+	public String extractUsername(String token) {
+		return parse(token).getSubject();
 	}
 
 	/**
-	 * Parses and extracts all claims from the JWT token.
+	 * Extracts the single role from the JWT token.
 	 * <p>
-	 * This private method performs token signature verification using the configured
-	 * secret key and returns all claims contained in the token payload.
+	 * This method retrieves a custom 'role' claim from the token payload.
+	 * Note: For multiple roles, use {@link #extractRoles(String)} instead.
 	 * </p>
 	 *
 	 * @param token the JWT token string
-	 * @return all claims from the token payload
+	 * @return the role extracted from the token, or null if not present
 	 * @throws io.jsonwebtoken.JwtException if the token is malformed or signature is invalid
 	 */
-	private Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+	public String extractRole(String token) {
+		return parse(token).getClaim("role", String.class);
 	}
 
 	/**
@@ -117,36 +99,7 @@ public class JwtUtil {
 	 * @throws io.jsonwebtoken.JwtException if the token is malformed or signature is invalid
 	 */
 	public Boolean validateToken(String token, String username) {
-		final String extractedUsername = extractUsername(token);
-		return (extractedUsername.equals(username) && !isTokenExpired(token));
-	}
-
-	/**
-	 * Checks if the JWT token has expired.
-	 * <p>
-	 * Compares the token's expiration time against the current system time.
-	 * </p>
-	 *
-	 * @param token the JWT token string
-	 * @return true if the token has expired, false otherwise
-	 * @throws io.jsonwebtoken.JwtException if the token is malformed or signature is invalid
-	 */
-	private Boolean isTokenExpired(String token) {
-		return extractClaim(token, Claims::getExpiration).before(new Date());
-	}
-
-	/**
-	 * Constructs the cryptographic key used for JWT signature verification.
-	 * <p>
-	 * The secret key is Base64-decoded and converted to an HMAC-SHA key suitable
-	 * for use with the JJWT library.
-	 * </p>
-	 *
-	 * @return the signing key for JWT verification
-	 */
-	private Key getSigningKey() {
-		byte[] keyBytes = Base64.getDecoder().decode(secret);
-		return Keys.hmacShaKeyFor(keyBytes);
+		return parse(token).isValidFor(username);
 	}
 
 	/**
@@ -157,10 +110,10 @@ public class JwtUtil {
 	 * </p>
 	 *
 	 * @param token the JWT token string
-	 * @return the list of roles extracted from the token, or null if not present
+	 * @return the list of roles extracted from the token, empty if not present
 	 * @throws io.jsonwebtoken.JwtException if the token is malformed or signature is invalid
 	 */
 	public List<String> extractRoles(String token) {
-		return extractClaim(token, claims -> claims.get("roles", List.class));
+		return parse(token).getRoles();
 	}
-}
\ No newline at end of file
+}
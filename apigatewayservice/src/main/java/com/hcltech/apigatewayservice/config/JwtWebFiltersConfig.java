@@ -3,10 +3,11 @@ package com.hcltech.apigatewayservice.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
 import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
-import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.security.web.server.util.matcher.NegatedServerWebExchangeMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -34,17 +35,22 @@ public class JwtWebFiltersConfig {
      * <p>
      * This filter performs the following operations:
      * <ul>
-     *     <li>Intercepts all incoming HTTP requests</li>
+     *     <li>Intercepts all incoming HTTP requests except the public routes in {@link PublicRoutes}</li>
      *     <li>Extracts JWT tokens from the Authorization header</li>
      *     <li>Converts Bearer tokens to authentication objects</li>
      *     <li>Delegates authentication to the provided authentication manager</li>
      *     <li>Operates statelessly without server-side sessions</li>
+     *     <li>Answers invalid or expired tokens with a JSON {@code 401}</li>
      * </ul>
      * </p>
      * <p>
      * The filter uses {@link NoOpServerSecurityContextRepository} to ensure no
      * session state is maintained, making it suitable for stateless JWT authentication.
      * </p>
+     * <p>
+     * Public routes are permitted without authentication anyway, so a bearer token sent
+     * along with a catalog or documentation request is not verified at all.
+     * </p>
      *
      * @param authManager the reactive authentication manager for validating JWT tokens
      * @return a configured authentication web filter bean
@@ -59,8 +65,12 @@ public class JwtWebFiltersConfig {
         // Convert Authorization: Bearer <token> to Authentication
         authWebFilter.setServerAuthenticationConverter(this::convertFromBearer);
 
-        // Run on any exchange — Spring will decide if it's needed based on matchers/permitAll
-        authWebFilter.setRequiresAuthenticationMatcher(ServerWebExchangeMatchers.anyExchange());
+        // Skip verification on public routes — they are permitAll regardless of the token
+        authWebFilter.setRequiresAuthenticationMatcher(new NegatedServerWebExchangeMatcher(PublicRoutes.matcher()));
+
+        // Invalid or expired tokens get the same JSON 401 as a missing token
+        authWebFilter.setAuthenticationFailureHandler((webFilterExchange, e) -> JsonErrorResponses.write(
+            webFilterExchange.getExchange(), HttpStatus.UNAUTHORIZED, "unauthorized", "Invalid or expired token"));
 
         return authWebFilter;
     }
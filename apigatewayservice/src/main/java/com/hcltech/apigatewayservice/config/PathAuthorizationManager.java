@@ -0,0 +1,48 @@
+package com.hcltech.apigatewayservice.config;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Authorization manager that looks up the rule of an exchange in a {@link PathAuthorizationTable}
+ * and delegates to the manager attached to it.
+ * <p>
+ * It replaces a chain of {@code pathMatchers(...)} entries, which Spring Security evaluates one
+ * by one for every exchange, with a single table lookup, and is registered through
+ * {@code anyExchange().access(...)}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class PathAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
+
+    private final PathAuthorizationTable<ReactiveAuthorizationManager<AuthorizationContext>> table;
+
+    /**
+     * Creates the manager.
+     *
+     * @param table the compiled rules
+     */
+    public PathAuthorizationManager(PathAuthorizationTable<ReactiveAuthorizationManager<AuthorizationContext>> table) {
+        this.table = table;
+    }
+
+    @Override
+    public Mono<AuthorizationResult> authorize(Mono<Authentication> authentication, AuthorizationContext context) {
+        return table.decide(context.getExchange()).authorize(authentication, context);
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
+        return table.decide(context.getExchange()).check(authentication, context);
+    }
+}
@@ -0,0 +1,285 @@
+package com.hcltech.apigatewayservice.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Ordered path authorization rules compiled into a method-aware segment trie.
+ * <p>
+ * Rules are declared like {@code pathMatchers(...)} in a Spring Security chain, in priority
+ * order, and the first rule matching an exchange wins. Instead of testing every pattern in
+ * turn, the patterns are compiled into a trie keyed by path segment, where each node holds,
+ * per HTTP method, the index of the highest-priority rule ending there ({@code exact}) or
+ * matching everything below it ({@code rest}, for a trailing {@code /**}). Single-segment
+ * {@code *} branches are merged into their literal siblings at build time, so a lookup is one
+ * walk down the request path with one hash lookup per segment, independent of the number of
+ * rules.
+ * </p>
+ * <p>
+ * Patterns follow {@link org.springframework.web.util.pattern.PathPattern} semantics and may
+ * use literal segments, {@code *} for exactly one segment and a trailing {@code /**}. Anything
+ * else is rejected when the table is built, so a rule can never silently match differently
+ * than it would in a matcher chain.
+ * </p>
+ *
+ * @param <T> the decision attached to each rule
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class PathAuthorizationTable<T> {
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+    private static final int METHOD_SLOTS = METHODS.length + 1;
+    private static final int NO_RULE = Integer.MAX_VALUE;
+
+    private final List<Rule<T>> rules;
+    private final Node root;
+
+    private PathAuthorizationTable(List<Rule<T>> rules, Node root) {
+        this.rules = rules;
+        this.root = root;
+    }
+
+    /**
+     * Starts a new table.
+     *
+     * @param <T> the decision attached to each rule
+     * @return an empty builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the rules in priority order, the last one being the {@code anyExchange} fallback.
+     *
+     * @return the declared rules
+     */
+    public List<Rule<T>> rules() {
+        return rules;
+    }
+
+    /**
+     * Returns the decision of the first rule matching the exchange.
+     *
+     * @param exchange the current exchange
+     * @return the decision
+     */
+    public T decide(ServerWebExchange exchange) {
+        return decide(exchange.getRequest().getMethod(), exchange.getRequest().getPath().pathWithinApplication());
+    }
+
+    /**
+     * Returns the decision of the first rule matching the method and path.
+     *
+     * @param method the request method
+     * @param path the path within the application
+     * @return the decision
+     */
+    public T decide(HttpMethod method, PathContainer path) {
+        return rules.get(ruleIndex(method, path)).decision();
+    }
+
+    /**
+     * Returns the index of the first rule matching the method and path.
+     *
+     * @param method the request method
+     * @param path the path within the application
+     * @return the index into {@link #rules()}
+     */
+    int ruleIndex(HttpMethod method, PathContainer path) {
+        int slot = methodSlot(method);
+        int best = rules.size() - 1;
+        List<PathContainer.Element> elements = path.elements();
+        int count = elements.size();
+        if (count > 0 && !(elements.get(0) instanceof PathContainer.Separator)) {
+            return best;
+        }
+        Node node = root;
+        int i = 0;
+        while (i < count) {
+            best = Math.min(best, node.rest[slot]);
+            String segment = "";
+            int next = i + 1;
+            if (next < count && elements.get(next) instanceof PathContainer.PathSegment pathSegment) {
+                segment = pathSegment.valueToMatch();
+                next++;
+            }
+            if (segment.isEmpty()) {
+                // only a '*' ending the pattern matches an empty segment, and only at the end of the path
+                return next == count && node.star != null ? Math.min(best, node.star.exact[slot]) : best;
+            }
+            Node child = node.literals.get(segment);
+            node = child != null ? child : node.star;
+            if (node == null) {
+                return best;
+            }
+            i = next;
+        }
+        return Math.min(best, Math.min(node.rest[slot], node.exact[slot]));
+    }
+
+    private static int methodSlot(HttpMethod method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return METHODS.length;
+    }
+
+    /**
+     * One declared rule.
+     *
+     * @param method the method the rule is limited to, or {@code null} for every method
+     * @param patterns the path patterns of the rule
+     * @param decision the decision returned when the rule matches
+     * @param <T> the decision type
+     */
+    public record Rule<T>(HttpMethod method, List<String> patterns, T decision) {
+    }
+
+    /**
+     * Collects rules in priority order and compiles them.
+     *
+     * @param <T> the decision attached to each rule
+     */
+    public static final class Builder<T> {
+
+        private final List<Rule<T>> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule for every HTTP method.
+         *
+         * @param decision the decision when one of the patterns matches
+         * @param patterns the path patterns
+         * @return this builder
+         */
+        public Builder<T> rule(T decision, String... patterns) {
+            return rule(null, decision, patterns);
+        }
+
+        /**
+         * Adds a rule limited to one HTTP method.
+         *
+         * @param method the method, or {@code null} for every method
+         * @param decision the decision when one of the patterns matches
+         * @param patterns the path patterns
+         * @return this builder
+         */
+        public Builder<T> rule(HttpMethod method, T decision, String... patterns) {
+            rules.add(new Rule<>(method, List.of(patterns), decision));
+            return this;
+        }
+
+        /**
+         * Adds the fallback for exchanges no rule matches and compiles the table.
+         *
+         * @param decision the fallback decision
+         * @return the compiled table
+         * @throws IllegalArgumentException if a pattern uses unsupported syntax
+         */
+        public PathAuthorizationTable<T> anyExchange(T decision) {
+            List<Rule<T>> all = new ArrayList<>(rules);
+            all.add(new Rule<>(null, List.of("/**"), decision));
+            Node root = new Node();
+            for (int index = 0; index < rules.size(); index++) {
+                Rule<T> rule = rules.get(index);
+                for (String pattern : rule.patterns()) {
+                    insert(root, index, rule.method(), pattern);
+                }
+            }
+            determinize(root);
+            return new PathAuthorizationTable<>(List.copyOf(all), root);
+        }
+
+        private static void insert(Node root, int index, HttpMethod method, String pattern) {
+            if (!pattern.startsWith("/") || pattern.length() == 1) {
+                throw new IllegalArgumentException("Unsupported path pattern: " + pattern);
+            }
+            String[] segments = pattern.substring(1).split("/", -1);
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.equals("**") && i == segments.length - 1) {
+                    node.mark(node.rest, index, method);
+                    return;
+                }
+                if (segment.equals("*")) {
+                    if (node.star == null) {
+                        node.star = new Node();
+                    }
+                    node = node.star;
+                } else if (segment.isEmpty() || segment.chars().anyMatch(c -> "*?{}".indexOf(c) >= 0)) {
+                    throw new IllegalArgumentException("Unsupported path pattern: " + pattern);
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+            node.mark(node.exact, index, method);
+        }
+
+        private static void determinize(Node node) {
+            if (node.star != null) {
+                for (Node literal : node.literals.values()) {
+                    merge(literal, node.star);
+                }
+                determinize(node.star);
+            }
+            for (Node literal : node.literals.values()) {
+                determinize(literal);
+            }
+        }
+
+        private static void merge(Node target, Node source) {
+            for (int slot = 0; slot < METHOD_SLOTS; slot++) {
+                target.exact[slot] = Math.min(target.exact[slot], source.exact[slot]);
+                target.rest[slot] = Math.min(target.rest[slot], source.rest[slot]);
+            }
+            source.literals.forEach((segment, child) ->
+                merge(target.literals.computeIfAbsent(segment, key -> new Node()), child));
+            if (source.star != null) {
+                if (target.star == null) {
+                    target.star = new Node();
+                }
+                merge(target.star, source.star);
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final int[] exact = newSlots();
+        private final int[] rest = newSlots();
+        private Node star;
+
+        private void mark(int[] slots, int index, HttpMethod method) {
+            if (method == null) {
+                for (int slot = 0; slot < METHOD_SLOTS; slot++) {
+                    slots[slot] = Math.min(slots[slot], index);
+                }
+            } else {
+                int slot = methodSlot(method);
+                slots[slot] = Math.min(slots[slot], index);
+            }
+        }
+
+        private static int[] newSlots() {
+            int[] slots = new int[METHOD_SLOTS];
+            Arrays.fill(slots, NO_RULE);
+            return slots;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.hcltech.apigatewayservice.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.web.server.util.matcher.OrServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Single source of truth for the gateway routes that are accessible without authentication.
+ * <p>
+ * {@link SecurityConfig} uses these path lists for its {@code permitAll()} rules and
+ * {@link JwtWebFiltersConfig} uses {@link #matcher()} to skip JWT verification entirely
+ * for the same exchanges, so a bearer token sent to a public route is never parsed.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class PublicRoutes {
+
+    /**
+     * Swagger, OpenAPI and actuator health and info paths, open for every HTTP method. The other
+     * actuator endpoints expose instance addresses, metrics and breaker state, and are ADMIN only.
+     */
+    public static final String[] DOCS_PATHS = {
+        "/swagger-ui.html",
+        "/swagger-ui/**",
+        "/v3/api-docs/**",
+        "/webjars/**",
+        "/swagger-resources/**",
+        "/actuator/health/**",
+        "/actuator/info",
+
+        // service-specific OpenAPI if you route them through gateway
+        "/authservice/v3/api-docs/**",
+        "/studentservice/v3/api-docs/**",
+        "/universityservice/v3/api-docs/**",
+        "/applicationservice/v3/api-docs/**"
+    };
+
+    /**
+     * Authentication endpoints, open for every HTTP method.
+     */
+    public static final String[] AUTH_PATHS = {
+        "/api/auth/test",
+        "/api/auth/register",
+        "/api/auth/login",
+        "/api/auth/refresh"
+    };
+
+    /**
+     * Self-registration endpoints, open for every HTTP method.
+     */
+    public static final String[] REGISTRATION_PATHS = {
+        "/api/students/register",
+        "/api/admins/register"
+    };
+
+    /**
+     * Read-only catalog endpoints, open for GET requests only.
+     */
+    public static final String[] CATALOG_GET_PATHS = {
+        "/api/universities",
+        "/api/universities/*",
+        "/api/universities/*/courses",
+        "/api/courses",
+        "/api/courses/university/*",
+        "/api/courses/*"
+    };
+
+    private static final ServerWebExchangeMatcher MATCHER = buildMatcher();
+
+    private static final List<PathPattern> CATALOG_GET_PATTERNS = Arrays.stream(CATALOG_GET_PATHS)
+        .map(PathPatternParser.defaultInstance::parse)
+        .toList();
+
+    private PublicRoutes() {
+    }
+
+    /**
+     * Returns a matcher that matches exactly the exchanges {@link SecurityConfig} permits
+     * without authentication: CORS preflight, documentation, auth, registration and
+     * public catalog reads.
+     *
+     * @return the shared public-route matcher
+     */
+    public static ServerWebExchangeMatcher matcher() {
+        return MATCHER;
+    }
+
+    /**
+     * Checks synchronously whether a request is a public catalog read, for gateway filters
+     * that cannot go through the reactive {@link #matcher()}.
+     *
+     * @param request the incoming request
+     * @return true for a GET on one of the {@link #CATALOG_GET_PATHS}
+     */
+    public static boolean isCatalogRead(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : CATALOG_GET_PATTERNS) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ServerWebExchangeMatcher buildMatcher() {
+        List<ServerWebExchangeMatcher> matchers = new ArrayList<>();
+        matchers.add(ServerWebExchangeMatchers.pathMatchers(HttpMethod.OPTIONS, "/**"));
+        matchers.add(ServerWebExchangeMatchers.pathMatchers(DOCS_PATHS));
+        matchers.add(ServerWebExchangeMatchers.pathMatchers(AUTH_PATHS));
+        matchers.add(ServerWebExchangeMatchers.pathMatchers(REGISTRATION_PATHS));
+        matchers.add(ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, CATALOG_GET_PATHS));
+        return new OrServerWebExchangeMatcher(matchers);
+    }
+}
@@ -2,19 +2,21 @@ package com.hcltech.apigatewayservice.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.security.authorization.AuthenticatedReactiveAuthorizationManager;
+import org.springframework.security.authorization.AuthorityReactiveAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
 import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
-import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import reactor.core.publisher.Mono;
 
 /**
  * Main security configuration class for the API Gateway Service.
@@ -64,13 +66,23 @@ public class SecurityConfig {
      *
      * <h3>Authorization Rules</h3>
      * <ul>
-     *     <li><b>Public Access:</b> CORS preflight, Swagger/OpenAPI docs, actuator endpoints</li>
-     *     <li><b>Authentication Endpoints:</b> /api/auth/test, /api/auth/register, /api/auth/login</li>
+     *     <li><b>Public Access:</b> CORS preflight, Swagger/OpenAPI docs, actuator health and info</li>
+     *     <li><b>Actuator:</b> every other actuator endpoint, such as prometheus, metrics,
+     *     circuitbreakers and canary, for the ADMIN role</li>
+     *     <li><b>Authentication Endpoints:</b> /api/auth/test, /api/auth/register, /api/auth/login,
+     *     /api/auth/refresh</li>
      *     <li><b>Registration Endpoints:</b> /api/students/register, /api/admins/register</li>
      *     <li><b>Public Read-Only:</b> GET requests to universities and courses</li>
      *     <li><b>Role-Based:</b> ADMIN and STUDENT roles for protected resources</li>
+     *     <li><b>Dashboard:</b> GET /api/dashboard/** for the STUDENT role</li>
+     *     <li><b>Circuit Breaker Fallbacks:</b> /fallback/** is only reachable by internal forwards</li>
      *     <li><b>Default:</b> All other endpoints require authentication</li>
      * </ul>
+     * <p>
+     * The public path lists live in {@link PublicRoutes} so that {@link JwtWebFiltersConfig}
+     * can skip token verification for exactly the same exchanges. The rules themselves are
+     * declared in {@link #authorizationRules()}.
+     * </p>
      *
      * @param http the {@link ServerHttpSecurity} configuration object
      * @param authenticationWebFilter the JWT authentication web filter for token validation
@@ -90,82 +102,15 @@ public class SecurityConfig {
 
             // Return clean 401/403 without Basic popup
             .exceptionHandling(ex -> ex
-                .authenticationEntryPoint((exchange, e) -> {
-                    var response = exchange.getResponse();
-                    response.setStatusCode(HttpStatus.UNAUTHORIZED);
-                    response.getHeaders().remove(HttpHeaders.WWW_AUTHENTICATE);
-                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
-                    var body = """
-                        {"error":"unauthorized","message":"Authentication required"}
-                        """.getBytes(StandardCharsets.UTF_8);
-                    return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
-                })
-                .accessDeniedHandler((exchange, e) -> {
-                    var response = exchange.getResponse();
-                    response.setStatusCode(HttpStatus.FORBIDDEN);
-                    response.getHeaders().remove(HttpHeaders.WWW_AUTHENTICATE);
-                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
-                    var body = """
-                        {"error":"forbidden","message":"Insufficient permissions"}
-                        """.getBytes(StandardCharsets.UTF_8);
-                    return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
-                })
+                .authenticationEntryPoint((exchange, e) -> JsonErrorResponses.write(exchange,
+                    HttpStatus.UNAUTHORIZED, "unauthorized", "Authentication required"))
+                .accessDeniedHandler((exchange, e) -> JsonErrorResponses.write(exchange,
+                    HttpStatus.FORBIDDEN, "forbidden", "Insufficient permissions"))
             )
 
+            // Path rules compiled into a single table lookup, see authorizationRules()
             .authorizeExchange(exchange -> exchange
-                // CORS preflight
-                .pathMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-
-                // Swagger & Actuator
-                .pathMatchers(
-                    "/swagger-ui.html",
-                    "/swagger-ui/**",
-                    "/v3/api-docs/**",
-                    "/webjars/**",
-                    "/swagger-resources/**",
-                    "/actuator/**",
-
-                    // service-specific OpenAPI if you route them through gateway
-                    "/authservice/v3/api-docs/**",
-                    "/studentservice/v3/api-docs/**",
-                    "/universityservice/v3/api-docs/**",
-                    "/applicationservice/v3/api-docs/**"
-                ).permitAll()
-
-                // Auth endpoints (open)
-                .pathMatchers(
-                    "/api/auth/test",
-                    "/api/auth/register",
-                    "/api/auth/login"
-                ).permitAll()
-
-                // Registration
-                .pathMatchers(
-                    "/api/students/register",
-                    "/api/admins/register"
-                ).permitAll()
-
-                // Public READ endpoints only
-                .pathMatchers(HttpMethod.GET,
-                    "/api/universities",
-                    "/api/universities/*",
-                    "/api/universities/*/courses",
-                    "/api/courses",
-                    "/api/courses/university/*",
-                    "/api/courses/*"
-                ).permitAll()
-
-                // Role-protected
-                .pathMatchers("/api/auth/**").hasAnyRole("ADMIN", "STUDENT")
-                .pathMatchers("/api/students/**").hasAnyRole("STUDENT", "ADMIN")
-                .pathMatchers(
-                    "/api/admins/**",
-                    "/api/universities/**",
-                    "/api/courses/**"
-                ).hasRole("ADMIN")
-
-                // Everything else requires authentication
-                .anyExchange().authenticated()
+                .anyExchange().access(new PathAuthorizationManager(authorizationRules()))
             )
 
             // Register your JWT AuthenticationWebFilter in the chain
@@ -173,4 +118,56 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Declares the path authorization rules in priority order; the first matching rule wins.
+     * <p>
+     * The rules read like the {@code pathMatchers(...)} chain they replace, but are compiled
+     * into a {@link PathAuthorizationTable}, so deciding an exchange costs one walk down its
+     * path however many routes are added.
+     * </p>
+     *
+     * @return the compiled rules, each mapped to the manager that decides it
+     */
+    static PathAuthorizationTable<ReactiveAuthorizationManager<AuthorizationContext>> authorizationRules() {
+        ReactiveAuthorizationManager<AuthorizationContext> permitAll =
+            (authentication, context) -> Mono.just(new AuthorizationDecision(true));
+        ReactiveAuthorizationManager<AuthorizationContext> denyAll =
+            (authentication, context) -> Mono.just(new AuthorizationDecision(false));
+
+        return PathAuthorizationTable.<ReactiveAuthorizationManager<AuthorizationContext>>builder()
+            // Circuit breaker fallbacks are internal forward targets only
+            .rule(denyAll, "/fallback/**")
+
+            // CORS preflight
+            .rule(HttpMethod.OPTIONS, permitAll, "/**")
+
+            // Swagger & Actuator health/info
+            .rule(permitAll, PublicRoutes.DOCS_PATHS)
+
+            // Metrics, breaker state and canary comparison
+            .rule(AuthorityReactiveAuthorizationManager.hasRole("ADMIN"), "/actuator/**")
+
+            // Auth endpoints (open)
+            .rule(permitAll, PublicRoutes.AUTH_PATHS)
+
+            // Registration
+            .rule(permitAll, PublicRoutes.REGISTRATION_PATHS)
+
+            // Public READ endpoints only
+            .rule(HttpMethod.GET, permitAll, PublicRoutes.CATALOG_GET_PATHS)
+
+            // Role-protected
+            .rule(AuthorityReactiveAuthorizationManager.hasAnyRole("ADMIN", "STUDENT"), "/api/auth/**")
+            .rule(HttpMethod.GET, AuthorityReactiveAuthorizationManager.hasRole("STUDENT"), "/api/dashboard/**")
+            .rule(AuthorityReactiveAuthorizationManager.hasAnyRole("STUDENT", "ADMIN"), "/api/students/**")
+            .rule(AuthorityReactiveAuthorizationManager.hasRole("ADMIN"),
+                "/api/admins/**",
+                "/api/universities/**",
+                "/api/courses/**"
+            )
+
+            // Everything else requires authentication
+            .anyExchange(AuthenticatedReactiveAuthorizationManager.authenticated());
+    }
+}
@@ -0,0 +1,129 @@
+package com.hcltech.apigatewayservice.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded, expiry-aware cache of JWT tokens whose signature has already been verified.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the raw token, so the cache never holds bearer
+ * credentials in memory, and hold the resolved username and authorities. Each entry expires
+ * at the token's own {@code exp} claim or after the configured maximum TTL, whichever comes
+ * first, so an expired token can never be served from the cache.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.jwt-cache.maximum-size} - maximum number of cached tokens (default 10000)</li>
+ *     <li>{@code gateway.jwt-cache.max-ttl} - upper bound on how long an entry is kept (default 10m)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * Result of a successful verification: the token subject, its authorities, the
+     * absolute expiry instant in epoch milliseconds and the token ID.
+     *
+     * @param username the token subject
+     * @param authorities the granted authorities resolved from the token's roles
+     * @param expiresAtMillis the token expiry in epoch milliseconds
+     * @param tokenId the token's {@code jti} claim, or {@code null} if it has none
+     */
+    public record VerifiedToken(String username, List<GrantedAuthority> authorities, long expiresAtMillis,
+                                String tokenId) {
+    }
+
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * Creates the cache with the configured bounds.
+     *
+     * @param maximumSize the maximum number of cached tokens
+     * @param maxTtl the maximum time an entry may stay cached
+     */
+    public VerifiedTokenCache(@Value("${gateway.jwt-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${gateway.jwt-cache.max-ttl:10m}") Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                    return Math.max(0, Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos()));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                                              long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Returns the cached verification result for the token, or {@code null} if the token
+     * has not been verified yet or its entry has expired.
+     *
+     * @param token the raw JWT token
+     * @return the cached verification result, or {@code null}
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken verified = cache.getIfPresent(digest(token));
+        if (verified != null && verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * Stores a successful verification result for the token.
+     *
+     * @param token the raw JWT token
+     * @param verified the verification result to cache
+     */
+    public void put(String token, VerifiedToken verified) {
+        cache.put(digest(token), verified);
+    }
+
+    /**
+     * Computes the cache key for a token: the Base64url-encoded SHA-256 digest.
+     *
+     * @param token the raw JWT token
+     * @return the token digest
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
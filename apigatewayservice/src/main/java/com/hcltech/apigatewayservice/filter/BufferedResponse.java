@@ -0,0 +1,113 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Fully buffered copy of a downstream response that can be replayed to other clients.
+ * <p>
+ * Only end-to-end headers set by the downstream service are kept. Hop-by-hop headers and
+ * {@code Content-Length} are dropped, since the length is recomputed on write. CORS headers
+ * are dropped as well, because the gateway computes them for each request's own origin.
+ * </p>
+ *
+ * @param status the response status
+ * @param headers the end-to-end response headers (read-only)
+ * @param body the complete response body
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public record BufferedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+        "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade",
+        "proxy-authenticate", "proxy-authorization", "content-length");
+
+    /**
+     * Takes a snapshot of the status and headers of a response about to be written.
+     *
+     * @param response the response whose status and headers are copied
+     * @param body the complete response body
+     * @return the buffered response
+     */
+    public static BufferedResponse of(ServerHttpResponse response, byte[] body) {
+        HttpStatusCode status = response.getStatusCode() != null ? response.getStatusCode() : HttpStatus.OK;
+        return of(status, response.getHeaders(), body);
+    }
+
+    /**
+     * Creates a buffered response from a downstream status and headers.
+     *
+     * @param status the response status
+     * @param responseHeaders the response headers, filtered as described above
+     * @param body the complete response body
+     * @return the buffered response
+     */
+    public static BufferedResponse of(HttpStatusCode status, HttpHeaders responseHeaders, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        responseHeaders.forEach((name, values) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (!EXCLUDED_HEADERS.contains(lower) && !lower.startsWith("access-control-")) {
+                headers.put(name, values);
+            }
+        });
+        return new BufferedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body);
+    }
+
+    /**
+     * Returns a copy of this response with one header replaced.
+     *
+     * @param name the header name
+     * @param value the header value
+     * @return the new buffered response
+     */
+    public BufferedResponse withHeader(String name, String value) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.putAll(headers);
+        copy.set(name, value);
+        return new BufferedResponse(status, HttpHeaders.readOnlyHttpHeaders(copy), body);
+    }
+
+    /**
+     * Returns a body-less {@code 304 Not Modified} for this response, keeping its validators.
+     *
+     * @return the not-modified response
+     */
+    public BufferedResponse notModified() {
+        HttpHeaders copy = new HttpHeaders();
+        copy.putAll(headers);
+        copy.remove(HttpHeaders.CONTENT_TYPE);
+        return new BufferedResponse(HttpStatus.NOT_MODIFIED, HttpHeaders.readOnlyHttpHeaders(copy), new byte[0]);
+    }
+
+    /**
+     * Writes this response to the given server response.
+     * <p>
+     * Headers already present on the target, such as the CORS and security headers added by
+     * the gateway, are kept unless the buffered response carries a value for the same name.
+     * </p>
+     *
+     * @param response the response to write to
+     * @return completion of the write
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        HttpHeaders target = response.getHeaders();
+        target.putAll(headers);
+        if (status == HttpStatus.NOT_MODIFIED) {
+            target.remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+        target.setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+}
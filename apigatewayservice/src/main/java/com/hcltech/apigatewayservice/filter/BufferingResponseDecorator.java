@@ -0,0 +1,70 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Response decorator that buffers the downstream body into a {@link BufferedResponse}
+ * before anything is sent to the client.
+ * <p>
+ * The buffered response is handed to a callback, which may store it (response cache,
+ * request coalescing) and may return a different response to write instead, for example
+ * a {@code 304 Not Modified}. Only use this for routes with small, bounded bodies.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class BufferingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final UnaryOperator<BufferedResponse> onBuffered;
+    private final AtomicBoolean buffered = new AtomicBoolean();
+
+    /**
+     * Creates a decorator around the given response.
+     *
+     * @param delegate the response to write to
+     * @param onBuffered callback receiving the buffered downstream response and returning
+     *                   the response to actually write
+     */
+    public BufferingResponseDecorator(ServerHttpResponse delegate, UnaryOperator<BufferedResponse> onBuffered) {
+        super(delegate);
+        this.onBuffered = onBuffered;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (!buffered.compareAndSet(false, true)) {
+            return super.writeWith(body);
+        }
+        return DataBufferUtils.join(Flux.from(body))
+            .map(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+                return bytes;
+            })
+            .defaultIfEmpty(new byte[0])
+            .flatMap(bytes -> onBuffered.apply(BufferedResponse.of(getDelegate(), bytes)).writeTo(getDelegate()));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).concatMap(Flux::from));
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        return buffered.get() ? super.setComplete() : writeWith(Flux.empty());
+    }
+}
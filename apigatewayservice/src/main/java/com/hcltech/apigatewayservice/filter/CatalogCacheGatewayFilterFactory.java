@@ -0,0 +1,175 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.hcltech.apigatewayservice.config.PublicRoutes;
+
+/**
+ * Route filter that serves public catalog GETs from the {@link CatalogResponseCache}.
+ * <p>
+ * Applied per route in the gateway configuration with the TTL for that route, e.g.
+ * {@code - CatalogCache=5m}. Only requests matched by {@link PublicRoutes#isCatalogRead} are
+ * cached, keyed by path and query string. Identity does not matter for these routes, since
+ * they are {@code permitAll} and return the same body to everyone.
+ * </p>
+ * <p>
+ * Behaviour:
+ * <ul>
+ *     <li>A hit is written straight from memory without load balancing or a downstream call</li>
+ *     <li>A miss is proxied, and a {@code 200} response without cookies is buffered and stored</li>
+ *     <li>Every cacheable response carries an {@code ETag}, and a matching {@code If-None-Match}
+ *     is answered with {@code 304 Not Modified}</li>
+ *     <li>A successful POST, PUT, PATCH or DELETE through the route empties the cache</li>
+ *     <li>The {@code X-Cache} response header reports {@code HIT} or {@code MISS}; responses
+ *     that already carry it, such as a {@code STALE} circuit breaker fallback, are passed
+ *     through and never stored</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The filter runs just before the gateway writes the downstream response, wherever it is
+ * listed, so that it sees the body being written; its position relative to the other
+ * route filters is kept.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class CatalogCacheGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<CatalogCacheGatewayFilterFactory.Config> {
+
+    /**
+     * Response header telling clients whether the response came from the cache.
+     */
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final CatalogResponseCache cache;
+
+    /**
+     * Creates the factory backed by the shared catalog cache.
+     *
+     * @param cache the catalog response cache
+     */
+    public CatalogCacheGatewayFilterFactory(CatalogResponseCache cache) {
+        super(Config.class);
+        this.cache = cache;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        GatewayFilter filter = (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            ServerHttpResponse response = exchange.getResponse();
+            if (isWrite(request.getMethod())) {
+                return chain.filter(exchange).doOnSuccess(done -> {
+                    if (response.getStatusCode() != null && response.getStatusCode().is2xxSuccessful()) {
+                        cache.invalidateAll();
+                    }
+                });
+            }
+            if (!PublicRoutes.isCatalogRead(request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request);
+            BufferedResponse cached = cache.get(key);
+            if (cached != null) {
+                response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+                return conditional(request, cached).writeTo(response);
+            }
+
+            BufferingResponseDecorator decorated = new BufferingResponseDecorator(response, downstream -> {
+                if (downstream.headers().containsKey(CACHE_STATUS_HEADER)) {
+                    return downstream;
+                }
+                response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                if (downstream.status() != HttpStatus.OK || downstream.headers().containsKey(HttpHeaders.SET_COOKIE)) {
+                    return downstream;
+                }
+                return conditional(request, cache.put(key, downstream, config.getTtl()));
+            });
+            return chain.filter(exchange.mutate().response(decorated).build());
+        };
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    /**
+     * Builds the cache key from the raw path and query string.
+     *
+     * @param request the incoming request
+     * @return the cache key
+     */
+    public static String cacheKey(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getURI().getRawPath();
+        return query == null ? path : path + '?' + query;
+    }
+
+    /**
+     * Answers with {@code 304 Not Modified} when the client already holds the current representation.
+     *
+     * @param request the incoming request
+     * @param response the cached or freshly stored response
+     * @return the response to write
+     */
+    private static BufferedResponse conditional(ServerHttpRequest request, BufferedResponse response) {
+        String etag = response.headers().getETag();
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        if (etag == null || ifNoneMatch.isEmpty()) {
+            return response;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(opaque)) {
+                return response.notModified();
+            }
+        }
+        return response;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean isWrite(HttpMethod method) {
+        return method == HttpMethod.POST || method == HttpMethod.PUT
+            || method == HttpMethod.PATCH || method == HttpMethod.DELETE;
+    }
+
+    /**
+     * Per-route configuration of the catalog cache.
+     */
+    public static class Config {
+
+        /**
+         * How long a response stays cached.
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
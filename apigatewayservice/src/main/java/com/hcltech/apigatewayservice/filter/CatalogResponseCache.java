@@ -0,0 +1,156 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded in-memory store for public catalog responses served by {@link CatalogCacheGatewayFilterFactory}.
+ * <p>
+ * Entries are weighed by body size, so the cache is bounded in bytes rather than in entry
+ * count, and each entry expires after the TTL of the route that stored it. Every stored
+ * response carries an {@code ETag}: the one sent by the downstream service, or a strong tag
+ * derived from the SHA-256 digest of the body.
+ * </p>
+ * <p>
+ * Every stored response is also kept, without expiry, as the last good response for its key.
+ * The circuit breaker fallback serves it when the catalog service is unavailable, so public
+ * catalog pages keep working, slightly stale, during an outage.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.response-cache.max-size} - total size of all cached bodies (default 64MB)</li>
+ *     <li>{@code gateway.response-cache.max-entry-size} - larger responses are not cached (default 1MB)</li>
+ *     <li>{@code gateway.response-cache.last-good-max-size} - total size of all last good
+ *     responses (default 16MB)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class CatalogResponseCache {
+
+    private record Entry(BufferedResponse response, long ttlNanos) {
+    }
+
+    private final Cache<String, Entry> cache;
+    private final Cache<String, BufferedResponse> lastGood;
+    private final long maxEntryBytes;
+
+    /**
+     * Creates the cache with the configured bounds.
+     *
+     * @param maxSize the total size of all cached bodies
+     * @param maxEntrySize the size above which a response is not cached
+     * @param lastGoodMaxSize the total size of all last good responses
+     */
+    public CatalogResponseCache(@Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize,
+                                @Value("${gateway.response-cache.max-entry-size:1MB}") DataSize maxEntrySize,
+                                @Value("${gateway.response-cache.last-good-max-size:16MB}") DataSize lastGoodMaxSize) {
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.lastGood = Caffeine.newBuilder()
+            .maximumWeight(lastGoodMaxSize.toBytes())
+            .weigher((String key, BufferedResponse response) -> key.length() + response.body().length)
+            .build();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((String key, Entry entry) -> key.length() + entry.response().body().length)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry value, long currentTime) {
+                    return value.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+                    return value.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Returns the cached response for the key, or {@code null} if absent or expired.
+     *
+     * @param key the cache key
+     * @return the cached response, or {@code null}
+     */
+    public BufferedResponse get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.response();
+    }
+
+    /**
+     * Returns the last response stored for the key, however old.
+     *
+     * @param key the cache key
+     * @return the last good response, or {@code null}
+     */
+    public BufferedResponse getLastGood(String key) {
+        return lastGood.getIfPresent(key);
+    }
+
+    /**
+     * Adds an {@code ETag} to the response if it has none and stores it, unless it is too
+     * large to cache.
+     *
+     * @param key the cache key
+     * @param response the downstream response
+     * @param ttl how long the response may be served from the cache
+     * @return the response with its {@code ETag}
+     */
+    public BufferedResponse put(String key, BufferedResponse response, Duration ttl) {
+        BufferedResponse tagged = response.headers().getETag() != null ? response
+            : response.withHeader(HttpHeaders.ETAG, etag(response.body()));
+        if (tagged.body().length > maxEntryBytes) {
+            return tagged;
+        }
+        lastGood.put(key, tagged);
+        if (!ttl.isNegative() && !ttl.isZero()) {
+            cache.put(key, new Entry(tagged, ttl.toNanos()));
+        }
+        return tagged;
+    }
+
+    /**
+     * Drops every cached and last good response, e.g. after a write to the catalog.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        lastGood.invalidateAll();
+    }
+
+    /**
+     * Computes a strong entity tag for a body.
+     *
+     * @param body the response body
+     * @return the quoted entity tag
+     */
+    static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Route filter that collapses concurrent identical GETs into a single downstream call.
+ * <p>
+ * Requests are identical when they share the route, the raw path and query string and the
+ * authorization class: {@code anonymous} for unauthenticated requests, otherwise the
+ * authenticated principal, so a response is only ever shared with callers entitled to the
+ * same representation. The first request (the leader) is proxied and its response buffered.
+ * Requests arriving while it is in flight wait for that response and are answered from the
+ * buffer instead of opening their own connection.
+ * </p>
+ * <p>
+ * If the leader fails or is cancelled before a response arrives, each waiting request falls
+ * back to its own downstream call. Applied per route in the gateway configuration with
+ * {@code - CoalesceGets}, after {@code CatalogCache} so cache hits never wait. Like the
+ * cache, it runs just before the gateway writes the downstream response, so that it sees the
+ * body being written.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class CoalesceGetsGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final Map<String, Sinks.One<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        GatewayFilter filter = (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            return exchange.getPrincipal()
+                .map(Principal::getName)
+                .defaultIfEmpty(ANONYMOUS)
+                .flatMap(authorization -> coalesce(exchange, chain, key(exchange, authorization)));
+        };
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    /**
+     * Returns the number of distinct requests currently in flight, for monitoring and tests.
+     *
+     * @return the in-flight leader count
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<Void> coalesce(ServerWebExchange exchange, GatewayFilterChain chain, String key) {
+        Sinks.One<BufferedResponse> sink = Sinks.one();
+        Sinks.One<BufferedResponse> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            return leader.asMono()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> shared.isPresent()
+                    ? shared.get().writeTo(exchange.getResponse())
+                    : chain.filter(exchange));
+        }
+
+        BufferingResponseDecorator decorated = new BufferingResponseDecorator(exchange.getResponse(), downstream -> {
+            if (inFlight.remove(key, sink)) {
+                sink.tryEmitValue(downstream);
+            }
+            return downstream;
+        });
+        return chain.filter(exchange.mutate().response(decorated).build())
+            .doFinally(signal -> {
+                if (inFlight.remove(key, sink)) {
+                    sink.tryEmitEmpty();
+                }
+            });
+    }
+
+    private static String key(ServerWebExchange exchange, String authorization) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "";
+        return routeId + ' ' + CatalogCacheGatewayFilterFactory.cacheKey(exchange.getRequest()) + ' ' + authorization;
+    }
+}
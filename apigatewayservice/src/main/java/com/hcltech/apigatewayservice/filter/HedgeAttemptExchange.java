@@ -0,0 +1,241 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+/**
+ * One attempt of a hedged request, sent down the rest of the filter chain on its own.
+ * <p>
+ * Each attempt has its own copy of the exchange attributes, so the routing filter can record
+ * the target URL, the chosen instance and the downstream connection per attempt, and its own
+ * response status and headers, so the routing filter never touches the client response. The
+ * request body is empty, since only GETs are hedged. The attempt that wins is copied into the
+ * real exchange with {@link #copyTo}, after which the gateway streams its body to the client
+ * as for any other request; the connection of every other attempt is closed with
+ * {@link #release}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+final class HedgeAttemptExchange extends ServerWebExchangeDecorator {
+
+    private final ServerHttpRequest request;
+    private final ServerHttpResponse response;
+    private final AttemptResponse attemptResponse;
+    private final Map<String, Object> attributes;
+    private final Mono<Principal> principal;
+
+    /**
+     * Creates an attempt of the given exchange.
+     *
+     * @param exchange the hedged exchange
+     */
+    HedgeAttemptExchange(ServerWebExchange exchange) {
+        this(exchange, new BodilessRequest(exchange.getRequest()), new AttemptResponse(exchange.getResponse()),
+            new ConcurrentHashMap<>(exchange.getAttributes()), null);
+    }
+
+    private HedgeAttemptExchange(ServerWebExchange delegate, ServerHttpRequest request, AttemptResponse attemptResponse,
+                                 Map<String, Object> attributes, Mono<Principal> principal) {
+        this(delegate, request, attemptResponse, attemptResponse, attributes, principal);
+    }
+
+    private HedgeAttemptExchange(ServerWebExchange delegate, ServerHttpRequest request, ServerHttpResponse response,
+                                 AttemptResponse attemptResponse, Map<String, Object> attributes,
+                                 Mono<Principal> principal) {
+        super(delegate);
+        this.request = request;
+        this.response = response;
+        this.attemptResponse = attemptResponse;
+        this.attributes = attributes;
+        this.principal = principal;
+    }
+
+    @Override
+    public ServerHttpRequest getRequest() {
+        return request;
+    }
+
+    @Override
+    public ServerHttpResponse getResponse() {
+        return response;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Principal> Mono<T> getPrincipal() {
+        return principal != null ? (Mono<T>) principal : super.getPrincipal();
+    }
+
+    @Override
+    public ServerWebExchange.Builder mutate() {
+        return new Builder();
+    }
+
+    /**
+     * Makes this attempt the response of the hedged exchange: copies the attributes set while
+     * routing it, among them the downstream connection, and the response status and headers.
+     *
+     * @param exchange the hedged exchange
+     */
+    void copyTo(ServerWebExchange exchange) {
+        exchange.getAttributes().putAll(attributes);
+        ServerHttpResponse target = exchange.getResponse();
+        if (attemptResponse.status != null) {
+            target.setStatusCode(attemptResponse.status);
+        }
+        target.getHeaders().addAll(attemptResponse.headers);
+    }
+
+    /**
+     * Closes the downstream connection of a losing attempt whose response already arrived.
+     */
+    void release() {
+        Connection connection = (Connection) attributes.get(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+        if (connection != null && connection.channel().isActive()) {
+            connection.dispose();
+        }
+    }
+
+    /**
+     * Builder for exchanges mutated further down the chain, which stay attempts of the same request.
+     */
+    private final class Builder implements ServerWebExchange.Builder {
+
+        private ServerHttpRequest request = HedgeAttemptExchange.this.request;
+        private ServerHttpResponse response = HedgeAttemptExchange.this.response;
+        private Mono<Principal> principal = HedgeAttemptExchange.this.principal;
+
+        @Override
+        public ServerWebExchange.Builder request(Consumer<ServerHttpRequest.Builder> requestBuilderConsumer) {
+            ServerHttpRequest.Builder builder = request.mutate();
+            requestBuilderConsumer.accept(builder);
+            return request(builder.build());
+        }
+
+        @Override
+        public ServerWebExchange.Builder request(ServerHttpRequest request) {
+            this.request = request;
+            return this;
+        }
+
+        @Override
+        public ServerWebExchange.Builder response(ServerHttpResponse response) {
+            this.response = response;
+            return this;
+        }
+
+        @Override
+        public ServerWebExchange.Builder principal(Mono<Principal> principal) {
+            this.principal = principal;
+            return this;
+        }
+
+        @Override
+        public ServerWebExchange build() {
+            return new HedgeAttemptExchange(HedgeAttemptExchange.this, request, response, attemptResponse,
+                attributes, principal);
+        }
+    }
+
+    /**
+     * The request of an attempt, without a body.
+     */
+    private static final class BodilessRequest extends ServerHttpRequestDecorator {
+
+        BodilessRequest(ServerHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.empty();
+        }
+    }
+
+    /**
+     * The response of an attempt, holding the status and headers until the attempt wins.
+     */
+    private static final class AttemptResponse extends ServerHttpResponseDecorator {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private volatile HttpStatusCode status;
+
+        AttemptResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatusCode status) {
+            this.status = status;
+            return true;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        @Deprecated
+        public boolean setRawStatusCode(Integer value) {
+            return setStatusCode(value != null ? HttpStatusCode.valueOf(value) : null);
+        }
+
+        @Override
+        @Deprecated
+        public Integer getRawStatusCode() {
+            return status != null ? status.value() : null;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return Mono.error(new IllegalStateException("A hedge attempt cannot write the response"));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return Mono.error(new IllegalStateException("A hedge attempt cannot write the response"));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return Mono.empty();
+        }
+    }
+}
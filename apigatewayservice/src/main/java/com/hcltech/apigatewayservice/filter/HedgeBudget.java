@@ -0,0 +1,52 @@
+package com.hcltech.apigatewayservice.filter;
+
+/**
+ * Caps the extra load that hedged requests can add to a route.
+ * <p>
+ * Every primary request deposits {@code percent / 100} of a token, up to {@code maxBalance}
+ * tokens, and every hedge withdraws a whole token. Over any period the number of hedges is
+ * therefore at most {@code percent}% of the requests plus {@code maxBalance}, however slow
+ * the downstream service becomes, so hedging cannot turn a brownout into an overload.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class HedgeBudget {
+
+    private final double depositPerRequest;
+    private final double maxBalance;
+    private double balance;
+
+    /**
+     * Creates an empty budget.
+     *
+     * @param percent the hedges allowed per hundred requests
+     * @param maxBalance the maximum number of unused hedges that can be saved up
+     */
+    public HedgeBudget(double percent, double maxBalance) {
+        this.depositPerRequest = percent / 100;
+        this.maxBalance = maxBalance;
+    }
+
+    /**
+     * Credits the budget for one primary request.
+     */
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + depositPerRequest);
+    }
+
+    /**
+     * Takes one hedge from the budget if available.
+     *
+     * @return whether a hedge may be sent
+     */
+    public synchronized boolean tryWithdraw() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+}
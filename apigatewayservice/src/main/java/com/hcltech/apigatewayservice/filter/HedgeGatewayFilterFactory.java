@@ -0,0 +1,303 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.hcltech.apigatewayservice.canary.CanaryReleases;
+import com.hcltech.apigatewayservice.canary.CanaryServiceInstanceListSupplier;
+import com.hcltech.apigatewayservice.loadbalancer.InstanceLoadTracker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Route filter that hedges slow idempotent GETs against a second instance.
+ * <p>
+ * The filter always runs right after the {@link ReactiveLoadBalancerClientFilter}, wherever it
+ * is listed, and sends the request to the instance the load balancer chose. If no response has
+ * arrived after the hedge delay, the same request is sent to the least loaded other instance
+ * of the same {@linkplain CanaryReleases#versionOf version}, so a request the canary split
+ * sent to the stable version is never hedged to the canary or the other way round.
+ * Both attempts go through the rest of the chain as a {@link HedgeAttemptExchange}, so they are
+ * sent by the gateway's own routing filter with the rewritten path, the route's response
+ * timeout and the downstream HTTP client, and are tracked per instance like any other request.
+ * Whichever response headers arrive first win: their status, headers and connection are handed
+ * to the real exchange, which streams the body as usual, and the other attempt is cancelled.
+ * Nothing is written by the filter itself, so filters earlier in the chain, such as a circuit
+ * breaker, still see an uncommitted response.
+ * </p>
+ * <p>
+ * The hedge delay is the configured percentile of the route's recent latencies, clamped to
+ * {@code min-delay} and {@code max-delay}, and {@code max-delay} until enough samples exist,
+ * so only the slowest few percent of requests are ever hedged. Each request records one
+ * latency, from sending the first request until the winning response arrives, so a slow first
+ * request cancelled by its hedge still counts as at least the hedge delay and the estimate
+ * never loses the tail it is meant to measure. A per-route
+ * {@link HedgeBudget} allows at most {@code budget-percent} hedges per hundred requests. An
+ * error from the first request is returned as is, and a failed hedge simply leaves the first
+ * request to finish. Non-GET requests, routes that are not load balanced and services with a
+ * single instance pass through untouched.
+ * </p>
+ * <p>
+ * Sent hedges are counted in {@code gateway.hedge.sent} and outcomes in
+ * {@code gateway.hedge.requests}, tagged with the route and
+ * {@code outcome=primary|hedge|budget_exhausted}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class HedgeGatewayFilterFactory extends AbstractGatewayFilterFactory<HedgeGatewayFilterFactory.Config> {
+
+    /**
+     * Order of the hedge filter, right after the load balancer has chosen the first instance.
+     */
+    public static final int HEDGE_FILTER_ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    private final LoadBalancerClientFactory clientFactory;
+    private final InstanceLoadTracker loadTracker;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the factory.
+     *
+     * @param clientFactory the load balancer client factory
+     * @param loadTracker the instance load tracker
+     * @param meterRegistry the meter registry
+     */
+    public HedgeGatewayFilterFactory(LoadBalancerClientFactory clientFactory, InstanceLoadTracker loadTracker,
+                                     MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.clientFactory = clientFactory;
+        this.loadTracker = loadTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("percentile", "budgetPercent");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return apply(config, new LatencyPercentiles(config.getPercentile()));
+    }
+
+    /**
+     * Creates the filter of one route.
+     *
+     * @param config the route configuration
+     * @param latencies the window the route's request latencies are recorded in
+     * @return the hedge filter
+     */
+    GatewayFilter apply(Config config, LatencyPercentiles latencies) {
+        HedgeBudget budget = new HedgeBudget(config.getBudgetPercent(), config.getBudgetMaxBalance());
+        GatewayFilter filter = (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            Response<ServiceInstance> chosen =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+            URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+            if (exchange.getRequest().getMethod() != HttpMethod.GET || route == null || chosen == null
+                    || !chosen.hasServer() || url == null || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+                return chain.filter(exchange);
+            }
+            ServiceInstance primary = chosen.getServer();
+            return instances(route.getUri().getHost())
+                .map(all -> Optional.ofNullable(leastLoadedOther(primary, all)))
+                .flatMap(other -> other.isEmpty()
+                    ? chain.filter(exchange)
+                    : hedge(exchange, chain, route, url, other.get(), config, latencies, budget));
+        };
+        return new OrderedGatewayFilter(filter, HEDGE_FILTER_ORDER);
+    }
+
+    private Mono<Void> hedge(ServerWebExchange exchange, GatewayFilterChain chain, Route route, URI url,
+                             ServiceInstance other, Config config, LatencyPercentiles latencies, HedgeBudget budget) {
+        budget.deposit();
+        long start = System.nanoTime();
+        List<HedgeAttemptExchange> attempts = new CopyOnWriteArrayList<>();
+        Mono<Attempt> first = send(new HedgeAttemptExchange(exchange), chain, attempts)
+            .map(attempt -> new Attempt(attempt, false));
+        Mono<Attempt> hedge = Mono.delay(hedgeDelay(config, latencies))
+            .flatMap(tick -> {
+                if (!budget.tryWithdraw()) {
+                    count(route, "budget_exhausted");
+                    return Mono.never();
+                }
+                meterRegistry.counter("gateway.hedge.sent", "route", route.getId()).increment();
+                HedgeAttemptExchange attempt = new HedgeAttemptExchange(exchange);
+                attempt.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                    UriComponentsBuilder.fromUri(url).host(other.getHost()).port(other.getPort()).build(true).toUri());
+                attempt.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                    new DefaultResponse(other));
+                return send(attempt, chain, attempts)
+                    .map(sent -> new Attempt(sent, true))
+                    .onErrorResume(e -> Mono.never());
+            });
+        return Mono.firstWithSignal(first, hedge)
+            .doOnNext(winner -> {
+                latencies.record(System.nanoTime() - start);
+                count(route, winner.hedge() ? "hedge" : "primary");
+                attempts.stream().filter(attempt -> attempt != winner.exchange()).forEach(HedgeAttemptExchange::release);
+                winner.exchange().copyTo(exchange);
+            })
+            .doFinally(signal -> {
+                if (signal != SignalType.ON_COMPLETE) {
+                    attempts.forEach(HedgeAttemptExchange::release);
+                }
+            })
+            .then();
+    }
+
+    /**
+     * Returns every instance of a service, bypassing the canary split, which would otherwise
+     * draw the version of the hedge again.
+     *
+     * @param serviceId the service id
+     * @return all known instances of the service
+     */
+    private Mono<List<ServiceInstance>> instances(String serviceId) {
+        ServiceInstanceListSupplier supplier = clientFactory.getInstance(serviceId, ServiceInstanceListSupplier.class);
+        if (supplier instanceof CanaryServiceInstanceListSupplier canary) {
+            supplier = canary.getDelegate();
+        }
+        return supplier != null ? supplier.get().next().defaultIfEmpty(List.of()) : Mono.just(List.of());
+    }
+
+    private ServiceInstance leastLoadedOther(ServiceInstance primary, List<ServiceInstance> all) {
+        String version = CanaryReleases.versionOf(primary);
+        return all.stream()
+            .filter(instance -> !(instance.getHost().equals(primary.getHost())
+                && instance.getPort() == primary.getPort()))
+            .filter(instance -> Objects.equals(version, CanaryReleases.versionOf(instance)))
+            .min(Comparator.comparingDouble(loadTracker::cost))
+            .orElse(null);
+    }
+
+    private static Mono<HedgeAttemptExchange> send(HedgeAttemptExchange attempt, GatewayFilterChain chain,
+                                                   List<HedgeAttemptExchange> attempts) {
+        return Mono.defer(() -> {
+            attempts.add(attempt);
+            return chain.filter(attempt).thenReturn(attempt);
+        });
+    }
+
+    private void count(Route route, String outcome) {
+        meterRegistry.counter("gateway.hedge.requests", "route", route.getId(), "outcome", outcome).increment();
+    }
+
+    /**
+     * Returns the delay after which a hedge is sent.
+     *
+     * @param config the route configuration
+     * @param latencies the route's recent latencies
+     * @return the hedge delay
+     */
+    static Duration hedgeDelay(Config config, LatencyPercentiles latencies) {
+        long percentile = latencies.percentileNanos();
+        if (percentile < 0) {
+            return config.getMaxDelay();
+        }
+        long nanos = Math.max(config.getMinDelay().toNanos(), Math.min(config.getMaxDelay().toNanos(), percentile));
+        return Duration.ofNanos(nanos);
+    }
+
+    private record Attempt(HedgeAttemptExchange exchange, boolean hedge) {
+    }
+
+    /**
+     * Per-route hedging configuration.
+     */
+    public static class Config {
+
+        /**
+         * Latency percentile after which a hedge is sent.
+         */
+        private double percentile = 95;
+
+        /**
+         * Hedges allowed per hundred requests.
+         */
+        private double budgetPercent = 10;
+
+        /**
+         * Unused hedges that can be saved up for a burst of slow requests.
+         */
+        private double budgetMaxBalance = 10;
+
+        /**
+         * Lower bound of the hedge delay.
+         */
+        private Duration minDelay = Duration.ofMillis(10);
+
+        /**
+         * Upper bound of the hedge delay, also used until enough latencies are known.
+         */
+        private Duration maxDelay = Duration.ofMillis(500);
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public double getBudgetPercent() {
+            return budgetPercent;
+        }
+
+        public void setBudgetPercent(double budgetPercent) {
+            this.budgetPercent = budgetPercent;
+        }
+
+        public double getBudgetMaxBalance() {
+            return budgetMaxBalance;
+        }
+
+        public void setBudgetMaxBalance(double budgetMaxBalance) {
+            this.budgetMaxBalance = budgetMaxBalance;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+    }
+}
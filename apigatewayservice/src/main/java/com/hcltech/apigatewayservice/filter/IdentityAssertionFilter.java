@@ -0,0 +1,103 @@
+package com.hcltech.apigatewayservice.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hcltech.apigatewayservice.config.VerifiedTokenCache.VerifiedToken;
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Global filter that forwards the identity verified by the gateway to downstream services.
+ * <p>
+ * Any {@value IdentityAssertionCodec#HEADER} header sent by the client is always removed. When
+ * the request was authenticated with a JWT, the filter adds a fresh assertion carrying the
+ * subject, roles and expiry resolved by the gateway and a digest of the bearer token, signed
+ * with the shared {@code identity-assertion.secret}. Downstream {@code JwtAuthenticationFilter}s
+ * accept that assertion, together with the same token, instead of re-verifying the JWT with
+ * HMAC-SHA512.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.identity-assertion.enabled} - whether assertions are added (default true)</li>
+ *     <li>{@code identity-assertion.secret} - Base64 secret shared with the services; required
+ *     and must differ from {@code jwt.secret}</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class IdentityAssertionFilter implements GlobalFilter, Ordered {
+
+    private final IdentityAssertionCodec codec;
+    private final boolean enabled;
+
+    /**
+     * Creates the filter with the shared assertion secret.
+     *
+     * @param secret the Base64-encoded secret shared with the downstream services
+     * @param jwtSecret the JWT signing secret, which the assertion secret must differ from
+     * @param enabled whether assertions are forwarded at all
+     */
+    public IdentityAssertionFilter(@Value("${identity-assertion.secret}") String secret,
+                                   @Value("${jwt.secret}") String jwtSecret,
+                                   @Value("${gateway.identity-assertion.enabled:true}") boolean enabled) {
+        this.codec = new IdentityAssertionCodec(secret, jwtSecret);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .map(this::assertionFor)
+            .defaultIfEmpty("")
+            .flatMap(assertion -> chain.filter(withAssertion(exchange, assertion)));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Builds the assertion forwarded for an authentication, also used by gateway-side
+     * composition endpoints that call services directly instead of through a route.
+     *
+     * @param auth the authentication of the current exchange
+     * @return the signed assertion, or an empty string when none should be forwarded
+     */
+    public String assertionFor(Authentication auth) {
+        if (!enabled || !auth.isAuthenticated() || !(auth.getDetails() instanceof VerifiedToken verified)
+                || !(auth.getCredentials() instanceof String token)) {
+            return "";
+        }
+        return codec.encode(verified.username(),
+            verified.authorities().stream().map(GrantedAuthority::getAuthority).toList(),
+            verified.expiresAtMillis(), token);
+    }
+
+    private ServerWebExchange withAssertion(ServerWebExchange exchange, String assertion) {
+        return exchange.mutate()
+            .request(request -> request.headers(headers -> {
+                headers.remove(IdentityAssertionCodec.HEADER);
+                if (!assertion.isEmpty()) {
+                    headers.set(IdentityAssertionCodec.HEADER, assertion);
+                }
+            }))
+            .build();
+    }
+}
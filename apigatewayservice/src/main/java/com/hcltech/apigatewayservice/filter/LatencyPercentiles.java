@@ -0,0 +1,72 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.util.Arrays;
+
+/**
+ * Percentiles over a sliding window of the most recent latency samples of one route.
+ * <p>
+ * Samples go into a fixed-size ring. The percentile is recomputed from a sorted copy of the
+ * ring at most once every {@value #RECOMPUTE_INTERVAL} samples, so reading it on every request
+ * costs no more than a field read. Until {@link #MIN_SAMPLES} samples have been seen no
+ * percentile is reported.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class LatencyPercentiles {
+
+    /** Number of samples required before a percentile is reported. */
+    static final int MIN_SAMPLES = 50;
+
+    private static final int WINDOW = 1024;
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final double percentile;
+    private final long[] samples = new long[WINDOW];
+    private int count;
+    private int next;
+    private int sinceRecompute = RECOMPUTE_INTERVAL;
+    private long cachedNanos = -1;
+
+    /**
+     * Creates the window.
+     *
+     * @param percentile the percentile to report, between 0 and 100
+     */
+    public LatencyPercentiles(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * Records one latency sample.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % WINDOW;
+        count = Math.min(count + 1, WINDOW);
+        sinceRecompute++;
+    }
+
+    /**
+     * Returns the configured percentile of the window.
+     *
+     * @return the percentile in nanoseconds, or {@code -1} if there are too few samples
+     */
+    public synchronized long percentileNanos() {
+        if (count < MIN_SAMPLES) {
+            return -1;
+        }
+        if (sinceRecompute >= RECOMPUTE_INTERVAL) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * count) - 1;
+            cachedNanos = sorted[Math.max(0, Math.min(count - 1, index))];
+            sinceRecompute = 0;
+        }
+        return cachedNanos;
+    }
+}
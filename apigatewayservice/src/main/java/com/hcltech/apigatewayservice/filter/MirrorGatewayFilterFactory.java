@@ -0,0 +1,266 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Route filter that mirrors a sample of GET requests to a shadow instance group.
+ * <p>
+ * Applied per route with the shadow target and the share of GETs to mirror, e.g.
+ * {@code - Mirror=lb://APPLICATIONSERVICE-SHADOW, 5}. Shadow instances register in Eureka
+ * under their own application name, so they never receive primary traffic. A mirrored request
+ * is a copy of the incoming one, marked with {@value #SHADOW_HEADER}, sent in the background
+ * while the primary request proceeds untouched. The shadow response body is discarded and
+ * nothing waits for it, so the shadow can never delay or fail the primary response. List it
+ * after {@code RequestRateLimiter} and {@code CatalogCache}, so requests that are throttled or
+ * answered from the cache are not mirrored.
+ * </p>
+ * <p>
+ * Once both have completed, the filter records the difference:
+ * <ul>
+ *     <li>{@code gateway.mirror.requests} - tagged with the route and the primary and shadow
+ *     status, {@code error} or {@code timeout}</li>
+ *     <li>{@code gateway.mirror.latency} - tagged with the route and
+ *     {@code target=primary|shadow}</li>
+ *     <li>a debug log line per request with both statuses and latencies</li>
+ * </ul>
+ * At most {@code max-in-flight} shadow requests run at a time per route; further samples are
+ * counted as {@code skipped} and not sent, so a slow shadow group cannot pile up work in the
+ * gateway.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class MirrorGatewayFilterFactory extends AbstractGatewayFilterFactory<MirrorGatewayFilterFactory.Config> {
+
+    /** Request header marking a mirrored request, so the shadow service can tell it apart. */
+    public static final String SHADOW_HEADER = "X-Shadow-Request";
+
+    private static final Log log = LogFactory.getLog(MirrorGatewayFilterFactory.class);
+
+    private static final Set<String> EXCLUDED_REQUEST_HEADERS = Set.of(
+        "host", "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade",
+        "proxy-authorization", "content-length");
+
+    private final WebClient shadowClient;
+    private final MeterRegistry meterRegistry;
+    private final DoubleSupplier random;
+
+    /**
+     * Creates the factory.
+     *
+     * @param webClientBuilder the shared web client builder
+     * @param loadBalancerFunction resolves {@code lb://} shadow targets through the load balancer
+     * @param meterRegistry the meter registry
+     */
+    @Autowired
+    public MirrorGatewayFilterFactory(WebClient.Builder webClientBuilder,
+                                      LoadBalancedExchangeFilterFunction loadBalancerFunction,
+                                      MeterRegistry meterRegistry) {
+        this(webClientBuilder.clone().filter(loadBalancerFunction).build(), meterRegistry,
+            () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    MirrorGatewayFilterFactory(WebClient shadowClient, MeterRegistry meterRegistry, DoubleSupplier random) {
+        super(Config.class);
+        this.shadowClient = shadowClient;
+        this.meterRegistry = meterRegistry;
+        this.random = random;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("uri", "percent");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        AtomicInteger inFlight = new AtomicInteger();
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || config.getUri() == null
+                    || random.getAsDouble() * 100 >= config.getPercent()) {
+                return chain.filter(exchange);
+            }
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "unknown";
+            if (inFlight.incrementAndGet() > config.getMaxInFlight()) {
+                inFlight.decrementAndGet();
+                meterRegistry.counter("gateway.mirror.requests", "route", routeId,
+                    "primary_status", "skipped", "shadow_status", "skipped").increment();
+                return chain.filter(exchange);
+            }
+
+            Sinks.One<Result> primary = Sinks.one();
+            long start = System.nanoTime();
+            Mono<Result> shadow = sendShadow(config, request)
+                .timeout(config.getTimeout(), Mono.just(Result.TIMEOUT))
+                .doFinally(signal -> inFlight.decrementAndGet());
+            Mono.zip(primary.asMono(), shadow)
+                .subscribe(results -> record(routeId, request, results.getT1(), results.getT2()));
+
+            return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    primary.tryEmitValue(new Result(status != null ? Integer.toString(status.value()) : "error",
+                        System.nanoTime() - start));
+                });
+        };
+    }
+
+    private Mono<Result> sendShadow(Config config, ServerHttpRequest request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return shadowClient.get()
+                .uri(shadowUri(config.getUri(), request))
+                .headers(headers -> {
+                    copyRequestHeaders(request.getHeaders(), headers);
+                    headers.set(SHADOW_HEADER, "true");
+                })
+                .exchangeToMono(response -> response.releaseBody()
+                    .thenReturn(new Result(Integer.toString(response.statusCode().value()), System.nanoTime() - start)))
+                .onErrorResume(e -> Mono.just(new Result("error", System.nanoTime() - start)));
+        });
+    }
+
+    private void record(String routeId, ServerHttpRequest request, Result primary, Result shadow) {
+        meterRegistry.counter("gateway.mirror.requests", "route", routeId,
+            "primary_status", primary.status(), "shadow_status", shadow.status()).increment();
+        latencyTimer(routeId, "primary").record(primary.nanos(), TimeUnit.NANOSECONDS);
+        if (shadow != Result.TIMEOUT) {
+            latencyTimer(routeId, "shadow").record(shadow.nanos(), TimeUnit.NANOSECONDS);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Mirrored " + request.getURI().getRawPath() + " on " + routeId
+                + ": primary " + primary.status() + " in " + TimeUnit.NANOSECONDS.toMillis(primary.nanos()) + "ms"
+                + ", shadow " + shadow.status() + " in " + TimeUnit.NANOSECONDS.toMillis(shadow.nanos()) + "ms");
+        }
+    }
+
+    private Timer latencyTimer(String routeId, String target) {
+        return Timer.builder("gateway.mirror.latency")
+            .description("Latency of mirrored requests on the primary and the shadow")
+            .tag("route", routeId)
+            .tag("target", target)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Builds the shadow URI from the configured target and the path and query of the request.
+     * An {@code lb://} target becomes {@code http://} with the service id as host, which the
+     * load-balanced client resolves.
+     *
+     * @param target the configured shadow target
+     * @param request the incoming request
+     * @return the shadow URI
+     */
+    static URI shadowUri(URI target, ServerHttpRequest request) {
+        URI original = request.getURI();
+        String scheme = "lb".equals(target.getScheme()) ? "http" : target.getScheme();
+        String port = target.getPort() > 0 ? ":" + target.getPort() : "";
+        String query = original.getRawQuery() != null ? "?" + original.getRawQuery() : "";
+        return URI.create(scheme + "://" + target.getHost() + port + original.getRawPath() + query);
+    }
+
+    private static void copyRequestHeaders(HttpHeaders source, HttpHeaders target) {
+        source.forEach((name, values) -> {
+            if (!EXCLUDED_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                target.put(name, values);
+            }
+        });
+    }
+
+    private record Result(String status, long nanos) {
+
+        static final Result TIMEOUT = new Result("timeout", 0);
+    }
+
+    /**
+     * Per-route mirroring configuration.
+     */
+    public static class Config {
+
+        /**
+         * Shadow target, {@code lb://SERVICE} or an absolute base URL.
+         */
+        private URI uri;
+
+        /**
+         * Share of GET requests to mirror, in percent.
+         */
+        private double percent = 1;
+
+        /**
+         * How long to wait for the shadow response before recording a timeout.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /**
+         * Shadow requests allowed in flight at a time.
+         */
+        private int maxInFlight = 16;
+
+        public URI getUri() {
+            return uri;
+        }
+
+        public void setUri(URI uri) {
+            this.uri = uri;
+        }
+
+        public double getPercent() {
+            return percent;
+        }
+
+        public void setPercent(double percent) {
+            this.percent = percent;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+    }
+}
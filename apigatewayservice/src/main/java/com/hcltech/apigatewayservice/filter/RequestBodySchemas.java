@@ -0,0 +1,127 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonMetaSchema;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.NonValidationKeyword;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.oas.OpenApi30;
+
+/**
+ * The JSON request body schemas of one service, compiled from its OpenAPI document.
+ * <p>
+ * Every POST and PUT operation with an {@code application/json} request body gets a validator
+ * compiled once, up front, using the OpenAPI 3.0 schema dialect, so {@code nullable} and the
+ * {@code $ref}s into {@code components} resolve the way springdoc generated them. Lookups match
+ * the request path against the operation path templates, most specific template first, so
+ * {@code /api/applications/{id}/submit} is never taken for {@code /api/applications/{id}}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RequestBodySchemas {
+
+    /** No operations, used while the OpenAPI document cannot be fetched. */
+    public static final RequestBodySchemas NONE = new RequestBodySchemas(List.of());
+
+    private static final List<String> METHODS = List.of("post", "put");
+
+    private static final JsonMetaSchema DIALECT = JsonMetaSchema.builder(OpenApi30.getInstance())
+        .keywords(List.of(new NonValidationKeyword("openapi"), new NonValidationKeyword("info"),
+            new NonValidationKeyword("servers"), new NonValidationKeyword("paths"),
+            new NonValidationKeyword("components"), new NonValidationKeyword("tags"),
+            new NonValidationKeyword("security")))
+        .build();
+
+    private record Operation(HttpMethod method, PathPattern path, JsonSchema schema) {
+    }
+
+    private final List<Operation> operations;
+
+    private RequestBodySchemas(List<Operation> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Compiles the request body schemas of an OpenAPI 3.0 document.
+     *
+     * @param location an IRI naming the document, unique per document
+     * @param spec the OpenAPI document
+     * @return the compiled schemas
+     */
+    public static RequestBodySchemas compile(String location, JsonNode spec) {
+        JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4, builder -> builder
+            .metaSchema(DIALECT)
+            .defaultMetaSchemaIri(DIALECT.getIri())
+            .schemaLoaders(loaders -> loaders.schemas(Map.of(location, spec.toString()))));
+        SchemaValidatorsConfig config = SchemaValidatorsConfig.builder().build();
+        PathPatternParser parser = new PathPatternParser();
+
+        List<Operation> operations = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> paths = spec.path("paths").fields();
+        while (paths.hasNext()) {
+            Map.Entry<String, JsonNode> path = paths.next();
+            for (String method : METHODS) {
+                JsonNode content = path.getValue().path(method).path("requestBody").path("content");
+                if (!content.path("application/json").has("schema")) {
+                    continue;
+                }
+                String pointer = "/paths/" + escape(path.getKey()) + "/" + method
+                    + "/requestBody/content/application~1json/schema";
+                JsonSchema schema = factory.getSchema(SchemaLocation.of(location + "#" + pointer), config);
+                schema.initializeValidators();
+                operations.add(new Operation(HttpMethod.valueOf(method.toUpperCase(Locale.ROOT)),
+                    parser.parse(path.getKey()), schema));
+            }
+        }
+        operations.sort(Comparator.comparing(Operation::path, PathPattern.SPECIFICITY_COMPARATOR));
+        return new RequestBodySchemas(List.copyOf(operations));
+    }
+
+    /**
+     * Returns the request body schema of an operation.
+     *
+     * @param method the request method
+     * @param path the request path
+     * @return the schema, or {@code null} if the operation takes no JSON body or is not in the document
+     */
+    public JsonSchema find(HttpMethod method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Operation operation : operations) {
+            if (operation.method().equals(method) && operation.path().matches(container)) {
+                return operation.schema();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of operations with a compiled schema.
+     *
+     * @return the operation count
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+}
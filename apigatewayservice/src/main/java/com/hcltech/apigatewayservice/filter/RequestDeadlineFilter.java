@@ -0,0 +1,96 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hcltech.commonlib.deadline.RequestDeadline;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Global filter that stamps every proxied request with its absolute deadline.
+ * <p>
+ * The deadline is the time the request reached the gateway plus the route's
+ * {@code response-timeout} metadata (in milliseconds), which is also the timeout the gateway
+ * itself applies to the downstream response, or {@code default-timeout} for routes without
+ * one. It is sent in the {@value RequestDeadline#HEADER} header so that services stop working
+ * on a request, and stop calling further services and the database, once the gateway has
+ * given up on it. A client-supplied header is always replaced.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.deadline.enabled} - whether deadlines are forwarded (default true)</li>
+ *     <li>{@code gateway.deadline.default-timeout} - budget of routes without a
+ *     {@code response-timeout} (default 3s)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class RequestDeadlineFilter implements GlobalFilter, Ordered {
+
+    private final boolean enabled;
+    private final Duration defaultTimeout;
+
+    /**
+     * Creates the filter.
+     *
+     * @param enabled whether deadlines are forwarded at all
+     * @param defaultTimeout budget of routes without a {@code response-timeout}
+     */
+    public RequestDeadlineFilter(@Value("${gateway.deadline.enabled:true}") boolean enabled,
+                                 @Value("${gateway.deadline.default-timeout:3s}") Duration defaultTimeout) {
+        this.enabled = enabled;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long deadline = enabled ? System.currentTimeMillis() + timeoutMillis(exchange) : 0;
+        return chain.filter(exchange.mutate()
+            .request(request -> request.headers(headers -> {
+                headers.remove(RequestDeadline.HEADER);
+                if (deadline > 0) {
+                    headers.set(RequestDeadline.HEADER, Long.toString(deadline));
+                }
+            }))
+            .build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    private long timeoutMillis(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Object timeout = route == null ? null : route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        if (timeout instanceof Number number && number.longValue() > 0) {
+            return number.longValue();
+        }
+        if (timeout instanceof String text) {
+            try {
+                long millis = Long.parseLong(text.trim());
+                if (millis > 0) {
+                    return millis;
+                }
+            } catch (NumberFormatException ex) {
+                // fall back to the default budget
+            }
+        }
+        return defaultTimeout.toMillis();
+    }
+}
@@ -0,0 +1,356 @@
+package com.hcltech.apigatewayservice.filter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hcltech.apigatewayservice.config.JsonErrorResponses;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Route filter that validates JSON request bodies against the service's OpenAPI document.
+ * <p>
+ * Applied per route with the location of the OpenAPI document the service publishes, e.g.
+ * {@code - ValidateBody=lb://STUDENTSERVICE/studentservice/v3/api-docs}. The document is
+ * fetched on first use and compiled into {@link RequestBodySchemas}, one validator per POST
+ * and PUT operation. Once {@code refresh} has passed, the next request starts fetching the
+ * document again in the background and, like every request until the new copy is compiled, is
+ * validated against the current one. Every POST or PUT
+ * with a JSON content type whose path matches one of those operations has its body read into
+ * memory and validated before the request is routed:
+ * <ul>
+ *     <li>A body that is not JSON, or does not match the schema, is answered with {@code 400}
+ *     listing every violation, and never reaches the load balancer or the service</li>
+ *     <li>A body larger than {@code max-body-size} is answered with {@code 413}</li>
+ *     <li>A valid body is routed unchanged</li>
+ * </ul>
+ * Rejections are counted in {@code gateway.validation.rejected}, tagged with the route and the
+ * reason. When the document cannot be fetched the filter keeps the last copy it compiled, or
+ * lets every request through if it never had one, and retries after {@code 30s}, so an outage
+ * of the docs endpoint never blocks writes. Bean
+ * Validation in the service stays in place for anything the schema cannot express.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class ValidateBodyGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<ValidateBodyGatewayFilterFactory.Config> {
+
+    private static final Log log = LogFactory.getLog(ValidateBodyGatewayFilterFactory.class);
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    private final WebClient specClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the factory.
+     *
+     * @param webClientBuilder the shared web client builder
+     * @param loadBalancerFunction resolves {@code lb://} document locations through the load balancer
+     * @param objectMapper parses request bodies and writes rejections
+     * @param meterRegistry the meter registry
+     */
+    @Autowired
+    public ValidateBodyGatewayFilterFactory(WebClient.Builder webClientBuilder,
+                                            LoadBalancedExchangeFilterFunction loadBalancerFunction,
+                                            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(webClientBuilder.clone().filter(loadBalancerFunction).build(), objectMapper, meterRegistry);
+    }
+
+    ValidateBodyGatewayFilterFactory(WebClient specClient, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.specClient = specClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("spec");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getSpec() == null) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+        SchemaSource schemas = new SchemaSource(config.getSpec(), config.getRefresh());
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!isJsonWrite(request)) {
+                return chain.filter(exchange);
+            }
+            return schemas.get().flatMap(compiled -> {
+                JsonSchema schema = compiled.find(request.getMethod(), request.getPath().pathWithinApplication().value());
+                if (schema == null) {
+                    return chain.filter(exchange);
+                }
+                return DataBufferUtils.join(request.getBody(), (int) config.getMaxBodySize().toBytes())
+                    .map(ValidateBodyGatewayFilterFactory::drain)
+                    .defaultIfEmpty(new byte[0])
+                    .map(body -> {
+                        Mono<Void> rejection = validate(exchange, schema, body);
+                        return rejection != null ? rejection
+                            : chain.filter(exchange.mutate().request(replay(request, body)).build());
+                    })
+                    .onErrorResume(DataBufferLimitException.class, e -> Mono.just(reject(exchange, "too_large",
+                        HttpStatus.PAYLOAD_TOO_LARGE, "payload_too_large",
+                        "Request body exceeds " + config.getMaxBodySize().toKilobytes() + "KB")))
+                    .flatMap(handled -> handled);
+            });
+        };
+    }
+
+    /**
+     * Validates a request body.
+     *
+     * @param exchange the current exchange
+     * @param schema the schema of the operation
+     * @param body the request body
+     * @return the rejection to write, or {@code null} if the body is valid
+     */
+    private Mono<Void> validate(ServerWebExchange exchange, JsonSchema schema, byte[] body) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(body);
+        } catch (IOException e) {
+            node = null;
+        }
+        if (node == null || node.isMissingNode()) {
+            return reject(exchange, "malformed", HttpStatus.BAD_REQUEST, "invalid_request",
+                "Request body is not valid JSON");
+        }
+        Set<ValidationMessage> violations = schema.validate(node);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        count(exchange, "invalid");
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.BAD_REQUEST);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("error", "invalid_request");
+        error.put("message", "Request body does not match the schema of " + exchange.getRequest().getPath().value());
+        error.put("violations", violations.stream()
+            .map(violation -> Map.of("field", fieldOf(violation), "message", violation.getError()))
+            .toList());
+        try {
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(objectMapper.writeValueAsBytes(error))));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String reason, HttpStatus status, String error, String message) {
+        count(exchange, reason);
+        return JsonErrorResponses.write(exchange, status, error, message);
+    }
+
+    private void count(ServerWebExchange exchange, String reason) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        meterRegistry.counter("gateway.validation.rejected", "route", route != null ? route.getId() : "unknown",
+            "reason", reason).increment();
+    }
+
+    private Mono<RequestBodySchemas> fetchSchemas(URI spec) {
+        return Mono.defer(() -> specClient.get()
+                .uri(documentUri(spec))
+                .retrieve()
+                .bodyToMono(JsonNode.class))
+            .timeout(FETCH_TIMEOUT)
+            .map(document -> {
+                RequestBodySchemas compiled = RequestBodySchemas.compile(spec.toString(), document);
+                log.info("Compiled " + compiled.size() + " request body schemas from " + spec);
+                return compiled;
+            })
+            .onErrorResume(e -> {
+                log.warn("Could not load " + spec + ", retrying in " + RETRY_INTERVAL.toSeconds() + "s: " + e);
+                return Mono.just(RequestBodySchemas.NONE);
+            });
+    }
+
+    /**
+     * Turns an {@code lb://} document location into the {@code http://} URI the load-balanced
+     * client resolves, leaving any other location as it is.
+     *
+     * @param spec the configured document location
+     * @return the URI to fetch
+     */
+    static URI documentUri(URI spec) {
+        if (!"lb".equals(spec.getScheme())) {
+            return spec;
+        }
+        return URI.create("http://" + spec.getHost() + spec.getRawPath());
+    }
+
+    private static boolean isJsonWrite(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.POST && request.getMethod() != HttpMethod.PUT) {
+            return false;
+        }
+        MediaType contentType = request.getHeaders().getContentType();
+        return contentType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+            || contentType.getSubtype().endsWith("+json"));
+    }
+
+    private static String fieldOf(ValidationMessage violation) {
+        String location = violation.getInstanceLocation().toString();
+        if (violation.getProperty() != null && "required".equals(violation.getType())) {
+            location = location.isEmpty() ? "/" + violation.getProperty() : location + "/" + violation.getProperty();
+        }
+        return location.isEmpty() ? "/" : location;
+    }
+
+    private static byte[] drain(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private static ServerHttpRequest replay(ServerHttpRequest request, byte[] body) {
+        return new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+            }
+        };
+    }
+
+    /**
+     * The compiled schemas of one route, refreshed in the background.
+     */
+    private final class SchemaSource {
+
+        private final URI spec;
+        private final Duration refresh;
+        private final Mono<RequestBodySchemas> first;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile RequestBodySchemas current;
+        private volatile long refreshAt;
+
+        SchemaSource(URI spec, Duration refresh) {
+            this.spec = spec;
+            this.refresh = refresh;
+            this.first = fetchSchemas(spec).doOnNext(this::update).cache();
+        }
+
+        /**
+         * Returns the current schemas without waiting, starting a refresh if they are due for
+         * one; only the very first request waits for the document.
+         *
+         * @return the schemas to validate against
+         */
+        Mono<RequestBodySchemas> get() {
+            RequestBodySchemas schemas = current;
+            if (schemas == null) {
+                return first;
+            }
+            if (System.nanoTime() - refreshAt >= 0 && refreshing.compareAndSet(false, true)) {
+                fetchSchemas(spec)
+                    .doFinally(signal -> refreshing.set(false))
+                    .subscribe(this::update);
+            }
+            return Mono.just(schemas);
+        }
+
+        /**
+         * Stores freshly fetched schemas; a failed fetch keeps the last good copy, if any.
+         *
+         * @param fetched the compiled schemas, or {@link RequestBodySchemas#NONE} if the fetch failed
+         */
+        private void update(RequestBodySchemas fetched) {
+            boolean failed = fetched == RequestBodySchemas.NONE;
+            refreshAt = System.nanoTime() + (failed ? RETRY_INTERVAL : refresh).toNanos();
+            if (!failed || current == null) {
+                current = fetched;
+            }
+        }
+    }
+
+    /**
+     * Per-route validation configuration.
+     */
+    public static class Config {
+
+        /**
+         * Location of the service's OpenAPI document, {@code lb://SERVICE/path} or an absolute URL.
+         */
+        private URI spec;
+
+        /**
+         * Larger request bodies are rejected with {@code 413}.
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(64);
+
+        /**
+         * How long compiled schemas are used before the document is fetched again in the background.
+         */
+        private Duration refresh = Duration.ofMinutes(10);
+
+        public URI getSpec() {
+            return spec;
+        }
+
+        public void setSpec(URI spec) {
+            this.spec = spec;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        public Duration getRefresh() {
+            return refresh;
+        }
+
+        public void setRefresh(Duration refresh) {
+            this.refresh = refresh;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.hcltech.apigatewayservice.h2c;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Switches the gateway's connections to the services from HTTP/1.1 to multiplexed HTTP/2
+ * cleartext.
+ * <p>
+ * Off by default. Over HTTP/1.1 every in-flight request holds its own connection, so
+ * connection count and file descriptors grow with concurrency; over h2c a few connections per
+ * instance carry all of it. The services must accept h2c first, which their embedded Tomcat
+ * does with {@code server.http2.enabled=true}; the shared configuration ties both to
+ * {@code downstream.h2c}, so one switch flips the whole system.
+ * </p>
+ * <p>
+ * Only routed requests, hedged attempts included, go through this client. The gateway's own
+ * {@code WebClient}s, used by the mirror, the student dashboard, the OpenAPI spec fetch and
+ * the revocation check, keep their HTTP/1.1 pools.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.downstream.h2c.enabled} - use h2c for routed requests (default false)</li>
+ *     <li>{@code gateway.downstream.h2c.max-connections} - connections per instance (default 2)</li>
+ *     <li>{@code gateway.downstream.h2c.max-concurrent-streams} - streams per connection
+ *     (default 100, Tomcat's own limit)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.downstream.h2c.enabled", havingValue = "true")
+public class H2cHttpClientConfig {
+
+    /**
+     * Replaces the gateway's default routing client factory.
+     *
+     * @param properties the gateway HTTP client properties
+     * @param serverProperties the server properties
+     * @param customizers the registered client customizers
+     * @param sslConfigurer the SSL configurer
+     * @param maxConnections the connections allowed per instance
+     * @param maxConcurrentStreams the streams allowed per connection
+     * @return the h2c client factory
+     */
+    @Bean
+    public HttpClientFactory h2cHttpClientFactory(HttpClientProperties properties,
+                                                  ServerProperties serverProperties,
+                                                  List<HttpClientCustomizer> customizers,
+                                                  HttpClientSslConfigurer sslConfigurer,
+                                                  @Value("${gateway.downstream.h2c.max-connections:2}") int maxConnections,
+                                                  @Value("${gateway.downstream.h2c.max-concurrent-streams:100}") int maxConcurrentStreams) {
+        return new H2cHttpClientFactory(properties, serverProperties, sslConfigurer, customizers,
+            maxConnections, maxConcurrentStreams);
+    }
+}
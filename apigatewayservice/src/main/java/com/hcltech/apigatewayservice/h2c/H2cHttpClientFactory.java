@@ -0,0 +1,98 @@
+package com.hcltech.apigatewayservice.h2c;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Builds the routing {@link HttpClient} so it speaks HTTP/2 cleartext to the services.
+ * <p>
+ * The client opens connections with the HTTP/2 preface straight away (prior knowledge, no
+ * {@code Upgrade} round trip) and multiplexes concurrent requests as streams over a small pool
+ * per instance: a new connection is only opened once every open one carries
+ * {@code max-concurrent-streams} streams, up to {@code max-connections}. Beyond that, requests
+ * wait for a free stream for at most the pool's acquire timeout. Everything else, such as
+ * timeouts, proxy, wiretap and the registered {@link HttpClientCustomizer}s, is configured by
+ * the gateway as usual.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class H2cHttpClientFactory extends HttpClientFactory {
+
+    private final int maxConnections;
+    private final int maxConcurrentStreams;
+
+    /**
+     * Creates the factory.
+     *
+     * @param properties the gateway HTTP client properties
+     * @param serverProperties the server properties
+     * @param sslConfigurer the SSL configurer
+     * @param customizers the registered client customizers
+     * @param maxConnections the connections allowed per instance
+     * @param maxConcurrentStreams the streams allowed per connection
+     */
+    public H2cHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                HttpClientSslConfigurer sslConfigurer, List<HttpClientCustomizer> customizers,
+                                int maxConnections, int maxConcurrentStreams) {
+        super(properties, serverProperties, sslConfigurer, customizers);
+        this.maxConnections = maxConnections;
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    @Override
+    protected HttpClient createInstance() {
+        return super.createInstance().protocol(HttpProtocol.H2C);
+    }
+
+    @Override
+    protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+        HttpClientProperties.Pool pool = properties.getPool();
+        ConnectionProvider.Builder builder = multiplexedPool(pool.getName(), maxConnections, maxConcurrentStreams)
+            .metrics(pool.isMetrics());
+        if (pool.getAcquireTimeout() != null) {
+            builder.pendingAcquireTimeout(Duration.ofMillis(pool.getAcquireTimeout()));
+        }
+        if (pool.getMaxIdleTime() != null) {
+            builder.maxIdleTime(pool.getMaxIdleTime());
+        }
+        if (pool.getMaxLifeTime() != null) {
+            builder.maxLifeTime(pool.getMaxLifeTime());
+        }
+        if (pool.getEvictionInterval() != null) {
+            builder.evictInBackground(pool.getEvictionInterval());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a pool builder that multiplexes HTTP/2 streams over at most
+     * {@code maxConnections} connections per remote address.
+     *
+     * @param name the pool name
+     * @param maxConnections the connections allowed per remote address
+     * @param maxConcurrentStreams the streams allowed per connection
+     * @return the pool builder
+     */
+    static ConnectionProvider.Builder multiplexedPool(String name, int maxConnections, int maxConcurrentStreams) {
+        return ConnectionProvider.builder(name)
+            .allocationStrategy(Http2AllocationStrategy.builder()
+                .minConnections(1)
+                .maxConnections(maxConnections)
+                .maxConcurrentStreams(maxConcurrentStreams)
+                .build());
+    }
+}
@@ -0,0 +1,40 @@
+package com.hcltech.apigatewayservice.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-service load balancer configuration, instantiated in each service's child context by
+ * {@link EwmaLoadBalancerConfig}.
+ * <p>
+ * Deliberately not annotated with {@code @Configuration}, so component scanning does not
+ * register it in the gateway context itself.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class EwmaLoadBalancerClientConfiguration {
+
+    /**
+     * Creates the load balancer of one service.
+     *
+     * @param environment the child context environment holding the service id
+     * @param clientFactory the load balancer client factory
+     * @param tracker the instance load tracker from the gateway context
+     * @return the load balancer
+     */
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(Environment environment,
+                                                                                   LoadBalancerClientFactory clientFactory,
+                                                                                   InstanceLoadTracker tracker) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new EwmaPowerOfTwoChoicesLoadBalancer(
+            clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), serviceId, tracker);
+    }
+}
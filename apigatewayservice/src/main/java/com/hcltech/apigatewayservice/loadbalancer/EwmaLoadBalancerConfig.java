@@ -0,0 +1,23 @@
+package com.hcltech.apigatewayservice.loadbalancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces the default round-robin load balancer of every service with
+ * {@link EwmaPowerOfTwoChoicesLoadBalancer}.
+ * <p>
+ * Applies to {@code lb://} routes and to the load-balanced web clients alike. Setting
+ * {@code gateway.loadbalancer.ewma.enabled=false} restores round robin.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.loadbalancer.ewma.enabled", havingValue = "true", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = EwmaLoadBalancerClientConfiguration.class)
+public class EwmaLoadBalancerConfig {
+}
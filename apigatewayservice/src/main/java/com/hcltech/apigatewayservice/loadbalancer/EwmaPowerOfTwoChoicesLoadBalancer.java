@@ -0,0 +1,95 @@
+package com.hcltech.apigatewayservice.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Latency-aware load balancer using the power of two choices.
+ * <p>
+ * For each request two distinct instances are drawn at random and the one with the lower
+ * {@link InstanceLoadTracker#cost(ServiceInstance) cost}, its EWMA latency times its in-flight
+ * requests plus one, is chosen. A slow or saturated instance quickly stops winning those
+ * comparisons without the herding of always picking the single best instance, and unmeasured
+ * instances are probed one request at a time.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class EwmaPowerOfTwoChoicesLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private static final Log log = LogFactory.getLog(EwmaPowerOfTwoChoicesLoadBalancer.class);
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceLoadTracker tracker;
+
+    /**
+     * Creates the load balancer for one service.
+     *
+     * @param supplierProvider provider of the service instance list supplier
+     * @param serviceId the service id
+     * @param tracker the instance load tracker
+     */
+    public EwmaPowerOfTwoChoicesLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                             String serviceId, InstanceLoadTracker tracker) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = choose(instances);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Picks the cheaper of two random instances.
+     *
+     * @param instances the available instances
+     * @return the chosen instance, or an empty response if there is none
+     */
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            if (log.isWarnEnabled()) {
+                log.warn("No servers available for service: " + serviceId);
+            }
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(tracker.cost(b) < tracker.cost(a) ? b : a);
+    }
+}
@@ -0,0 +1,235 @@
+package com.hcltech.apigatewayservice.loadbalancer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tracks the latency and outstanding requests of every downstream instance.
+ * <p>
+ * For each {@code host:port} it keeps:
+ * <ul>
+ *     <li>a peak-sensitive EWMA of the response latency - a sample above the average replaces it
+ *     immediately, lower samples are blended in with a weight that depends on the time since the
+ *     previous sample, and the average decays towards zero while the instance receives no
+ *     traffic, so an instance that was slow once is retried eventually</li>
+ *     <li>the number of requests currently in flight</li>
+ * </ul>
+ * Failed requests and {@code 5xx} responses are recorded as at least
+ * {@code gateway.loadbalancer.ewma.failure-penalty}, so an instance that fails fast does not
+ * attract more traffic. The resulting {@link #cost(ServiceInstance)} is used by
+ * {@link EwmaPowerOfTwoChoicesLoadBalancer}.
+ * </p>
+ * <p>
+ * Requests are recorded by {@link InstanceLoadTrackingFilter} for {@code lb://} routes and by
+ * {@link #exchangeFilter()} for load-balanced web clients. Both release the in-flight slot on
+ * completion, error and cancellation alike.
+ * </p>
+ * <p>
+ * Across all instances it also keeps the total number of requests in flight and a plain
+ * time-decayed average of their latency, without the failure penalty, which the load shedder
+ * reads as the gateway's view of how busy the backend is.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.loadbalancer.ewma.decay-time} - time constant of the average (default 10s)</li>
+ *     <li>{@code gateway.loadbalancer.ewma.failure-penalty} - latency recorded for a failure
+ *     (default 1s)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class InstanceLoadTracker {
+
+    /** Cost of an instance that has requests in flight but no latency sample yet. */
+    static final double UNMEASURED_BUSY_COST = Double.MAX_VALUE / 2;
+
+    private final Cache<String, InstanceLoad> instances;
+    private final AtomicInteger totalInFlight = new AtomicInteger();
+    private final DownstreamLatency downstreamLatency = new DownstreamLatency();
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates the tracker.
+     *
+     * @param decayTime time constant of the latency average
+     * @param failurePenalty latency recorded for failed requests
+     */
+    @Autowired
+    public InstanceLoadTracker(@Value("${gateway.loadbalancer.ewma.decay-time:10s}") Duration decayTime,
+                               @Value("${gateway.loadbalancer.ewma.failure-penalty:1s}") Duration failurePenalty) {
+        this(decayTime, failurePenalty, System::nanoTime);
+    }
+
+    InstanceLoadTracker(Duration decayTime, Duration failurePenalty, LongSupplier nanoClock) {
+        this.instances = Caffeine.newBuilder()
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+        this.decayNanos = decayTime.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the current cost of an instance: its decayed latency average multiplied by the
+     * number of requests in flight plus one. Lower is better.
+     *
+     * @param instance the instance
+     * @return the cost
+     */
+    public double cost(ServiceInstance instance) {
+        InstanceLoad load = instances.getIfPresent(key(instance.getHost(), instance.getPort()));
+        return load != null ? load.cost(nanoClock.getAsLong()) : 0;
+    }
+
+    /**
+     * Returns the number of requests currently in flight to all instances together.
+     *
+     * @return the total in-flight requests
+     */
+    public int totalInFlight() {
+        return totalInFlight.get();
+    }
+
+    /**
+     * Returns the time-decayed average latency of all downstream requests, in nanoseconds.
+     *
+     * @return the average latency, or zero without recent samples
+     */
+    public double averageLatencyNanos() {
+        return downstreamLatency.average(nanoClock.getAsLong());
+    }
+
+    /**
+     * Records the start of a request to an instance.
+     *
+     * @param host the instance host
+     * @param port the instance port
+     * @return the in-flight request, which must be completed exactly once
+     */
+    public InFlightRequest start(String host, int port) {
+        InstanceLoad load = instances.get(key(host, port), k -> new InstanceLoad());
+        load.inFlight.incrementAndGet();
+        totalInFlight.incrementAndGet();
+        return new InFlightRequest(load, nanoClock.getAsLong());
+    }
+
+    /**
+     * Returns an exchange filter that records requests of a load-balanced web client. It must be
+     * registered after the load balancer filter, so it sees the resolved instance address.
+     *
+     * @return the recording exchange filter
+     */
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> {
+            InFlightRequest inFlight = start(request.url().getHost(), request.url().getPort());
+            return next.exchange(request)
+                .doOnSuccess(response -> inFlight.complete(
+                    response != null && response.statusCode().is5xxServerError()))
+                .doOnError(e -> inFlight.complete(true))
+                .doOnCancel(() -> inFlight.complete(false));
+        };
+    }
+
+    private static String key(String host, int port) {
+        return host + ':' + port;
+    }
+
+    /**
+     * A request in flight to one instance.
+     */
+    public final class InFlightRequest {
+
+        private final InstanceLoad load;
+        private final long startNanos;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private InFlightRequest(InstanceLoad load, long startNanos) {
+            this.load = load;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the in-flight slot and records the elapsed time. Only the first call counts.
+         *
+         * @param failed whether the request failed or returned a server error
+         */
+        public void complete(boolean failed) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            long now = nanoClock.getAsLong();
+            long elapsed = now - startNanos;
+            load.inFlight.decrementAndGet();
+            totalInFlight.decrementAndGet();
+            load.observe(failed ? Math.max(elapsed, failurePenaltyNanos) : elapsed, now);
+            downstreamLatency.observe(elapsed, now);
+        }
+    }
+
+    private final class InstanceLoad {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaNanos;
+        private long lastUpdateNanos;
+
+        synchronized void observe(long latencyNanos, long now) {
+            if (latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(now - lastUpdateNanos) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdateNanos = now;
+        }
+
+        synchronized double cost(long now) {
+            double decayed = ewmaNanos * Math.exp(-(now - lastUpdateNanos) / decayNanos);
+            int pending = inFlight.get();
+            if (decayed == 0 && pending > 0) {
+                return UNMEASURED_BUSY_COST;
+            }
+            return decayed * (pending + 1);
+        }
+    }
+
+    private final class DownstreamLatency {
+
+        private boolean sampled;
+        private double averageNanos;
+        private long lastUpdateNanos;
+
+        synchronized void observe(long latencyNanos, long now) {
+            if (sampled) {
+                double weight = Math.exp(-(now - lastUpdateNanos) / decayNanos);
+                averageNanos = averageNanos * weight + latencyNanos * (1 - weight);
+            } else {
+                averageNanos = latencyNanos;
+                sampled = true;
+            }
+            lastUpdateNanos = now;
+        }
+
+        synchronized double average(long now) {
+            return sampled ? averageNanos * Math.exp(-(now - lastUpdateNanos) / decayNanos) : 0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.hcltech.apigatewayservice.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hcltech.apigatewayservice.filter.HedgeGatewayFilterFactory;
+import com.hcltech.apigatewayservice.loadbalancer.InstanceLoadTracker.InFlightRequest;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Global filter that records every {@code lb://} exchange in the {@link InstanceLoadTracker}.
+ * <p>
+ * Runs right after the {@link ReactiveLoadBalancerClientFilter} has chosen an instance, and
+ * after the {@code Hedge} filter, so each attempt of a hedged request is tracked against the
+ * instance it was sent to, and measures the time until the downstream response headers arrive. Unlike a
+ * {@code LoadBalancerLifecycle}, which the gateway does not notify when an exchange is
+ * cancelled, it releases the in-flight slot on cancellation too, so client disconnects cannot
+ * leave an instance looking permanently busy.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class InstanceLoadTrackingFilter implements GlobalFilter, Ordered {
+
+    private final InstanceLoadTracker tracker;
+
+    /**
+     * Creates the filter.
+     *
+     * @param tracker the instance load tracker
+     */
+    public InstanceLoadTrackingFilter(InstanceLoadTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> chosen = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (chosen == null || !chosen.hasServer()) {
+            return chain.filter(exchange);
+        }
+        ServiceInstance instance = chosen.getServer();
+        InFlightRequest inFlight = tracker.start(instance.getHost(), instance.getPort());
+        return chain.filter(exchange)
+            .doFinally(signal -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                inFlight.complete(signal == SignalType.ON_ERROR
+                    || (signal == SignalType.ON_COMPLETE && status != null && status.is5xxServerError()));
+            });
+    }
+
+    @Override
+    public int getOrder() {
+        return HedgeGatewayFilterFactory.HEDGE_FILTER_ORDER + 1;
+    }
+}
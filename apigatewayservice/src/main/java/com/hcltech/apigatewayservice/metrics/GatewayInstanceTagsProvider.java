@@ -0,0 +1,39 @@
+package com.hcltech.apigatewayservice.metrics;
+
+import java.net.URI;
+
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.tagsprovider.GatewayTagsProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Adds the downstream instance to the {@code spring.cloud.gateway.requests} timer.
+ * <p>
+ * The built-in tags providers already contribute the route id, HTTP method, status and
+ * outcome. This provider adds an {@code instance} tag with the {@code host:port} the load
+ * balancer picked, so a slow route can be traced to a single slow instance. Exchanges that
+ * never reached an instance, for example cache hits or rejected requests, are tagged
+ * {@code none}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class GatewayInstanceTagsProvider implements GatewayTagsProvider {
+
+    private static final String NONE = "none";
+
+    @Override
+    public Tags apply(ServerWebExchange exchange) {
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (requestUrl == null || requestUrl.getHost() == null || "lb".equals(requestUrl.getScheme())) {
+            return Tags.of("instance", NONE);
+        }
+        return Tags.of("instance", requestUrl.getHost() + ':' + requestUrl.getPort());
+    }
+}
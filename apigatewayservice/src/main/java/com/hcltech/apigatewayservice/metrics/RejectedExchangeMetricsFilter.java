@@ -0,0 +1,87 @@
+package com.hcltech.apigatewayservice.metrics;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts exchanges answered with a rejection status, whether by the gateway or downstream.
+ * <p>
+ * Runs ahead of the Spring Security filter chain, so it also sees the {@code 401} and
+ * {@code 403} responses produced by security, which never reach a route and therefore never
+ * show up in {@code spring.cloud.gateway.requests}. Errors carrying a status, such as the
+ * {@code 503} raised when no instance is available, are counted with that status, since the
+ * error handler only writes it after this filter. Each rejection increments
+ * {@code gateway.exchanges.rejected} tagged with the status code:
+ * <ul>
+ *     <li>{@code 401} - missing, invalid or expired token</li>
+ *     <li>{@code 403} - authenticated but not authorized</li>
+ *     <li>{@code 429} - rate limited</li>
+ *     <li>{@code 503} - no instance available, load shed or circuit open</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class RejectedExchangeMetricsFilter implements WebFilter, Ordered {
+
+    private final Counter unauthorized;
+    private final Counter forbidden;
+    private final Counter tooManyRequests;
+    private final Counter serviceUnavailable;
+
+    /**
+     * Creates the filter and registers its counters.
+     *
+     * @param registry the meter registry
+     */
+    public RejectedExchangeMetricsFilter(MeterRegistry registry) {
+        this.unauthorized = counter(registry, "401");
+        this.forbidden = counter(registry, "403");
+        this.tooManyRequests = counter(registry, "429");
+        this.serviceUnavailable = counter(registry, "503");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange)
+            .doOnSuccess(done -> count(exchange.getResponse().getStatusCode()))
+            .doOnError(ResponseStatusException.class, e -> count(e.getStatusCode()));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private void count(HttpStatusCode status) {
+        if (status == null) {
+            return;
+        }
+        switch (status.value()) {
+            case 401 -> unauthorized.increment();
+            case 403 -> forbidden.increment();
+            case 429 -> tooManyRequests.increment();
+            case 503 -> serviceUnavailable.increment();
+            default -> { }
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String status) {
+        return Counter.builder("gateway.exchanges.rejected")
+            .description("Exchanges rejected by the gateway")
+            .tag("status", status)
+            .register(registry);
+    }
+}
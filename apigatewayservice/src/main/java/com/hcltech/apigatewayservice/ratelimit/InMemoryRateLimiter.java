@@ -0,0 +1,190 @@
+package com.hcltech.apigatewayservice.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Token-bucket {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter} backed by an
+ * in-process, lock-free store, used by the {@code RequestRateLimiter} route filter in place of
+ * the Redis implementation.
+ * <p>
+ * Each key resolved for a route (client IP, JWT subject or the route itself) owns a bucket
+ * holding up to {@code burstCapacity} tokens, refilled at {@code replenishRate} tokens per
+ * second. A bucket is an immutable snapshot in an {@link AtomicReference}, updated with a
+ * compare-and-set loop, so concurrent requests never block each other. Buckets live in a
+ * size-bounded Caffeine cache and are dropped once idle, by which time they would be full anyway.
+ * </p>
+ * <p>
+ * Limits are set per route in the gateway configuration:
+ * <pre>
+ * - name: RequestRateLimiter
+ *   args:
+ *     key-resolver: "#{&#64;clientIpKeyResolver}"
+ *     in-memory-rate-limiter.replenish-rate: 5
+ *     in-memory-rate-limiter.burst-capacity: 10
+ * </pre>
+ * Denied requests are answered with {@code 429 Too Many Requests} and a {@code Retry-After}
+ * header giving the number of seconds until enough tokens are available.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.rate-limiter.replenish-rate} - default tokens per second (default 10)</li>
+ *     <li>{@code gateway.rate-limiter.burst-capacity} - default bucket size (default 20)</li>
+ *     <li>{@code gateway.rate-limiter.max-keys} - maximum number of tracked buckets (default 100000)</li>
+ *     <li>{@code gateway.rate-limiter.idle-expiry} - how long an unused bucket is kept (default 10m)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+
+    /**
+     * Prefix of the per-route limiter arguments.
+     */
+    public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+
+    /**
+     * Header with the number of tokens left after this request.
+     */
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    /**
+     * Header with the bucket size of the route.
+     */
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    /**
+     * Header with the refill rate of the route, in tokens per second.
+     */
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+
+    private record Bucket(double tokens, long refilledAtNanos) {
+    }
+
+    private final Config defaultConfig;
+    private final Cache<String, AtomicReference<Bucket>> buckets;
+
+    /**
+     * Creates the rate limiter with the configured defaults.
+     *
+     * @param configurationService service binding per-route arguments
+     * @param replenishRate default refill rate in tokens per second
+     * @param burstCapacity default bucket size
+     * @param maxKeys maximum number of tracked buckets
+     * @param idleExpiry how long an unused bucket is kept
+     */
+    public InMemoryRateLimiter(ConfigurationService configurationService,
+                               @Value("${gateway.rate-limiter.replenish-rate:10}") int replenishRate,
+                               @Value("${gateway.rate-limiter.burst-capacity:20}") int burstCapacity,
+                               @Value("${gateway.rate-limiter.max-keys:100000}") long maxKeys,
+                               @Value("${gateway.rate-limiter.idle-expiry:10m}") Duration idleExpiry) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.defaultConfig = new Config().setReplenishRate(replenishRate).setBurstCapacity(burstCapacity);
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(idleExpiry)
+            .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        int capacity = config.getBurstCapacity();
+        int requested = config.getRequestedTokens();
+        double tokensPerNano = config.getReplenishRate() / (double) TimeUnit.SECONDS.toNanos(1);
+
+        AtomicReference<Bucket> bucket = buckets.get(routeId + ':' + id,
+            key -> new AtomicReference<>(new Bucket(capacity, System.nanoTime())));
+        long now = System.nanoTime();
+        while (true) {
+            Bucket current = bucket.get();
+            long elapsed = Math.max(0, now - current.refilledAtNanos());
+            double available = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+            if (available < requested) {
+                long retryAfterSeconds = (long) Math.ceil((requested - available) / config.getReplenishRate());
+                Map<String, String> headers = headers(config, 0);
+                headers.put(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfterSeconds)));
+                return Mono.just(new Response(false, headers));
+            }
+            Bucket next = new Bucket(available - requested, Math.max(now, current.refilledAtNanos()));
+            if (bucket.compareAndSet(current, next)) {
+                return Mono.just(new Response(true, headers(config, (long) next.tokens())));
+            }
+        }
+    }
+
+    private static Map<String, String> headers(Config config, long remaining) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, Long.toString(remaining));
+        headers.put(BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()));
+        headers.put(REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()));
+        return headers;
+    }
+
+    /**
+     * Per-route token-bucket limits.
+     */
+    public static class Config {
+
+        /**
+         * Tokens added to the bucket per second.
+         */
+        private int replenishRate = 10;
+
+        /**
+         * Maximum number of tokens the bucket can hold.
+         */
+        private int burstCapacity = 20;
+
+        /**
+         * Tokens taken by each request.
+         */
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.hcltech.apigatewayservice.ratelimit;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Key resolvers selecting which token bucket of the {@link InMemoryRateLimiter} a request draws from.
+ * <p>
+ * Routes pick one with {@code key-resolver: "#{@beanName}"} in their {@code RequestRateLimiter}
+ * arguments:
+ * <ul>
+ *     <li>{@code clientIpKeyResolver} - one bucket per client IP (default), for public endpoints
+ *     such as login and registration</li>
+ *     <li>{@code principalKeyResolver} - one bucket per JWT subject, falling back to the client IP
+ *     for anonymous requests</li>
+ *     <li>{@code routeKeyResolver} - a single bucket shared by every caller of the route</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The client IP is the socket peer address unless {@code gateway.rate-limiter.trusted-proxies}
+ * is greater than zero, in which case it is read from {@code X-Forwarded-For}, trusting only that
+ * many proxies in front of the gateway, so clients cannot pick their own bucket.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class RateLimitKeyResolversConfig {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    /**
+     * Creates the configuration with the number of trusted proxies.
+     *
+     * @param trustedProxies number of proxies in front of the gateway whose {@code X-Forwarded-For}
+     *                       entries are trusted
+     */
+    public RateLimitKeyResolversConfig(@Value("${gateway.rate-limiter.trusted-proxies:0}") int trustedProxies) {
+        this.remoteAddressResolver = trustedProxies > 0
+            ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+            : new RemoteAddressResolver() { };
+    }
+
+    /**
+     * Resolves the client IP address.
+     *
+     * @return the client IP key resolver
+     */
+    @Bean
+    @Primary
+    public KeyResolver clientIpKeyResolver() {
+        return exchange -> Mono.just(clientIp(exchange));
+    }
+
+    /**
+     * Resolves the authenticated subject, or the client IP for anonymous requests.
+     *
+     * @return the principal key resolver
+     */
+    @Bean
+    public KeyResolver principalKeyResolver() {
+        return exchange -> exchange.getPrincipal()
+            .map(Principal::getName)
+            .map(name -> "user:" + name)
+            .switchIfEmpty(Mono.fromSupplier(() -> "ip:" + clientIp(exchange)));
+    }
+
+    /**
+     * Resolves the route id, so the whole route shares one bucket.
+     *
+     * @return the route key resolver
+     */
+    @Bean
+    public KeyResolver routeKeyResolver() {
+        return exchange -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            return Mono.just(route != null ? route.getId() : UNKNOWN);
+        };
+    }
+
+    private String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress address = remoteAddressResolver.resolve(exchange);
+        if (address == null) {
+            return UNKNOWN;
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
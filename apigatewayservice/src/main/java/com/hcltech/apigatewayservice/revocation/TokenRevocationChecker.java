@@ -0,0 +1,248 @@
+package com.hcltech.apigatewayservice.revocation;
+
+import java.time.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hcltech.commonlib.revocation.RevocationBloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Checks whether an authenticated token has been revoked, e.g. by a logout, before its expiry.
+ * <p>
+ * The auth service publishes a Bloom filter of revoked token IDs ({@code jti} claims). This
+ * component polls it in the background, sending the last entity tag so an unchanged filter
+ * costs a {@code 304}, and checks every token against the in-memory copy:
+ * <ul>
+ *     <li>{@link #mightBeRevoked(String)} hashes the token ID once; a miss is definite and the
+ *     token is accepted without any remote call, which is the case for almost every request</li>
+ *     <li>Only a hit, either a revoked token or a false positive, is confirmed with
+ *     {@link #confirmRevoked(String)} against the auth service. Answers are cached until the
+ *     filter changes or the confirmation TTL passes, and a failed confirmation counts as
+ *     revoked</li>
+ * </ul>
+ * Until the first filter has been loaded no token is treated as revoked, so the gateway starts
+ * without the auth service, and a revocation takes effect within one poll interval.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.revocation.enabled} - whether to poll and check revocations (default true)</li>
+ *     <li>{@code gateway.revocation.poll-interval} - how often the filter is fetched (default 5s)</li>
+ *     <li>{@code gateway.revocation.confirm-ttl} - how long a confirmation is cached (default 30s)</li>
+ *     <li>{@code internal-api.secret} - secret sent in {@code X-Internal-Secret} to the auth
+ *     service's internal endpoints; required</li>
+ * </ul>
+ * Checks are counted in {@code gateway.revocation.checks}, tagged
+ * {@code result=clear|confirmed-clear|revoked|error}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class TokenRevocationChecker implements SmartLifecycle {
+
+    private static final Log log = LogFactory.getLog(TokenRevocationChecker.class);
+
+    private static final String FILTER_URI = "http://AUTHSERVICE/internal/revocations/filter";
+    private static final String STATUS_URI = "http://AUTHSERVICE/internal/revocations/{tokenId}";
+    private static final String INTERNAL_SECRET_HEADER = "X-Internal-Secret";
+
+    /**
+     * Body of the auth service's confirmation endpoint.
+     *
+     * @param tokenId the token ID looked up
+     * @param revoked whether the token has been revoked
+     */
+    record RevocationStatus(String tokenId, boolean revoked) {
+    }
+
+    private final WebClient authClient;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final Cache<String, Boolean> confirmations;
+    private final Counter clear;
+    private final Counter confirmedClear;
+    private final Counter revoked;
+    private final Counter errors;
+
+    private volatile RevocationBloomFilter filter;
+    private volatile String etag;
+    private volatile Disposable polling;
+
+    /**
+     * Creates the checker.
+     *
+     * @param webClientBuilder the shared web client builder
+     * @param loadBalancerFunction resolves the auth service through the load balancer
+     * @param meterRegistry the meter registry
+     * @param enabled whether to poll and check revocations
+     * @param pollInterval how often the filter is fetched
+     * @param confirmTtl how long a confirmation is cached
+     * @param internalSecret the secret authorizing calls to the auth service's internal endpoints
+     */
+    @Autowired
+    public TokenRevocationChecker(WebClient.Builder webClientBuilder,
+                                  LoadBalancedExchangeFilterFunction loadBalancerFunction,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${gateway.revocation.enabled:true}") boolean enabled,
+                                  @Value("${gateway.revocation.poll-interval:5s}") Duration pollInterval,
+                                  @Value("${gateway.revocation.confirm-ttl:30s}") Duration confirmTtl,
+                                  @Value("${internal-api.secret}") String internalSecret) {
+        this(webClientBuilder.clone()
+                .filter(loadBalancerFunction)
+                .defaultHeader(INTERNAL_SECRET_HEADER, internalSecret)
+                .build(),
+            meterRegistry, enabled, pollInterval, confirmTtl);
+    }
+
+    TokenRevocationChecker(WebClient authClient, MeterRegistry meterRegistry, boolean enabled, Duration pollInterval,
+                           Duration confirmTtl) {
+        this.authClient = authClient;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.confirmations = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(confirmTtl)
+            .build();
+        this.clear = counter(meterRegistry, "clear");
+        this.confirmedClear = counter(meterRegistry, "confirmed-clear");
+        this.revoked = counter(meterRegistry, "revoked");
+        this.errors = counter(meterRegistry, "error");
+    }
+
+    /**
+     * Checks the token ID against the in-memory filter.
+     *
+     * @param tokenId the token's {@code jti} claim, may be {@code null} for tokens issued without one
+     * @return {@code false} if the token is definitely not revoked, {@code true} if it must be confirmed
+     */
+    public boolean mightBeRevoked(String tokenId) {
+        RevocationBloomFilter current = filter;
+        if (current == null || tokenId == null || !current.mightContain(tokenId)) {
+            clear.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Confirms a filter hit with the auth service.
+     *
+     * @param tokenId the token's {@code jti} claim
+     * @return whether the token has been revoked; {@code true} if the auth service cannot be asked
+     */
+    public Mono<Boolean> confirmRevoked(String tokenId) {
+        Boolean cached = confirmations.getIfPresent(tokenId);
+        if (cached != null) {
+            return Mono.just(record(cached));
+        }
+        return authClient.get()
+            .uri(STATUS_URI, tokenId)
+            .retrieve()
+            .bodyToMono(RevocationStatus.class)
+            .map(status -> {
+                confirmations.put(tokenId, status.revoked());
+                return record(status.revoked());
+            })
+            .onErrorResume(e -> {
+                log.warn("Could not confirm revocation of token " + tokenId + ": " + e.getMessage());
+                errors.increment();
+                return Mono.just(true);
+            });
+    }
+
+    /**
+     * Fetches the filter once, replacing the in-memory copy if it changed.
+     *
+     * @return completes when the filter is current; errors if it could not be fetched
+     */
+    Mono<Void> poll() {
+        return authClient.get()
+            .uri(FILTER_URI)
+            .headers(headers -> {
+                if (etag != null) {
+                    headers.setIfNoneMatch(etag);
+                }
+            })
+            .exchangeToMono(response -> {
+                if (response.statusCode() == HttpStatus.NOT_MODIFIED) {
+                    return response.releaseBody();
+                }
+                if (!response.statusCode().is2xxSuccessful()) {
+                    return response.createError();
+                }
+                String newEtag = response.headers().asHttpHeaders().getETag();
+                return response.bodyToMono(byte[].class)
+                    .doOnNext(bytes -> install(RevocationBloomFilter.fromBytes(bytes), newEtag))
+                    .then();
+            });
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        polling = Flux.interval(Duration.ZERO, pollInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> poll()
+                .onErrorResume(e -> {
+                    log.warn("Could not fetch the token revocation filter: " + e.getMessage());
+                    return Mono.empty();
+                }), 1)
+            .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = polling;
+        if (current != null) {
+            current.dispose();
+            polling = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return polling != null;
+    }
+
+    private void install(RevocationBloomFilter newFilter, String newEtag) {
+        filter = newFilter;
+        etag = newEtag;
+        // A token confirmed as not revoked may have been revoked since
+        confirmations.invalidateAll();
+        log.debug("Token revocation filter updated: " + newFilter.entries() + " revoked tokens");
+    }
+
+    private boolean record(boolean isRevoked) {
+        (isRevoked ? revoked : confirmedClear).increment();
+        return isRevoked;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.revocation.checks")
+            .description("Token revocation checks by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
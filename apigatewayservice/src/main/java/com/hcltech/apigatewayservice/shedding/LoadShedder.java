@@ -0,0 +1,102 @@
+package com.hcltech.apigatewayservice.shedding;
+
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hcltech.apigatewayservice.loadbalancer.InstanceLoadTracker;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decides whether a request of a given {@link RequestPriority} may be sent downstream.
+ * <p>
+ * The decision uses the gateway's own measurements from the {@link InstanceLoadTracker}: the
+ * number of downstream requests in flight and their time-decayed average latency. The capacity
+ * is {@code max-concurrency} while the average latency stays within {@code latency-target},
+ * and shrinks in proportion once the backend slows down beyond it. A request is admitted while
+ * the requests in flight stay below its class's share of that capacity; critical requests are
+ * always admitted.
+ * </p>
+ * <p>
+ * The capacity and the requests in flight are published as the
+ * {@code gateway.load.shedding.capacity} and {@code gateway.load.shedding.in.flight} gauges.
+ * </p>
+ * <p>
+ * Configuration properties:
+ * <ul>
+ *     <li>{@code gateway.load-shedding.max-concurrency} - capacity while the backend meets the
+ *     latency target (default 200)</li>
+ *     <li>{@code gateway.load-shedding.latency-target} - average downstream latency above which
+ *     the capacity shrinks (default 1s)</li>
+ * </ul>
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class LoadShedder {
+
+    private final IntSupplier inFlight;
+    private final DoubleSupplier latencyNanos;
+    private final int maxConcurrency;
+    private final double latencyTargetNanos;
+
+    /**
+     * Creates the shedder and registers its gauges.
+     *
+     * @param tracker the downstream load measurements
+     * @param maxConcurrency capacity while the backend meets the latency target
+     * @param latencyTarget average latency above which the capacity shrinks
+     * @param registry the meter registry
+     */
+    @Autowired
+    public LoadShedder(InstanceLoadTracker tracker,
+                       @Value("${gateway.load-shedding.max-concurrency:200}") int maxConcurrency,
+                       @Value("${gateway.load-shedding.latency-target:1s}") Duration latencyTarget,
+                       MeterRegistry registry) {
+        this(tracker::totalInFlight, tracker::averageLatencyNanos, maxConcurrency, latencyTarget);
+        Gauge.builder("gateway.load.shedding.capacity", this, LoadShedder::capacity)
+            .description("Downstream requests in flight the gateway currently admits")
+            .register(registry);
+        Gauge.builder("gateway.load.shedding.in.flight", this, shedder -> shedder.inFlight.getAsInt())
+            .description("Downstream requests in flight")
+            .register(registry);
+    }
+
+    LoadShedder(IntSupplier inFlight, DoubleSupplier latencyNanos, int maxConcurrency, Duration latencyTarget) {
+        this.inFlight = inFlight;
+        this.latencyNanos = latencyNanos;
+        this.maxConcurrency = maxConcurrency;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+    }
+
+    /**
+     * Returns whether a request of the given class may be sent downstream now.
+     *
+     * @param priority the class of the request
+     * @return {@code true} to admit, {@code false} to shed
+     */
+    public boolean admit(RequestPriority priority) {
+        return priority == RequestPriority.CRITICAL
+            || inFlight.getAsInt() < capacity() * priority.capacityShare();
+    }
+
+    /**
+     * Returns the current capacity: {@code max-concurrency}, scaled down by how far the average
+     * downstream latency exceeds the target.
+     *
+     * @return the capacity
+     */
+    public double capacity() {
+        double latency = latencyNanos.getAsDouble();
+        return latency <= latencyTargetNanos ? maxConcurrency : maxConcurrency * latencyTargetNanos / latency;
+    }
+}
@@ -0,0 +1,178 @@
+package com.hcltech.apigatewayservice.shedding;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.hcltech.apigatewayservice.config.JsonErrorResponses;
+import com.hcltech.apigatewayservice.config.PublicRoutes;
+import com.hcltech.apigatewayservice.filter.CatalogCacheGatewayFilterFactory;
+import com.hcltech.apigatewayservice.filter.CatalogResponseCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Global filter that sheds low-priority traffic while the backend is saturated.
+ * <p>
+ * Every routed request is classified into a {@link RequestPriority}:
+ * <ul>
+ *     <li>the route's {@code priority} metadata gives the class of the route (default
+ *     {@code standard})</li>
+ *     <li>the route's {@code anonymous-priority} metadata gives the class of requests without a
+ *     principal (default the route's class), so a catalog route can shed anonymous browsing
+ *     while every signed-in caller stays {@code standard}</li>
+ *     <li>the route's {@code role-priorities} metadata maps JWT roles to a class, and the
+ *     highest class among the caller's roles wins if it is above the route's</li>
+ *     <li>{@code POST /api/applications/{id}/submit} is always {@code critical}</li>
+ * </ul>
+ * The {@link LoadShedder} then decides from the measured downstream load whether the class is
+ * admitted. A shed request is answered with a JSON {@code 503} and {@code Retry-After} before any
+ * route filter runs, so it never reaches the rate limiter, counts against a circuit breaker or
+ * gets hedged. Catalog reads the {@link CatalogResponseCache} can answer are admitted anyway,
+ * since they never reach the backend. Each shed request increments
+ * {@code gateway.load.shed}, tagged with its priority.
+ * </p>
+ * <p>
+ * Setting {@code gateway.load-shedding.enabled=false} admits everything.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class LoadSheddingFilter implements GlobalFilter, Ordered {
+
+    /** Route metadata key holding the route's priority class. */
+    public static final String PRIORITY_METADATA = "priority";
+
+    /** Route metadata key holding the priority class of requests without a principal. */
+    public static final String ANONYMOUS_PRIORITY_METADATA = "anonymous-priority";
+
+    /** Route metadata key mapping JWT roles to priority classes. */
+    public static final String ROLE_PRIORITIES_METADATA = "role-priorities";
+
+    private static final PathPattern SUBMIT_PATH = PathPatternParser.defaultInstance.parse("/api/applications/*/submit");
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final boolean enabled;
+    private final LoadShedder shedder;
+    private final CatalogResponseCache catalogCache;
+    private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+
+    /**
+     * Creates the filter and registers its counters.
+     *
+     * @param enabled whether requests are shed at all
+     * @param shedder the admission decision
+     * @param catalogCache the catalog cache whose hits are never shed
+     * @param registry the meter registry
+     */
+    public LoadSheddingFilter(@Value("${gateway.load-shedding.enabled:true}") boolean enabled,
+                              LoadShedder shedder,
+                              CatalogResponseCache catalogCache,
+                              MeterRegistry registry) {
+        this.enabled = enabled;
+        this.shedder = shedder;
+        this.catalogCache = catalogCache;
+        for (RequestPriority priority : RequestPriority.values()) {
+            shed.put(priority, Counter.builder("gateway.load.shed")
+                .description("Requests shed by the gateway under overload")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(registry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!enabled || route == null) {
+            return chain.filter(exchange);
+        }
+        return classify(exchange, route).flatMap(priority -> {
+            if (shedder.admit(priority) || isCached(exchange.getRequest())) {
+                return chain.filter(exchange);
+            }
+            shed.get(priority).increment();
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return JsonErrorResponses.write(exchange, HttpStatus.SERVICE_UNAVAILABLE, "overloaded",
+                "The service is busy, please retry shortly");
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+
+    /**
+     * Resolves the priority class of a routed request.
+     *
+     * @param exchange the current exchange
+     * @param route the matched route
+     * @return the priority class
+     */
+    Mono<RequestPriority> classify(ServerWebExchange exchange, Route route) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() == HttpMethod.POST && SUBMIT_PATH.matches(request.getPath().pathWithinApplication())) {
+            return Mono.just(RequestPriority.CRITICAL);
+        }
+        Map<String, Object> metadata = route.getMetadata();
+        RequestPriority routePriority = RequestPriority.parse(metadata.get(PRIORITY_METADATA), RequestPriority.STANDARD);
+        RequestPriority anonymousPriority = RequestPriority.parse(metadata.get(ANONYMOUS_PRIORITY_METADATA),
+            routePriority);
+        Map<?, ?> rolePriorities = metadata.get(ROLE_PRIORITIES_METADATA) instanceof Map<?, ?> map ? map : Map.of();
+        if (rolePriorities.isEmpty() && anonymousPriority == routePriority) {
+            return Mono.just(routePriority);
+        }
+        return exchange.getPrincipal()
+            .map(principal -> {
+                RequestPriority priority = routePriority;
+                if (!(principal instanceof Authentication authentication)) {
+                    return priority;
+                }
+                for (GrantedAuthority authority : authentication.getAuthorities()) {
+                    RequestPriority rolePriority = rolePriority(rolePriorities, authority.getAuthority());
+                    if (rolePriority != null && rolePriority.compareTo(priority) > 0) {
+                        priority = rolePriority;
+                    }
+                }
+                return priority;
+            })
+            .defaultIfEmpty(anonymousPriority);
+    }
+
+    private static RequestPriority rolePriority(Map<?, ?> rolePriorities, String authority) {
+        for (Map.Entry<?, ?> entry : rolePriorities.entrySet()) {
+            String role = String.valueOf(entry.getKey());
+            if (authority.equals(role.startsWith("ROLE_") ? role : "ROLE_" + role)) {
+                return RequestPriority.parse(entry.getValue(), null);
+            }
+        }
+        return null;
+    }
+
+    private boolean isCached(ServerHttpRequest request) {
+        return PublicRoutes.isCatalogRead(request)
+            && catalogCache.get(CatalogCacheGatewayFilterFactory.cacheKey(request)) != null;
+    }
+}
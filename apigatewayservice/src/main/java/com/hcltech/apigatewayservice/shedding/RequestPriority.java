@@ -0,0 +1,64 @@
+package com.hcltech.apigatewayservice.shedding;
+
+import java.util.Locale;
+
+/**
+ * Priority classes of proxied requests, from the first shed to the never shed.
+ * <p>
+ * Each class is admitted while the downstream requests in flight stay below its share of the
+ * current capacity computed by {@link LoadShedder}, so as the backend saturates the gateway
+ * sheds anonymous catalog browsing first, then documentation proxying, then regular traffic,
+ * and never critical requests.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public enum RequestPriority {
+
+    /** Anonymous catalog browsing. */
+    BROWSING(0.5),
+
+    /** Swagger and api-docs proxying. */
+    DOCS(0.7),
+
+    /** Regular authenticated traffic. */
+    STANDARD(0.9),
+
+    /** Admin review and application submission, which are never shed. */
+    CRITICAL(Double.POSITIVE_INFINITY);
+
+    private final double capacityShare;
+
+    RequestPriority(double capacityShare) {
+        this.capacityShare = capacityShare;
+    }
+
+    /**
+     * Returns the share of the capacity this class may use.
+     *
+     * @return the share, infinite for {@link #CRITICAL}
+     */
+    public double capacityShare() {
+        return capacityShare;
+    }
+
+    /**
+     * Parses a priority from route metadata, case-insensitively.
+     *
+     * @param value the metadata value
+     * @param fallback the priority to use when the value is missing or unknown
+     * @return the priority
+     */
+    public static RequestPriority parse(Object value, RequestPriority fallback) {
+        if (value instanceof String text) {
+            try {
+                return valueOf(text.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                // unknown class, keep the fallback
+            }
+        }
+        return fallback;
+    }
+}
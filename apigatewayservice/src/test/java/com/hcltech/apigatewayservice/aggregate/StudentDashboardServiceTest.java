@@ -0,0 +1,130 @@
+package com.hcltech.apigatewayservice.aggregate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StudentDashboardService.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class StudentDashboardServiceTest {
+
+    private static final String STUDENT = "{\"id\":\"s-1\",\"firstName\":\"Ada\"}";
+    private static final String APPLICATIONS = "[{\"applicationId\":\"a-1\",\"universityId\":\"u-1\"},"
+            + "{\"applicationId\":\"a-2\",\"universityId\":\"u-2\"},"
+            + "{\"applicationId\":\"a-3\",\"universityId\":\"u-1\"}]";
+
+    private Map<String, Mono<ClientResponse>> responses;
+    private List<String> requestedPaths;
+    private List<String> forwardedAuthorizations;
+    private StudentDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        responses = new ConcurrentHashMap<>();
+        requestedPaths = new CopyOnWriteArrayList<>();
+        forwardedAuthorizations = new CopyOnWriteArrayList<>();
+        responses.put("/api/students/me", json(STUDENT));
+        responses.put("/api/applications/students/s-1", json(APPLICATIONS));
+        responses.put("/api/universities/u-1", json("{\"id\":\"u-1\",\"name\":\"One\"}"));
+        responses.put("/api/universities/u-2", json("{\"id\":\"u-2\",\"name\":\"Two\"}"));
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedPaths.add(request.url().getPath());
+                    forwardedAuthorizations.add(request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+                    return responses.getOrDefault(request.url().getPath(),
+                            Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+                })
+                .build();
+        service = new StudentDashboardService(webClient, Duration.ofMillis(500), Duration.ofMillis(500),
+                Duration.ofMillis(200), 8);
+    }
+
+    /**
+     * Test that all legs are merged and each distinct university is fetched once.
+     */
+    @Test
+    void testLoad_MergesAndDeduplicatesUniversities() {
+        StudentDashboard dashboard = service.load("Bearer token", "").block();
+
+        assertFalse(dashboard.partial());
+        assertTrue(dashboard.failures().isEmpty());
+        assertEquals("Ada", dashboard.student().path("firstName").asText());
+        assertEquals(3, dashboard.applications().size());
+        assertEquals(List.of("u-1", "u-2"), List.copyOf(dashboard.universities().keySet()));
+        assertEquals(1, requestedPaths.stream().filter("/api/universities/u-1"::equals).count());
+        assertTrue(forwardedAuthorizations.stream().allMatch("Bearer token"::equals));
+    }
+
+    /**
+     * Test that a slow university leg times out and is reported without failing the dashboard.
+     */
+    @Test
+    void testLoad_UniversityTimeoutGivesPartialResult() {
+        responses.put("/api/universities/u-2", Mono.never());
+
+        StudentDashboard dashboard = service.load("Bearer token", "").block();
+
+        assertTrue(dashboard.partial());
+        assertEquals(Map.of("university:u-2", "timeout"), dashboard.failures());
+        assertEquals(List.of("u-1"), List.copyOf(dashboard.universities().keySet()));
+        assertEquals(3, dashboard.applications().size());
+    }
+
+    /**
+     * Test that a failed applications leg still returns the student.
+     */
+    @Test
+    void testLoad_ApplicationsFailureGivesPartialResult() {
+        responses.put("/api/applications/students/s-1",
+                Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()));
+
+        StudentDashboard dashboard = service.load("Bearer token", "").block();
+
+        assertTrue(dashboard.partial());
+        assertEquals(Map.of("applications", "status 503"), dashboard.failures());
+        assertNull(dashboard.applications());
+        assertTrue(dashboard.universities().isEmpty());
+        assertEquals("s-1", dashboard.student().path("id").asText());
+    }
+
+    /**
+     * Test that a failed student leg fails the whole request with the downstream client status.
+     */
+    @Test
+    void testLoad_StudentFailurePropagatesStatus() {
+        responses.put("/api/students/me", Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.load("Bearer token", "").block());
+
+        assertEquals(404, e.getStatusCode().value());
+        assertEquals(List.of("/api/students/me"), requestedPaths);
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}
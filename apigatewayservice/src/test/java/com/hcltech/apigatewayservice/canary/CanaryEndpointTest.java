@@ -0,0 +1,99 @@
+package com.hcltech.apigatewayservice.canary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CanaryEndpoint.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class CanaryEndpointTest {
+
+    private static final ServiceInstance STABLE_1 = instance("stable-1", "UNIVERSITYSERVICE", "1.0.0");
+    private static final ServiceInstance STABLE_2 = instance("stable-2", "UNIVERSITYSERVICE", "1.0.0");
+    private static final ServiceInstance CANARY = instance("canary", "UNIVERSITYSERVICE", "1.1.0");
+
+    private SimpleMeterRegistry registry;
+    private VersionLatencyFilter filter;
+    private CanaryEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new VersionLatencyFilter(registry);
+        endpoint = new CanaryEndpoint(registry,
+                new CanaryReleases(Map.of("universityservice", new CanaryReleases.CanaryRelease("1.1.0", 10))));
+    }
+
+    /**
+     * Test that the endpoint reports each version's requests, error rate and latency next to the canary.
+     */
+    @Test
+    void testCompare_ComparesVersions() {
+        for (int i = 0; i < 9; i++) {
+            filter.record(STABLE_1, Duration.ofMillis(10).toNanos(), false);
+        }
+        filter.record(STABLE_2, Duration.ofMillis(10).toNanos(), true);
+        filter.record(CANARY, Duration.ofMillis(40).toNanos(), false);
+        filter.record(CANARY, Duration.ofMillis(40).toNanos(), true);
+
+        Map<String, CanaryEndpoint.ServiceComparison> comparison = endpoint.compare();
+
+        CanaryEndpoint.ServiceComparison university = comparison.get("universityservice");
+        assertEquals("1.1.0", university.canary().version());
+        CanaryEndpoint.VersionStats stable = university.versions().get("1.0.0");
+        CanaryEndpoint.VersionStats canary = university.versions().get("1.1.0");
+        assertEquals(10, stable.requests());
+        assertEquals(0.1, stable.errorRate(), 1e-9);
+        assertEquals(10, stable.meanMillis(), 1e-6);
+        assertEquals(0.5, canary.errorRate(), 1e-9);
+        assertEquals(40, canary.meanMillis(), 1e-6);
+        assertTrue(canary.p99Millis() > stable.p99Millis());
+    }
+
+    /**
+     * Test that a configured canary without traffic and a service without a canary are both reported.
+     */
+    @Test
+    void testCompare_CanaryWithoutTrafficAndServiceWithoutCanary() {
+        filter.record(instance("student-1", "STUDENTSERVICE", "2.0.0"), Duration.ofMillis(5).toNanos(), false);
+
+        Map<String, CanaryEndpoint.ServiceComparison> comparison = endpoint.compare();
+
+        assertTrue(comparison.get("universityservice").versions().isEmpty());
+        CanaryEndpoint.ServiceComparison student = comparison.get("studentservice");
+        assertNull(student.canary());
+        assertEquals(1, student.versions().get("2.0.0").requests());
+        assertEquals(0, student.versions().get("2.0.0").errorRate());
+    }
+
+    /**
+     * Test that a version seen only with errors is reported without latencies.
+     */
+    @Test
+    void testCompare_OnlyErrors() {
+        filter.record(CANARY, Duration.ofMillis(40).toNanos(), true);
+
+        CanaryEndpoint.VersionStats canary = endpoint.compare().get("universityservice").versions().get("1.1.0");
+
+        assertEquals(1, canary.requests());
+        assertEquals(1.0, canary.errorRate(), 1e-9);
+        assertEquals(0, canary.p99Millis());
+    }
+
+    private static ServiceInstance instance(String host, String serviceId, String version) {
+        return new DefaultServiceInstance(host + "-1", serviceId, host, 8083, false,
+                Map.of(CanaryReleases.VERSION_METADATA, version));
+    }
+}
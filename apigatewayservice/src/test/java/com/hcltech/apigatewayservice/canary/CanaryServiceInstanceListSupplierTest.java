@@ -0,0 +1,66 @@
+package com.hcltech.apigatewayservice.canary;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CanaryServiceInstanceListSupplier.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class CanaryServiceInstanceListSupplierTest {
+
+    private static final ServiceInstance STABLE_1 = instance("stable-1", "1.0.0");
+    private static final ServiceInstance STABLE_2 = instance("stable-2", "1.0.0");
+    private static final ServiceInstance CANARY = instance("canary", "1.1.0");
+
+    private final CanaryReleases releases = new CanaryReleases(
+            Map.of("universityservice", new CanaryReleases.CanaryRelease("1.1.0", 10)));
+
+    /**
+     * Test that draws below the percentage go to the canary and the rest to the stable instances.
+     */
+    @Test
+    void testSelect_SplitsByPercent() {
+        AtomicReference<Double> draw = new AtomicReference<>(0.05);
+        CanaryServiceInstanceListSupplier supplier = supplier("UNIVERSITYSERVICE", draw, STABLE_1, CANARY, STABLE_2);
+
+        assertEquals(List.of(CANARY), supplier.get().blockFirst());
+        draw.set(0.5);
+        assertEquals(List.of(STABLE_1, STABLE_2), supplier.get().blockFirst());
+    }
+
+    /**
+     * Test that all instances are returned when one version has none up or the service has no canary.
+     */
+    @Test
+    void testSelect_FallsBackToAllInstances() {
+        AtomicReference<Double> draw = new AtomicReference<>(0.05);
+
+        assertEquals(List.of(STABLE_1, STABLE_2),
+                supplier("UNIVERSITYSERVICE", draw, STABLE_1, STABLE_2).get().blockFirst());
+        assertEquals(List.of(CANARY), supplier("UNIVERSITYSERVICE", draw, CANARY).get().blockFirst());
+        assertEquals(List.of(STABLE_1, CANARY), supplier("STUDENTSERVICE", draw, STABLE_1, CANARY).get().blockFirst());
+    }
+
+    private CanaryServiceInstanceListSupplier supplier(String serviceId, AtomicReference<Double> draw,
+                                                       ServiceInstance... instances) {
+        return new CanaryServiceInstanceListSupplier(ServiceInstanceListSuppliers.from(serviceId, instances),
+                releases, draw::get);
+    }
+
+    private static ServiceInstance instance(String host, String version) {
+        return new DefaultServiceInstance(host + "-1", "UNIVERSITYSERVICE", host, 8083, false,
+                Map.of(CanaryReleases.VERSION_METADATA, version));
+    }
+}
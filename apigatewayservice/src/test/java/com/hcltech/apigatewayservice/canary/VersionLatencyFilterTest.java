@@ -0,0 +1,106 @@
+package com.hcltech.apigatewayservice.canary;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VersionLatencyFilter.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class VersionLatencyFilterTest {
+
+    private static final ServiceInstance CANARY = new DefaultServiceInstance("canary-1", "UNIVERSITYSERVICE",
+            "canary", 8083, false, Map.of(CanaryReleases.VERSION_METADATA, "1.1.0"));
+
+    private SimpleMeterRegistry registry;
+    private VersionLatencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new VersionLatencyFilter(registry);
+    }
+
+    /**
+     * Test that a successful exchange is recorded against the version of the chosen instance.
+     */
+    @Test
+    void testFilter_RecordsSuccessPerVersion() {
+        MockServerWebExchange exchange = routed(CANARY);
+
+        filter.filter(exchange, e -> Mono.delay(Duration.ofMillis(20)).then(Mono.fromRunnable(
+                () -> e.getResponse().setStatusCode(HttpStatus.OK)))).block();
+
+        Timer timer = timer("1.1.0", "success");
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 20);
+        assertEquals("universityservice", timer.getId().getTag("service"));
+    }
+
+    /**
+     * Test that server errors and failures are recorded as errors.
+     */
+    @Test
+    void testFilter_RecordsServerErrorsAndFailures() {
+        filter.filter(routed(CANARY), e -> Mono.fromRunnable(
+                () -> e.getResponse().setStatusCode(HttpStatus.BAD_GATEWAY))).block();
+        assertThrows(IllegalStateException.class, () -> filter.filter(routed(CANARY),
+                e -> Mono.error(new IllegalStateException("connection refused"))).block());
+
+        assertEquals(2, timer("1.1.0", "error").count());
+        assertNull(registry.find(VersionLatencyFilter.METRIC).tag("outcome", "success").timer());
+    }
+
+    /**
+     * Test that cancelled exchanges, such as a losing hedge attempt, and unrouted exchanges are not recorded.
+     */
+    @Test
+    void testFilter_SkipsCancelledAndUnrouted() {
+        filter.filter(routed(CANARY), e -> Mono.never()).subscribe().dispose();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/fallback/unavailable")),
+                e -> Mono.empty()).block();
+
+        assertTrue(registry.find(VersionLatencyFilter.METRIC).timers().isEmpty());
+    }
+
+    /**
+     * Test that an instance without version metadata is recorded as unknown.
+     */
+    @Test
+    void testRecord_UnknownVersion() {
+        filter.record(new DefaultServiceInstance("s-1", "STUDENTSERVICE", "s", 8081, false),
+                Duration.ofMillis(5).toNanos(), false);
+
+        assertEquals(1, timer(VersionLatencyFilter.UNKNOWN_VERSION, "success").count());
+    }
+
+    private Timer timer(String version, String outcome) {
+        return registry.get(VersionLatencyFilter.METRIC).tag("version", version).tag("outcome", outcome).timer();
+    }
+
+    private static MockServerWebExchange routed(ServiceInstance instance) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                new DefaultResponse(instance));
+        return exchange;
+    }
+}
@@ -0,0 +1,210 @@
+package com.hcltech.apigatewayservice.circuitbreaker;
+
+import com.hcltech.apigatewayservice.filter.BufferedResponse;
+import com.hcltech.apigatewayservice.filter.CatalogResponseCache;
+import com.hcltech.apigatewayservice.filter.HedgeGatewayFilterFactory;
+import com.hcltech.apigatewayservice.loadbalancer.InstanceLoadTracker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.SpringCloudCircuitBreakerFilterFactory;
+import org.springframework.cloud.gateway.filter.factory.SpringCloudCircuitBreakerResilience4JFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.DispatcherHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CircuitBreakerFallbackController.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class CircuitBreakerFallbackControllerTest {
+
+    private CatalogResponseCache cache;
+    private CircuitBreakerFallbackController controller;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CatalogResponseCache(DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), DataSize.ofMegabytes(1));
+        controller = new CircuitBreakerFallbackController(cache);
+    }
+
+    /**
+     * Test that the last good catalog response is served as stale, even after its TTL.
+     */
+    @Test
+    void testCatalog_ServesLastGoodResponse() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_TYPE, "application/json");
+        cache.put("/api/universities/1?page=0",
+                BufferedResponse.of(HttpStatus.OK, headers, "{\"id\":1}".getBytes(StandardCharsets.UTF_8)),
+                Duration.ZERO);
+        MockServerWebExchange exchange = forwarded(MockServerHttpRequest.get("/fallback/catalog"),
+                "http://localhost/api/universities/1?page=0");
+
+        controller.catalog(exchange).block();
+
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("STALE", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("{\"id\":1}", exchange.getResponse().getBodyAsString().block());
+    }
+
+    /**
+     * Test that a catalog request without a last good response gets the JSON 503.
+     */
+    @Test
+    void testCatalog_NothingCached_Returns503() {
+        MockServerWebExchange exchange = forwarded(MockServerHttpRequest.get("/fallback/catalog"),
+                "http://localhost/api/universities/2");
+
+        controller.catalog(exchange).block();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertTrue(exchange.getResponse().getBodyAsString().block().contains("\"error\":\"service_unavailable\""));
+    }
+
+    /**
+     * Test that a non-GET catalog request is never answered from the cache.
+     */
+    @Test
+    void testCatalog_NonGet_Returns503() {
+        cache.put("/api/universities/1",
+                BufferedResponse.of(HttpStatus.OK, new HttpHeaders(), new byte[0]), Duration.ofMinutes(1));
+        MockServerWebExchange exchange = forwarded(MockServerHttpRequest.post("/fallback/catalog"),
+                "http://localhost/api/universities/1");
+
+        controller.catalog(exchange).block();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+    }
+
+    /**
+     * Test that a timed out call is reported as a JSON 504.
+     */
+    @Test
+    void testUnavailable_Timeout_Returns504() {
+        MockServerWebExchange exchange = forwarded(MockServerHttpRequest.get("/fallback/unavailable"),
+                "http://localhost/api/applications/1");
+        exchange.getAttributes().put(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR,
+                new TimeoutException());
+
+        controller.unavailable(exchange).block();
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exchange.getResponse().getStatusCode());
+        assertTrue(exchange.getResponse().getBodyAsString().block().contains("\"error\":\"gateway_timeout\""));
+    }
+
+    /**
+     * Test that a response committed before the breaker tripped is left untouched.
+     */
+    @Test
+    void testUnavailable_CommittedResponse_LeftAsIs() {
+        MockServerWebExchange exchange = forwarded(MockServerHttpRequest.get("/fallback/unavailable"),
+                "http://localhost/api/applications/1");
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().setComplete().block();
+
+        assertDoesNotThrow(() -> controller.unavailable(exchange).block());
+        assertDoesNotThrow(() -> controller.catalog(exchange).block());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+    }
+
+    /**
+     * Test that a 5xx from the instance behind a hedged route trips the breaker and is replaced by the fallback.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHedgedRoute_ServerError_ServesFallback() {
+        ServiceInstance primary = new DefaultServiceInstance("a", "STUDENTSERVICE", "primary", 8081, false);
+        ServiceInstance other = new DefaultServiceInstance("b", "STUDENTSERVICE", "other", 8082, false);
+        ServiceInstanceListSupplier supplier = mock(ServiceInstanceListSupplier.class);
+        when(supplier.get()).thenAnswer(invocation -> Flux.just(List.of(primary, other)));
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstance("STUDENTSERVICE", ServiceInstanceListSupplier.class)).thenReturn(supplier);
+        HedgeGatewayFilterFactory.Config hedgeConfig = new HedgeGatewayFilterFactory.Config();
+        hedgeConfig.setMaxDelay(Duration.ofSeconds(5));
+        GatewayFilter hedge = new HedgeGatewayFilterFactory(clientFactory,
+                new InstanceLoadTracker(Duration.ofSeconds(10), Duration.ofSeconds(1)), new SimpleMeterRegistry())
+                .apply(hedgeConfig);
+
+        DispatcherHandler dispatcherHandler = mock(DispatcherHandler.class);
+        when(dispatcherHandler.handle(any())).thenAnswer(invocation -> controller.unavailable(invocation.getArgument(0)));
+        ObjectProvider<DispatcherHandler> dispatcherProvider = mock(ObjectProvider.class);
+        when(dispatcherProvider.getIfAvailable()).thenReturn(dispatcherHandler);
+        SpringCloudCircuitBreakerFilterFactory.Config breakerConfig = new SpringCloudCircuitBreakerFilterFactory.Config()
+                .setName("student-service-route")
+                .setFallbackUri("forward:/fallback/unavailable")
+                .setStatusCodes(Set.of("503"));
+        GatewayFilter breaker = new SpringCloudCircuitBreakerResilience4JFilterFactory(
+                new ReactiveResilience4JCircuitBreakerFactory(CircuitBreakerRegistry.ofDefaults(),
+                        TimeLimiterRegistry.ofDefaults()), dispatcherProvider)
+                .apply(breakerConfig);
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/students/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("student-service-route")
+                .uri(URI.create("lb://STUDENTSERVICE"))
+                .predicate(e -> true)
+                .build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(primary));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                URI.create("http://primary:8081/students/1"));
+
+        breaker.filter(exchange, e -> hedge.filter(e, this::serverError)).block(Duration.ofSeconds(5));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertNull(exchange.getResponse().getHeaders().getFirst("X-Upstream"));
+        assertTrue(exchange.getResponse().getBodyAsString().block().contains("\"error\":\"service_unavailable\""));
+    }
+
+    /**
+     * Stands in for the routing filter with an instance answering 503.
+     */
+    private Mono<Void> serverError(ServerWebExchange attempt) {
+        ServerWebExchangeUtils.setAlreadyRouted(attempt);
+        attempt.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        attempt.getResponse().getHeaders().set("X-Upstream", "student-service");
+        attempt.getAttributes().put(ServerWebExchangeUtils.CLIENT_RESPONSE_HEADER_NAMES, Set.of("X-Upstream"));
+        return Mono.empty();
+    }
+
+    private static MockServerWebExchange forwarded(MockServerHttpRequest.BaseBuilder<?> request, String original) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR,
+                new LinkedHashSet<>(List.of(URI.create(original))));
+        return exchange;
+    }
+}
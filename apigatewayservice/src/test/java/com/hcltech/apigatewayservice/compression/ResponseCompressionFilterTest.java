@@ -0,0 +1,161 @@
+package com.hcltech.apigatewayservice.compression;
+
+import com.github.luben.zstd.ZstdInputStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResponseCompressionFilter.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class ResponseCompressionFilterTest {
+
+    private static final String ROW = "{\"id\":\"3f0c\",\"status\":\"SUBMITTED\",\"course\":\"Computer Science\"},";
+
+    private SimpleMeterRegistry registry;
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new ResponseCompressionFilter(true, List.of("zstd", "gzip"), DataSize.ofKilobytes(2),
+                List.of(MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN), 6, 3, registry);
+    }
+
+    /**
+     * Test that a large chunked JSON list is gzip-compressed as it streams and the ratio is recorded.
+     */
+    @Test
+    void testLargeChunkedBody_GzipStreamed() throws IOException {
+        String body = "[" + ROW.repeat(20_000) + "{}]";
+        AtomicInteger chunksWritten = new AtomicInteger();
+        MockServerWebExchange exchange = exchange("gzip, deflate");
+
+        filter.filter(exchange, downstream(MediaType.APPLICATION_JSON, -1, chunks(body, 8192)
+                .doOnNext(chunk -> chunksWritten.incrementAndGet()))).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+        assertEquals("W/\"v1\"", headers.getETag());
+        byte[] compressed = bytes(exchange);
+        assertEquals(body, read(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+        assertTrue(chunksWritten.get() > 1);
+        double ratio = registry.get("gateway.compression.ratio").tag("codec", "gzip").summary().mean();
+        assertTrue(ratio > 0 && ratio < 0.1, "ratio " + ratio);
+        assertEquals(body.length(), registry.get("gateway.compression.bytes").tag("stage", "original")
+                .counter().count());
+        assertEquals(1, registry.get("gateway.compression.cpu").tag("codec", "gzip").timer().count());
+    }
+
+    /**
+     * Test that zstd is preferred when the client accepts it.
+     */
+    @Test
+    void testZstdAccepted_Preferred() throws IOException {
+        assertTrue(CompressionCodec.ZSTD.isAvailable());
+        String body = "[" + ROW.repeat(1_000) + "{}]";
+        MockServerWebExchange exchange = exchange("gzip, br, zstd");
+
+        filter.filter(exchange, downstream(MediaType.APPLICATION_JSON, body.length(), chunks(body, 4096))).block();
+
+        assertEquals("zstd", exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNull(exchange.getResponse().getHeaders().get(HttpHeaders.CONTENT_LENGTH));
+        assertEquals(body, read(new ZstdInputStream(new ByteArrayInputStream(bytes(exchange)))));
+    }
+
+    /**
+     * Test that small bodies, with or without a length, and other content types are sent as they are.
+     */
+    @Test
+    void testSmallOrUnlistedBodies_NotCompressed() {
+        String small = "[" + ROW.repeat(10) + "{}]";
+        MockServerWebExchange unknownLength = exchange("gzip");
+        filter.filter(unknownLength, downstream(MediaType.APPLICATION_JSON, -1, chunks(small, 100))).block();
+        MockServerWebExchange knownLength = exchange("gzip");
+        filter.filter(knownLength, downstream(MediaType.APPLICATION_JSON, small.length(), chunks(small, 100))).block();
+        MockServerWebExchange image = exchange("gzip");
+        filter.filter(image, downstream(MediaType.IMAGE_PNG, -1, chunks(ROW.repeat(1_000), 4096))).block();
+
+        for (MockServerWebExchange exchange : List.of(unknownLength, knownLength, image)) {
+            assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        }
+        assertEquals(small, unknownLength.getResponse().getBodyAsString().block());
+        assertEquals(2, registry.get("gateway.compression.skipped").tag("reason", "small").counter().count());
+        assertEquals(1, registry.get("gateway.compression.skipped").tag("reason", "type").counter().count());
+    }
+
+    /**
+     * Test that Accept-Encoding quality values are honoured.
+     */
+    @Test
+    void testNegotiate_HonoursQuality() {
+        assertEquals(CompressionCodec.GZIP, filter.negotiate(List.of("zstd;q=0, gzip;q=0.5")));
+        assertEquals(CompressionCodec.ZSTD, filter.negotiate(List.of("*")));
+        assertNull(filter.negotiate(List.of("br, identity")));
+        assertNull(filter.negotiate(null));
+    }
+
+    private static MockServerWebExchange exchange(String acceptEncoding) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/applications")
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+    }
+
+    private static GatewayFilterChain downstream(MediaType contentType, long contentLength, Flux<DataBuffer> body) {
+        return exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(contentType);
+            exchange.getResponse().getHeaders().setETag("\"v1\"");
+            if (contentLength >= 0) {
+                exchange.getResponse().getHeaders().setContentLength(contentLength);
+            }
+            return exchange.getResponse().writeWith(body);
+        };
+    }
+
+    private static Flux<DataBuffer> chunks(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(bytes, i * chunkSize, Math.min(bytes.length, (i + 1) * chunkSize))));
+    }
+
+    private static byte[] bytes(MockServerWebExchange exchange) {
+        DataBuffer joined = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        return bytes;
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.hcltech.apigatewayservice.config;
+
+import com.hcltech.apigatewayservice.revocation.TokenRevocationChecker;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JwtAuthManagerConfig and the public routes it never sees.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class JwtAuthManagerConfigTest {
+
+    private JwtUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveAuthenticationManager authManager;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JwtUtil.class);
+        meterRegistry = new SimpleMeterRegistry();
+        authManager = new JwtAuthManagerConfig(jwtUtil, new VerifiedTokenCache(100, Duration.ofMinutes(10)),
+                mock(TokenRevocationChecker.class), meterRegistry).reactiveAuthenticationManager();
+    }
+
+    /**
+     * Test that a token is verified once and then served from the verified-token cache.
+     */
+    @Test
+    void testAuthenticate_VerifiesOncePerToken() {
+        when(jwtUtil.parse("token")).thenReturn(new JwtClaimsView("test@example.com", List.of("STUDENT"),
+                new Date(System.currentTimeMillis() + 60_000), Map.of()));
+
+        Authentication first = authManager.authenticate(bearer("token")).block();
+        Authentication second = authManager.authenticate(bearer("token")).block();
+
+        verify(jwtUtil, times(1)).parse("token");
+        assertEquals("test@example.com", second.getName());
+        assertEquals(List.of("ROLE_STUDENT"),
+                first.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertEquals(1, meterRegistry.get("gateway.jwt.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("gateway.jwt.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    /**
+     * Test that malformed and expired tokens are rejected and never cached.
+     */
+    @Test
+    void testAuthenticate_InvalidTokensRejected() {
+        when(jwtUtil.parse("malformed")).thenThrow(new MalformedJwtException("bad"));
+        when(jwtUtil.parse("expired")).thenReturn(new JwtClaimsView("test@example.com", List.of(),
+                new Date(System.currentTimeMillis() - 1), Map.of()));
+
+        assertThrows(BadCredentialsException.class, () -> authManager.authenticate(bearer("malformed")).block());
+        assertThrows(BadCredentialsException.class, () -> authManager.authenticate(bearer("expired")).block());
+        assertThrows(BadCredentialsException.class, () -> authManager.authenticate(bearer("expired")).block());
+
+        verify(jwtUtil, times(2)).parse("expired");
+    }
+
+    /**
+     * Test that the public-route matcher covers catalog reads and actuator health, but not catalog
+     * writes, private routes or the other actuator endpoints.
+     */
+    @Test
+    void testPublicRoutes_Matcher() {
+        assertTrue(isPublic(HttpMethod.GET, "/api/universities/7/courses"));
+        assertTrue(isPublic(HttpMethod.POST, "/api/auth/login"));
+        assertTrue(isPublic(HttpMethod.GET, "/actuator/health"));
+        assertFalse(isPublic(HttpMethod.POST, "/api/universities"));
+        assertFalse(isPublic(HttpMethod.GET, "/api/students/7"));
+        assertFalse(isPublic(HttpMethod.GET, "/actuator/prometheus"));
+        assertFalse(isPublic(HttpMethod.GET, "/actuator/circuitbreakers"));
+        assertFalse(isPublic(HttpMethod.GET, "/actuator/canary"));
+    }
+
+    private static Authentication bearer(String token) {
+        return new UsernamePasswordAuthenticationToken(null, token);
+    }
+
+    private static boolean isPublic(HttpMethod method, String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(method, path));
+        return PublicRoutes.matcher().matches(exchange).block().isMatch();
+    }
+}
@@ -0,0 +1,103 @@
+package com.hcltech.apigatewayservice.config;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * JMH benchmark comparing the rule lookup of the old {@code pathMatchers(...)} chain with the
+ * compiled {@link PathAuthorizationTable}.
+ * <p>
+ * {@link #matcherChain()} evaluates the path matchers in order the way Spring Security's
+ * delegating authorization manager does, and {@link #compiledTable()} is the table lookup that
+ * replaced it. {@code request} picks a rule early in the chain, a public catalog read and a
+ * request that falls through to {@code anyExchange}; {@code extraRoutes} adds that many
+ * role-protected service routes ahead of the fallback to show how each approach scales.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathAuthorizationBenchmark {
+
+    @Param({"GET /actuator/health", "GET /api/universities/7/courses", "POST /api/applications/7/submit"})
+    public String request;
+
+    @Param({"0", "50"})
+    public int extraRoutes;
+
+    private MockServerWebExchange exchange;
+    private List<ServerWebExchangeMatcher> chain;
+    private PathAuthorizationTable<ReactiveAuthorizationManager<AuthorizationContext>> table;
+
+    @Setup
+    public void setUp() {
+        String[] parts = request.split(" ");
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.valueOf(parts[0]),
+                URI.create("http://localhost" + parts[1])));
+
+        List<PathAuthorizationTable.Rule<ReactiveAuthorizationManager<AuthorizationContext>>> rules =
+                SecurityConfig.authorizationRules().rules();
+        PathAuthorizationTable.Builder<ReactiveAuthorizationManager<AuthorizationContext>> builder =
+                PathAuthorizationTable.builder();
+        chain = new ArrayList<>();
+        for (PathAuthorizationTable.Rule<ReactiveAuthorizationManager<AuthorizationContext>> rule
+                : rules.subList(0, rules.size() - 1)) {
+            builder.rule(rule.method(), rule.decision(), rule.patterns().toArray(String[]::new));
+            chain.add(ServerWebExchangeMatchers.pathMatchers(rule.method(), rule.patterns().toArray(String[]::new)));
+        }
+        for (int i = 0; i < extraRoutes; i++) {
+            String[] patterns = {"/api/service" + i + "/**"};
+            builder.rule(rules.get(rules.size() - 2).decision(), patterns);
+            chain.add(ServerWebExchangeMatchers.pathMatchers(patterns));
+        }
+        table = builder.anyExchange(rules.get(rules.size() - 1).decision());
+        chain.add(ServerWebExchangeMatchers.anyExchange());
+    }
+
+    @Benchmark
+    public Object matcherChain() {
+        return Flux.fromIterable(chain)
+                .concatMap(matcher -> matcher.matches(exchange))
+                .filter(ServerWebExchangeMatcher.MatchResult::isMatch)
+                .next()
+                .block();
+    }
+
+    @Benchmark
+    public Object compiledTable() {
+        return table.decide(exchange);
+    }
+}
@@ -0,0 +1,183 @@
+package com.hcltech.apigatewayservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PathAuthorizationTable, checking that the compiled table picks the same rule
+ * as the equivalent chain of Spring Security path matchers.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class PathAuthorizationTableTest {
+
+    private static final List<HttpMethod> METHODS = List.of(
+            HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.OPTIONS,
+            HttpMethod.valueOf("PROPFIND"));
+
+    /**
+     * Test that the gateway rules decide every generated request like the matcher chain.
+     */
+    @Test
+    void testGatewayRules_EquivalentToMatcherChain() {
+        PathAuthorizationTable<?> table = SecurityConfig.authorizationRules();
+        List<String> vocabulary = new ArrayList<>(literalSegments(table));
+        vocabulary.addAll(List.of("x", "1", "API", "", "x;p=1", "%61pi", ";p"));
+
+        List<String> paths = new ArrayList<>(List.of("", "/"));
+        paths.addAll(exhaustivePaths(vocabulary, 2));
+        paths.addAll(randomPaths(vocabulary, 5, 5000, new Random(42)));
+
+        assertEquivalent(table, paths);
+    }
+
+    /**
+     * Test the decisions of representative requests against today's rules.
+     */
+    @Test
+    void testGatewayRules_RepresentativeDecisions() {
+        PathAuthorizationTable<?> table = SecurityConfig.authorizationRules();
+
+        assertEquals(List.of(PublicRoutes.CATALOG_GET_PATHS), patterns(table, HttpMethod.GET, "/api/universities/7/courses"));
+        assertEquals(List.of("/api/admins/**", "/api/universities/**", "/api/courses/**"),
+                patterns(table, HttpMethod.POST, "/api/universities/7/courses"));
+        assertEquals(List.of(PublicRoutes.AUTH_PATHS), patterns(table, HttpMethod.POST, "/api/auth/login"));
+        assertEquals(List.of("/api/auth/**"), patterns(table, HttpMethod.GET, "/api/auth/me"));
+        assertEquals(List.of("/fallback/**"), patterns(table, HttpMethod.OPTIONS, "/fallback/catalog"));
+        assertEquals(List.of("/**"), patterns(table, HttpMethod.OPTIONS, "/api/applications/1"));
+        assertEquals(List.of("/api/dashboard/**"), patterns(table, HttpMethod.GET, "/api/dashboard/me"));
+        assertEquals(List.of(PublicRoutes.DOCS_PATHS), patterns(table, HttpMethod.GET, "/actuator/health"));
+        assertEquals(List.of(PublicRoutes.DOCS_PATHS), patterns(table, HttpMethod.GET, "/actuator/health/liveness"));
+        assertEquals(List.of("/actuator/**"), patterns(table, HttpMethod.GET, "/actuator/prometheus"));
+        assertEquals(List.of("/actuator/**"), patterns(table, HttpMethod.GET, "/actuator/canary"));
+        assertEquals(table.rules().size() - 1, index(table, HttpMethod.POST, "/api/dashboard/me"));
+        assertEquals(table.rules().size() - 1, index(table, HttpMethod.POST, "/api/applications/1/submit"));
+    }
+
+    /**
+     * Test single-segment wildcards, trailing wildcards, empty segments and method limits
+     * against the matcher chain.
+     */
+    @Test
+    void testWildcardSemantics_EquivalentToMatcherChain() {
+        PathAuthorizationTable<String> table = PathAuthorizationTable.<String>builder()
+                .rule(HttpMethod.GET, "get-a-star-c", "/a/*/c")
+                .rule("a-star", "/a/*")
+                .rule(HttpMethod.POST, "post-a-rest", "/a/**")
+                .rule("star-b", "/*/b", "/*/*/b/**")
+                .rule("a-b", "/a/b")
+                .rule("star", "/*")
+                .anyExchange("any");
+
+        List<String> paths = new ArrayList<>(List.of("", "/"));
+        paths.addAll(exhaustivePaths(List.of("a", "b", "c", "", ";p", "%61"), 4));
+
+        assertEquivalent(table, paths);
+    }
+
+    /**
+     * Test that pattern syntax the table cannot compile exactly is rejected.
+     */
+    @Test
+    void testUnsupportedPatterns_Rejected() {
+        for (String pattern : List.of("api/**", "/", "/a/{id}", "/a/**/b", "/a//b", "/a/b*", "/a/?")) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> PathAuthorizationTable.<String>builder().rule("x", pattern).anyExchange("any"),
+                    pattern);
+        }
+    }
+
+    private static void assertEquivalent(PathAuthorizationTable<?> table, List<String> paths) {
+        List<ServerWebExchangeMatcher> chain = new ArrayList<>();
+        for (PathAuthorizationTable.Rule<?> rule : table.rules()) {
+            chain.add(ServerWebExchangeMatchers.pathMatchers(rule.method(), rule.patterns().toArray(String[]::new)));
+        }
+        for (String path : paths) {
+            for (HttpMethod method : METHODS) {
+                MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(method, uri(path)));
+                int expected = chain.size() - 1;
+                for (int i = 0; i < chain.size(); i++) {
+                    if (chain.get(i).matches(exchange).block().isMatch()) {
+                        expected = i;
+                        break;
+                    }
+                }
+                assertEquals(expected, table.ruleIndex(method, exchange.getRequest().getPath().pathWithinApplication()),
+                        method + " " + path);
+            }
+        }
+    }
+
+    private static int index(PathAuthorizationTable<?> table, HttpMethod method, String path) {
+        return table.ruleIndex(method, MockServerHttpRequest.method(method, uri(path)).build().getPath().pathWithinApplication());
+    }
+
+    private static List<String> patterns(PathAuthorizationTable<?> table, HttpMethod method, String path) {
+        return table.rules().get(index(table, method, path)).patterns();
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost" + path);
+    }
+
+    private static Set<String> literalSegments(PathAuthorizationTable<?> table) {
+        Set<String> segments = new LinkedHashSet<>();
+        for (PathAuthorizationTable.Rule<?> rule : table.rules()) {
+            for (String pattern : rule.patterns()) {
+                for (String segment : pattern.substring(1).split("/")) {
+                    if (!segment.contains("*")) {
+                        segments.add(segment);
+                    }
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static List<String> exhaustivePaths(List<String> vocabulary, int depth) {
+        List<String> paths = new ArrayList<>();
+        List<String> level = List.of("");
+        for (int d = 1; d <= depth; d++) {
+            List<String> next = new ArrayList<>();
+            for (String prefix : level) {
+                for (String segment : vocabulary) {
+                    next.add(prefix + "/" + segment);
+                }
+            }
+            paths.addAll(next);
+            level = next;
+        }
+        return paths;
+    }
+
+    private static List<String> randomPaths(List<String> vocabulary, int maxDepth, int count, Random random) {
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder path = new StringBuilder();
+            int depth = 1 + random.nextInt(maxDepth);
+            for (int d = 0; d < depth; d++) {
+                path.append('/').append(vocabulary.get(random.nextInt(vocabulary.size())));
+            }
+            if (random.nextInt(4) == 0) {
+                path.append('/');
+            }
+            paths.add(path.toString());
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hcltech.apigatewayservice.config;
+
+import com.hcltech.apigatewayservice.config.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VerifiedTokenCache.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100, Duration.ofMinutes(10));
+
+    /**
+     * Test that a stored verification is returned for the same token only.
+     */
+    @Test
+    void testGet_SameTokenOnly() {
+        VerifiedToken verified = verified(System.currentTimeMillis() + 60_000);
+
+        cache.put("token-a", verified);
+
+        assertSame(verified, cache.get("token-a"));
+        assertNull(cache.get("token-b"));
+    }
+
+    /**
+     * Test that a token past its own expiry is never served, even within the cache TTL.
+     */
+    @Test
+    void testGet_ExpiredTokenNotServed() {
+        cache.put("token-a", verified(System.currentTimeMillis() - 1));
+
+        assertNull(cache.get("token-a"));
+    }
+
+    private static VerifiedToken verified(long expiresAtMillis) {
+        return new VerifiedToken("test@example.com", List.of(new SimpleGrantedAuthority("ROLE_STUDENT")),
+                expiresAtMillis, "token-id");
+    }
+}
@@ -0,0 +1,128 @@
+package com.hcltech.apigatewayservice.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogCacheGatewayFilterFactory.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class CatalogCacheGatewayFilterFactoryTest {
+
+    private static final String BODY = "[{\"id\":\"1\",\"name\":\"HCL University\"}]";
+
+    private GatewayFilter filter;
+    private AtomicInteger downstreamCalls;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        CatalogResponseCache cache = new CatalogResponseCache(DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+                DataSize.ofMegabytes(1));
+        CatalogCacheGatewayFilterFactory.Config config = new CatalogCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofMinutes(1));
+        filter = new CatalogCacheGatewayFilterFactory(cache).apply(config);
+
+        downstreamCalls = new AtomicInteger();
+        chain = exchange -> {
+            downstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    /**
+     * Test that the second identical catalog GET is served from the cache.
+     */
+    @Test
+    void testCatalogGet_SecondRequestIsHit() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities"));
+
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+        assertNotNull(first.getResponse().getHeaders().getETag());
+        assertEquals(first.getResponse().getHeaders().getETag(), second.getResponse().getHeaders().getETag());
+    }
+
+    /**
+     * Test that a matching If-None-Match is answered with 304 and no body.
+     */
+    @Test
+    void testCatalogGet_IfNoneMatchReturnsNotModified() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/courses/42"));
+        filter.filter(first, chain).block();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/courses/42")
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(second, chain).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getResponse().getStatusCode());
+        assertEquals(etag, second.getResponse().getHeaders().getETag());
+        assertEquals("", second.getResponse().getBodyAsString().defaultIfEmpty("").block());
+    }
+
+    /**
+     * Test that query strings are part of the cache key.
+     */
+    @Test
+    void testCatalogGet_DifferentQueryIsMiss() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/courses?page=1")), chain).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/courses?page=2")), chain).block();
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    /**
+     * Test that non-catalog paths on the same route are never cached.
+     */
+    @Test
+    void testNonCatalogGet_NotCached() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/admin/7")), chain).block();
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/admin/7"));
+        filter.filter(second, chain).block();
+
+        assertEquals(2, downstreamCalls.get());
+        assertNull(second.getResponse().getHeaders().getFirst("X-Cache"));
+    }
+
+    /**
+     * Test that a successful write empties the cache.
+     */
+    @Test
+    void testWrite_InvalidatesCache() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities")), chain).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.put("/api/universities/1")), chain).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities")), chain).block();
+
+        assertEquals(3, downstreamCalls.get());
+    }
+}
@@ -0,0 +1,133 @@
+package com.hcltech.apigatewayservice.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CoalesceGetsGatewayFilterFactory.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class CoalesceGetsGatewayFilterFactoryTest {
+
+    private CoalesceGetsGatewayFilterFactory factory;
+    private GatewayFilter filter;
+    private AtomicInteger downstreamCalls;
+    private Sinks.Empty<Void> gate;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        factory = new CoalesceGetsGatewayFilterFactory();
+        filter = factory.apply(new Object());
+        downstreamCalls = new AtomicInteger();
+        gate = Sinks.empty();
+        chain = exchange -> {
+            int call = downstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            return gate.asMono().then(Mono.defer(() -> {
+                response.setStatusCode(HttpStatus.OK);
+                byte[] body = ("response-" + call).getBytes(StandardCharsets.UTF_8);
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+            }));
+        };
+    }
+
+    /**
+     * Test that concurrent identical GETs share one downstream call and its response.
+     */
+    @Test
+    void testConcurrentIdenticalGets_Coalesced() {
+        List<MockServerWebExchange> exchanges = List.of(
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1")),
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1")),
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1")));
+
+        List<Mono<Void>> results = exchanges.stream().map(e -> filter.filter(e, chain).cache()).toList();
+        results.forEach(Mono::subscribe);
+        assertEquals(1, factory.inFlightCount());
+
+        gate.tryEmitEmpty();
+        results.forEach(Mono::block);
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals(0, factory.inFlightCount());
+        for (MockServerWebExchange exchange : exchanges) {
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+            assertEquals("response-1", exchange.getResponse().getBodyAsString().block());
+        }
+    }
+
+    /**
+     * Test that different query strings and different principals are not coalesced.
+     */
+    @Test
+    void testDifferentKeys_NotCoalesced() {
+        Principal alice = () -> "alice@example.com";
+        List<MockServerWebExchange> exchanges = List.of(
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/courses?page=1")),
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/courses?page=2")),
+                MockServerWebExchange.builder(MockServerHttpRequest.get("/api/courses?page=1"))
+                        .principal(alice).build());
+
+        List<Mono<Void>> results = exchanges.stream().map(e -> filter.filter(e, chain).cache()).toList();
+        results.forEach(Mono::subscribe);
+        gate.tryEmitEmpty();
+        results.forEach(Mono::block);
+
+        assertEquals(3, downstreamCalls.get());
+    }
+
+    /**
+     * Test that sequential GETs are not served from a completed call.
+     */
+    @Test
+    void testSequentialGets_NotCoalesced() {
+        gate.tryEmitEmpty();
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1")), chain).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1")), chain).block();
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    /**
+     * Test that waiting requests make their own call when the leader fails.
+     */
+    @Test
+    void testLeaderFailure_FollowersFallBack() {
+        AtomicInteger calls = new AtomicInteger();
+        GatewayFilterChain failingFirst = exchange -> calls.incrementAndGet() == 1
+                ? gate.asMono().then(Mono.error(new IllegalStateException("connection reset")))
+                : chain.filter(exchange);
+        MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1"));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1"));
+
+        Mono<Void> leaderResult = filter.filter(leader, failingFirst).cache();
+        Mono<Void> followerResult = filter.filter(follower, failingFirst).cache();
+        leaderResult.subscribe(v -> { }, e -> { });
+        followerResult.subscribe();
+        gate.tryEmitEmpty();
+        followerResult.block();
+
+        assertEquals(2, calls.get());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+    }
+}
@@ -0,0 +1,288 @@
+package com.hcltech.apigatewayservice.filter;
+
+import com.hcltech.apigatewayservice.canary.CanaryReleases;
+import com.hcltech.apigatewayservice.canary.CanaryServiceInstanceListSupplier;
+import com.hcltech.apigatewayservice.loadbalancer.InstanceLoadTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for HedgeGatewayFilterFactory.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class HedgeGatewayFilterFactoryTest {
+
+    private static final ServiceInstance PRIMARY =
+            new DefaultServiceInstance("a", "UNIVERSITYSERVICE", "primary", 8081, false);
+    private static final ServiceInstance OTHER =
+            new DefaultServiceInstance("b", "UNIVERSITYSERVICE", "other", 8082, false);
+
+    private Map<String, Mono<Void>> downstream;
+    private List<URI> requestedUrls;
+    private AtomicBoolean primaryCancelled;
+    private SimpleMeterRegistry meterRegistry;
+    private HedgeGatewayFilterFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        downstream = new ConcurrentHashMap<>();
+        requestedUrls = new CopyOnWriteArrayList<>();
+        primaryCancelled = new AtomicBoolean();
+        meterRegistry = new SimpleMeterRegistry();
+
+        ServiceInstanceListSupplier supplier = mock(ServiceInstanceListSupplier.class);
+        when(supplier.get()).thenAnswer(invocation -> Flux.just(List.of(PRIMARY, OTHER)));
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstance("UNIVERSITYSERVICE", ServiceInstanceListSupplier.class)).thenReturn(supplier);
+
+        factory = new HedgeGatewayFilterFactory(clientFactory,
+                new InstanceLoadTracker(Duration.ofSeconds(10), Duration.ofSeconds(1)), meterRegistry);
+    }
+
+    /**
+     * Test that a slow first request is hedged through the chain and the faster hedge response is handed back.
+     */
+    @Test
+    void testSlowPrimary_HedgeWinsAndPrimaryCancelled() {
+        downstream.put("primary", Mono.<Void>never().doOnCancel(() -> primaryCancelled.set(true)));
+        downstream.put("other", Mono.empty());
+        MockServerWebExchange exchange = exchange();
+
+        filter(100).filter(exchange, this::route).block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(URI.create("http://primary:8081/universities/1?page=2"),
+                URI.create("http://other:8082/universities/1?page=2")), requestedUrls);
+        assertTrue(primaryCancelled.get());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("other", exchange.getResponse().getHeaders().getFirst("X-Instance"));
+        assertFalse(exchange.getResponse().isCommitted());
+        Response<ServiceInstance> chosen =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        assertSame(OTHER, chosen.getServer());
+        assertTrue(ServerWebExchangeUtils.isAlreadyRouted(exchange));
+        assertEquals(1, meterRegistry.counter("gateway.hedge.requests",
+                "route", "university-service-route", "outcome", "hedge").count());
+    }
+
+    /**
+     * Test that the hedge stays within the primary's version even though the canary split is drawn per call.
+     */
+    @Test
+    void testCanaryRelease_HedgesWithinPrimaryVersion() {
+        ServiceInstance stable = versioned("stable", 8081, "1.0.0");
+        ServiceInstance canary = versioned("canary", 8082, "1.1.0");
+        ServiceInstance otherStable = versioned("other-stable", 8083, "1.0.0");
+        CanaryReleases releases = new CanaryReleases(new MockEnvironment()
+                .withProperty("gateway.canary.services.universityservice.version", "1.1.0")
+                .withProperty("gateway.canary.services.universityservice.percent", "100"));
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstance("UNIVERSITYSERVICE", ServiceInstanceListSupplier.class))
+                .thenReturn(new CanaryServiceInstanceListSupplier(
+                        ServiceInstanceListSuppliers.from("UNIVERSITYSERVICE", stable, canary, otherStable), releases));
+        factory = new HedgeGatewayFilterFactory(clientFactory,
+                new InstanceLoadTracker(Duration.ofSeconds(10), Duration.ofSeconds(1)), meterRegistry);
+        downstream.put("stable", Mono.never());
+        downstream.put("other-stable", Mono.empty());
+        downstream.put("canary", Mono.empty());
+        MockServerWebExchange exchange = exchange();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(stable));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                URI.create("http://stable:8081/universities/1?page=2"));
+
+        filter(100).filter(exchange, this::route).block(Duration.ofSeconds(5));
+
+        assertEquals(URI.create("http://other-stable:8083/universities/1?page=2"), requestedUrls.get(1));
+        assertEquals("other-stable", exchange.getResponse().getHeaders().getFirst("X-Instance"));
+    }
+
+    /**
+     * Test that a fast first request is handed back without sending a hedge.
+     */
+    @Test
+    void testFastPrimary_NoHedge() {
+        downstream.put("primary", Mono.empty());
+        MockServerWebExchange exchange = exchange();
+
+        filter(100).filter(exchange, this::route).block(Duration.ofSeconds(5));
+
+        assertEquals(1, requestedUrls.size());
+        assertEquals("primary", exchange.getResponse().getHeaders().getFirst("X-Instance"));
+        assertEquals(1, meterRegistry.counter("gateway.hedge.requests",
+                "route", "university-service-route", "outcome", "primary").count());
+    }
+
+    /**
+     * Test that no hedge is sent once the hedge budget is exhausted.
+     */
+    @Test
+    void testBudgetExhausted_NoHedge() {
+        downstream.put("primary", Mono.delay(Duration.ofMillis(150)).then());
+        downstream.put("other", Mono.empty());
+        MockServerWebExchange exchange = exchange();
+
+        filter(0).filter(exchange, this::route).block(Duration.ofSeconds(5));
+
+        assertEquals(1, requestedUrls.size());
+        assertEquals("primary", exchange.getResponse().getHeaders().getFirst("X-Instance"));
+        assertEquals(1, meterRegistry.counter("gateway.hedge.requests",
+                "route", "university-service-route", "outcome", "budget_exhausted").count());
+    }
+
+    /**
+     * Test that non-GET requests and requests the load balancer did not route are passed down the chain untouched.
+     */
+    @Test
+    void testNonGetOrNotLoadBalanced_PassesThrough() {
+        AtomicInteger chainCalls = new AtomicInteger();
+        GatewayFilterChain chain = e -> {
+            chainCalls.incrementAndGet();
+            assertFalse(e instanceof HedgeAttemptExchange);
+            return Mono.empty();
+        };
+        MockServerWebExchange post = MockServerWebExchange.from(MockServerHttpRequest.post("/api/universities"));
+        post.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+        post.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(PRIMARY));
+        MockServerWebExchange notBalanced = exchange();
+        notBalanced.getAttributes().remove(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+
+        filter(100).filter(post, chain).block();
+        filter(100).filter(notBalanced, chain).block();
+
+        assertEquals(2, chainCalls.get());
+    }
+
+    /**
+     * Test that the filter runs right after the load balancer, wherever it is listed.
+     */
+    @Test
+    void testOrder_AfterLoadBalancer() {
+        GatewayFilter filter = filter(100);
+
+        assertInstanceOf(Ordered.class, filter);
+        assertEquals(HedgeGatewayFilterFactory.HEDGE_FILTER_ORDER, ((Ordered) filter).getOrder());
+    }
+
+    /**
+     * Test that slow primaries losing to their hedges over and over do not drag the hedge delay
+     * below their real latency.
+     */
+    @Test
+    void testSlowPrimaryLosing_DelayKeepsPrimaryLatency() {
+        AtomicInteger primaryRequests = new AtomicInteger();
+        Duration slowLatency = Duration.ofMillis(60);
+        downstream.put("primary", Mono.defer(() -> Mono.delay(primaryRequests.incrementAndGet() % 10 == 0
+                ? slowLatency : Duration.ofMillis(2)).then()));
+        downstream.put("other", Mono.empty());
+        HedgeGatewayFilterFactory.Config config = new HedgeGatewayFilterFactory.Config();
+        config.setBudgetPercent(100);
+        config.setMaxDelay(Duration.ofMillis(50));
+        LatencyPercentiles latencies = new LatencyPercentiles(config.getPercentile());
+        GatewayFilter filter = factory.apply(config, latencies);
+
+        for (int i = 0; i < 200; i++) {
+            filter.filter(exchange(), this::route).block(Duration.ofSeconds(5));
+        }
+
+        assertTrue(meterRegistry.counter("gateway.hedge.requests",
+                "route", "university-service-route", "outcome", "hedge").count() >= 15);
+        Duration expected = slowLatency.compareTo(config.getMaxDelay()) < 0 ? slowLatency : config.getMaxDelay();
+        assertEquals(expected, HedgeGatewayFilterFactory.hedgeDelay(config, latencies));
+    }
+
+    /**
+     * Test that the hedge delay follows the latency percentile within its bounds.
+     */
+    @Test
+    void testHedgeDelay_PercentileClamped() {
+        HedgeGatewayFilterFactory.Config config = new HedgeGatewayFilterFactory.Config();
+        LatencyPercentiles latencies = new LatencyPercentiles(90);
+
+        assertEquals(config.getMaxDelay(), HedgeGatewayFilterFactory.hedgeDelay(config, latencies));
+
+        for (int i = 1; i <= 100; i++) {
+            latencies.record(Duration.ofMillis(i).toNanos());
+        }
+        assertEquals(Duration.ofMillis(90), HedgeGatewayFilterFactory.hedgeDelay(config, latencies));
+
+        config.setMaxDelay(Duration.ofMillis(40));
+        assertEquals(Duration.ofMillis(40), HedgeGatewayFilterFactory.hedgeDelay(config, latencies));
+    }
+
+    private GatewayFilter filter(double budgetPercent) {
+        HedgeGatewayFilterFactory.Config config = new HedgeGatewayFilterFactory.Config();
+        config.setBudgetPercent(budgetPercent);
+        config.setMaxDelay(Duration.ofMillis(50));
+        return factory.apply(config);
+    }
+
+    /**
+     * Stands in for the routing filter: answers each attempt from the instance it was sent to.
+     */
+    private Mono<Void> route(ServerWebExchange attempt) {
+        URI url = attempt.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        requestedUrls.add(url);
+        ServerWebExchangeUtils.setAlreadyRouted(attempt);
+        return downstream.get(url.getHost()).then(Mono.fromRunnable(() -> {
+            attempt.getResponse().setStatusCode(HttpStatus.OK);
+            attempt.getResponse().getHeaders().set("X-Instance", url.getHost());
+        }));
+    }
+
+    private static ServiceInstance versioned(String host, int port, String version) {
+        return new DefaultServiceInstance(host, "UNIVERSITYSERVICE", host, port, false,
+                Map.of(CanaryReleases.VERSION_METADATA, version));
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1?page=2"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(PRIMARY));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                URI.create("http://primary:8081/universities/1?page=2"));
+        return exchange;
+    }
+
+    private static Route route() {
+        return Route.async()
+                .id("university-service-route")
+                .uri(URI.create("lb://UNIVERSITYSERVICE"))
+                .predicate(exchange -> true)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.hcltech.apigatewayservice.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MirrorGatewayFilterFactory.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class MirrorGatewayFilterFactoryTest {
+
+    private SimpleMeterRegistry registry;
+    private List<ClientRequest> shadowRequests;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        shadowRequests = new CopyOnWriteArrayList<>();
+        chain = exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        };
+    }
+
+    /**
+     * Test that a sampled GET is copied to the shadow target and the status difference is recorded.
+     */
+    @Test
+    void testSampledGet_MirroredAndDiffRecorded() {
+        GatewayFilter filter = filter(request -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()),
+                0.0, Duration.ofSeconds(1));
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/applications/7?page=2").header("Authorization", "Bearer t"));
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        ClientRequest shadow = shadowRequests.get(0);
+        assertEquals(URI.create("http://APPLICATIONSERVICE-SHADOW/api/applications/7?page=2"), shadow.url());
+        assertEquals("Bearer t", shadow.headers().getFirst("Authorization"));
+        assertEquals("true", shadow.headers().getFirst(MirrorGatewayFilterFactory.SHADOW_HEADER));
+        assertEquals(1, registry.get("gateway.mirror.requests")
+                .tag("primary_status", "200").tag("shadow_status", "500").counter().count());
+        assertEquals(1, registry.get("gateway.mirror.latency").tag("target", "shadow").timer().count());
+    }
+
+    /**
+     * Test that a shadow that never answers does not delay the primary response and is recorded as a timeout.
+     */
+    @Test
+    void testHangingShadow_PrimaryNotDelayed() throws InterruptedException {
+        GatewayFilter filter = filter(request -> Mono.never(), 0.0, Duration.ofMillis(100));
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities/1")), chain)
+                .block(Duration.ofMillis(50));
+
+        assertEquals(0, registry.find("gateway.mirror.requests").counters().size());
+        Thread.sleep(300);
+        assertEquals(1, registry.get("gateway.mirror.requests").tag("shadow_status", "timeout").counter().count());
+    }
+
+    /**
+     * Test that writes and unsampled requests are never mirrored.
+     */
+    @Test
+    void testWritesAndUnsampled_NotMirrored() {
+        filter(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()), 0.0, Duration.ofSeconds(1))
+                .filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/applications/7/submit")), chain)
+                .block();
+        filter(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()), 0.99, Duration.ofSeconds(1))
+                .filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/applications/7")), chain)
+                .block();
+
+        assertTrue(shadowRequests.isEmpty());
+    }
+
+    private GatewayFilter filter(Function<ClientRequest, Mono<ClientResponse>> shadow, double draw, Duration timeout) {
+        WebClient client = WebClient.builder()
+                .exchangeFunction(request -> {
+                    shadowRequests.add(request);
+                    return shadow.apply(request);
+                })
+                .build();
+        MirrorGatewayFilterFactory.Config config = new MirrorGatewayFilterFactory.Config();
+        config.setUri(URI.create("lb://APPLICATIONSERVICE-SHADOW"));
+        config.setPercent(5);
+        config.setTimeout(timeout);
+        return new MirrorGatewayFilterFactory(client, registry, () -> draw).apply(config);
+    }
+}
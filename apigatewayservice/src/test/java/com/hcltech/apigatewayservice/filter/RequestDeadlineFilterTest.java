@@ -0,0 +1,94 @@
+package com.hcltech.apigatewayservice.filter;
+
+import com.hcltech.commonlib.deadline.RequestDeadline;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestDeadlineFilter.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class RequestDeadlineFilterTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(true, Duration.ofSeconds(3));
+
+    /**
+     * Test that the deadline follows the route's response timeout and replaces a client-supplied one.
+     */
+    @Test
+    void testRouteTimeout_StampsDeadline() {
+        long before = System.currentTimeMillis();
+
+        String header = forwardedDeadline(Map.of(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, 5000), "1");
+
+        long deadline = RequestDeadline.parse(header);
+        assertTrue(deadline >= before + 5000 && deadline <= System.currentTimeMillis() + 5000);
+    }
+
+    /**
+     * Test that routes without a response timeout get the default budget.
+     */
+    @Test
+    void testNoRouteTimeout_DefaultBudget() {
+        long before = System.currentTimeMillis();
+
+        long deadline = RequestDeadline.parse(forwardedDeadline(Map.of(), null));
+
+        assertTrue(deadline >= before + 3000 && deadline <= System.currentTimeMillis() + 3000);
+    }
+
+    /**
+     * Test that a client-supplied deadline is dropped when the filter is disabled.
+     */
+    @Test
+    void testDisabled_RemovesClientDeadline() {
+        RequestDeadlineFilter disabled = new RequestDeadlineFilter(false, Duration.ofSeconds(3));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/students/me")
+                .header(RequestDeadline.HEADER, "1"));
+        AtomicReference<String> forwarded = new AtomicReference<>("unset");
+
+        disabled.filter(exchange, e -> {
+            forwarded.set(e.getRequest().getHeaders().getFirst(RequestDeadline.HEADER));
+            return Mono.empty();
+        }).block();
+
+        assertNull(forwarded.get());
+    }
+
+    private String forwardedDeadline(Map<String, Object> metadata, String clientDeadline) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/applications/1");
+        if (clientDeadline != null) {
+            request.header(RequestDeadline.HEADER, clientDeadline);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("application-service-route")
+                .uri(URI.create("lb://APPLICATIONSERVICE"))
+                .predicate(e -> true)
+                .metadata(metadata)
+                .build());
+        AtomicReference<String> forwarded = new AtomicReference<>();
+
+        filter.filter(exchange, e -> {
+            forwarded.set(e.getRequest().getHeaders().getFirst(RequestDeadline.HEADER));
+            return Mono.empty();
+        }).block();
+
+        return forwarded.get();
+    }
+}
@@ -0,0 +1,227 @@
+package com.hcltech.apigatewayservice.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ValidateBodyGatewayFilterFactory and RequestBodySchemas.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class ValidateBodyGatewayFilterFactoryTest {
+
+    private static final String SPEC = """
+            {"openapi":"3.0.1","info":{"title":"studentservice","version":"v0"},
+             "paths":{
+              "/api/students/register":{"post":{"requestBody":{"content":{"application/json":
+                {"schema":{"$ref":"#/components/schemas/StudentRequestDTO"}}},"required":true}}},
+              "/api/students/{id}":{"put":{"requestBody":{"content":{"application/json":
+                {"schema":{"$ref":"#/components/schemas/StudentRequestDTO"}}},"required":true}}},
+              "/api/students/{id}/status":{"put":{"parameters":[]}}},
+             "components":{"schemas":{
+              "StudentRequestDTO":{"required":["email","firstName","gender"],"type":"object","properties":{
+                "firstName":{"maxLength":50,"minLength":1,"type":"string"},
+                "email":{"type":"string","format":"email"},
+                "phoneNumber":{"pattern":"^\\\\+?[1-9]\\\\d{1,14}$","type":"string"},
+                "gender":{"type":"string","enum":["MALE","FEMALE","OTHER"]},
+                "address":{"type":"string","nullable":true}}}}}}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry registry;
+    private AtomicInteger specFetches;
+    private List<String> routedBodies;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        specFetches = new AtomicInteger();
+        routedBodies = new ArrayList<>();
+        chain = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+                .doOnNext(buffer -> routedBodies.add(buffer.toString(StandardCharsets.UTF_8)))
+                .then(Mono.fromRunnable(() -> exchange.getResponse().setStatusCode(HttpStatus.CREATED)));
+    }
+
+    /**
+     * Test that a body violating the schema is rejected with every violation and never routed.
+     */
+    @Test
+    void testInvalidBody_RejectedAtEdge() throws Exception {
+        MockServerWebExchange exchange = post("/api/students/register",
+                "{\"firstName\":\"\",\"email\":\"not-an-email\",\"phoneNumber\":\"abc\",\"address\":null}");
+
+        filter(DataSize.ofKilobytes(64)).filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode());
+        assertTrue(routedBodies.isEmpty());
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertEquals("invalid_request", body.get("error").asText());
+        List<String> fields = new ArrayList<>();
+        body.get("violations").forEach(violation -> fields.add(violation.get("field").asText()));
+        assertTrue(fields.containsAll(List.of("/firstName", "/email", "/phoneNumber", "/gender")), fields.toString());
+        assertEquals(1, registry.get("gateway.validation.rejected").tag("reason", "invalid").counter().count());
+    }
+
+    /**
+     * Test that a valid body is routed unchanged and the document is fetched and compiled only once.
+     */
+    @Test
+    void testValidBody_RoutedUnchanged() {
+        GatewayFilter filter = filter(DataSize.ofKilobytes(64));
+        String valid = "{\"firstName\":\"Ada\",\"email\":\"ada@example.com\",\"gender\":\"FEMALE\"}";
+
+        MockServerWebExchange register = post("/api/students/register", valid);
+        filter.filter(register, chain).block();
+        MockServerWebExchange update = MockServerWebExchange.from(MockServerHttpRequest.put("/api/students/42")
+                .contentType(MediaType.APPLICATION_JSON).body(valid));
+        filter.filter(update, chain).block();
+
+        assertEquals(HttpStatus.CREATED, register.getResponse().getStatusCode());
+        assertEquals(List.of(valid, valid), routedBodies);
+        assertEquals(1, specFetches.get());
+    }
+
+    /**
+     * Test that malformed JSON and oversized bodies are rejected, and operations without a JSON body pass.
+     */
+    @Test
+    void testMalformedOversizedAndUnlisted() {
+        GatewayFilter filter = filter(DataSize.ofBytes(64));
+
+        MockServerWebExchange malformed = post("/api/students/register", "{\"firstName\":");
+        filter.filter(malformed, chain).block();
+        MockServerWebExchange oversized = post("/api/students/register",
+                "{\"firstName\":\"" + "a".repeat(100) + "\"}");
+        filter.filter(oversized, chain).block();
+        MockServerWebExchange unlisted = MockServerWebExchange.from(MockServerHttpRequest.put("/api/students/42/status")
+                .contentType(MediaType.APPLICATION_JSON).body("{}"));
+        filter.filter(unlisted, chain).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, malformed.getResponse().getStatusCode());
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, oversized.getResponse().getStatusCode());
+        assertEquals(HttpStatus.CREATED, unlisted.getResponse().getStatusCode());
+        assertEquals(List.of("{}"), routedBodies);
+    }
+
+    /**
+     * Test that requests pass through unvalidated while the document cannot be fetched.
+     */
+    @Test
+    void testSpecUnavailable_FailsOpen() {
+        WebClient failing = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+                .build();
+        ValidateBodyGatewayFilterFactory.Config config = new ValidateBodyGatewayFilterFactory.Config();
+        config.setSpec(URI.create("lb://STUDENTSERVICE/studentservice/v3/api-docs"));
+        GatewayFilter filter = new ValidateBodyGatewayFilterFactory(failing, objectMapper, registry).apply(config);
+
+        MockServerWebExchange exchange = post("/api/students/register", "{\"firstName\":\"\"}");
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.CREATED, exchange.getResponse().getStatusCode());
+        assertEquals(List.of("{\"firstName\":\"\"}"), routedBodies);
+    }
+
+    /**
+     * Test that requests are validated against the last good document while it is refreshed
+     * in the background and after the refresh fails.
+     */
+    @Test
+    void testRefresh_ServesLastGoodCopy() {
+        List<Sinks.One<ClientResponse>> fetches = new ArrayList<>();
+        WebClient client = WebClient.builder()
+                .exchangeFunction(request -> {
+                    Sinks.One<ClientResponse> fetch = Sinks.one();
+                    fetches.add(fetch);
+                    return fetch.asMono();
+                })
+                .build();
+        ValidateBodyGatewayFilterFactory.Config config = new ValidateBodyGatewayFilterFactory.Config();
+        config.setSpec(URI.create("lb://STUDENTSERVICE/studentservice/v3/api-docs"));
+        config.setRefresh(Duration.ZERO);
+        GatewayFilter filter = new ValidateBodyGatewayFilterFactory(client, objectMapper, registry).apply(config);
+
+        MockServerWebExchange first = post("/api/students/register", "{}");
+        filter.filter(first, chain).subscribe();
+        fetches.get(0).tryEmitValue(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(SPEC)
+                .build());
+        MockServerWebExchange refreshing = post("/api/students/register", "{}");
+        filter.filter(refreshing, chain).block(Duration.ofSeconds(1));
+        fetches.get(1).tryEmitValue(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        MockServerWebExchange failed = post("/api/students/register", "{}");
+        filter.filter(failed, chain).block(Duration.ofSeconds(1));
+
+        assertEquals(HttpStatus.BAD_REQUEST, first.getResponse().getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, refreshing.getResponse().getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, failed.getResponse().getStatusCode());
+        assertEquals(2, fetches.size());
+        assertTrue(routedBodies.isEmpty());
+    }
+
+    /**
+     * Test that a buffer limit hit further down the chain is not mistaken for an oversized request body.
+     */
+    @Test
+    void testDownstreamLimit_NotRejectedAsTooLarge() {
+        MockServerWebExchange exchange = post("/api/students/register",
+                "{\"firstName\":\"Ada\",\"email\":\"ada@example.com\",\"gender\":\"FEMALE\"}");
+
+        assertThrows(DataBufferLimitException.class, () -> filter(DataSize.ofKilobytes(64))
+                .filter(exchange, e -> Mono.error(new DataBufferLimitException("response too large"))).block());
+        assertNotEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        assertTrue(registry.find("gateway.validation.rejected").counters().isEmpty());
+    }
+
+    private GatewayFilter filter(DataSize maxBodySize) {
+        WebClient client = WebClient.builder()
+                .exchangeFunction(request -> {
+                    specFetches.incrementAndGet();
+                    assertEquals(URI.create("http://STUDENTSERVICE/studentservice/v3/api-docs"), request.url());
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(SPEC)
+                            .build());
+                })
+                .build();
+        ValidateBodyGatewayFilterFactory.Config config = new ValidateBodyGatewayFilterFactory.Config();
+        config.setSpec(URI.create("lb://STUDENTSERVICE/studentservice/v3/api-docs"));
+        config.setMaxBodySize(maxBodySize);
+        return new ValidateBodyGatewayFilterFactory(client, objectMapper, registry).apply(config);
+    }
+
+    private static MockServerWebExchange post(String path, String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(path)
+                .contentType(MediaType.APPLICATION_JSON).body(body));
+    }
+}
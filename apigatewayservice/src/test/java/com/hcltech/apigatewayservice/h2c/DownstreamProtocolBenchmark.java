@@ -0,0 +1,130 @@
+package com.hcltech.apigatewayservice.h2c;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * JMH benchmark comparing the gateway's HTTP/1.1 routing client with the h2c client of
+ * {@link H2cHttpClientFactory} under the admission-season load profile.
+ * <p>
+ * A local server stands in for a service instance: it answers every request with a 2KB JSON
+ * body after {@code 20ms}, the typical latency of a catalog or application read. The
+ * benchmark threads play the concurrent requests in flight at the gateway, each issuing one
+ * request at a time through the shared client. {@code protocol} picks the client: the
+ * gateway's default elastic HTTP/1.1 pool, or an h2c pool of two connections.
+ * </p>
+ * <p>
+ * The sample-time mode reports p50, p99 and p99.9 per request, the secondary
+ * {@code connectionsAccepted} result the connections the server accepted since the trial
+ * started, and {@code -prof gc} adds the allocation rate per request. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dexec.args="... DownstreamProtocolBenchmark -prof gc"}
+ * or through the default profile arguments.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class DownstreamProtocolBenchmark {
+
+    private static final String BODY = "{\"content\":[" + "{\"id\":1,\"name\":\"Computer Science\"},".repeat(60)
+            + "{}],\"totalElements\":61}";
+
+    @Param({"HTTP11", "H2C"})
+    public String protocol;
+
+    private DisposableServer server;
+    private ConnectionProvider pool;
+    private HttpClient client;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .doOnChannelInit((observer, channel, address) -> connections.incrementAndGet())
+                .handle((request, response) -> response
+                        .header("Content-Type", "application/json")
+                        .sendString(Mono.just(BODY).delayElement(Duration.ofMillis(20))))
+                .bindNow();
+        if ("H2C".equals(protocol)) {
+            pool = H2cHttpClientFactory.multiplexedPool("benchmark", 2, 100).build();
+            client = HttpClient.create(pool).protocol(HttpProtocol.H2C);
+        } else {
+            pool = ConnectionProvider.builder("benchmark").maxConnections(Integer.MAX_VALUE).build();
+            client = HttpClient.create(pool);
+        }
+        client = client.baseUrl("http://localhost:" + server.port());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.disposeLater().block();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public String catalogRead(Connections counters) {
+        String page = client.get()
+                .uri("/api/universities?page=0")
+                .responseSingle((response, body) -> body.asString())
+                .block();
+        if (counters.sampler) {
+            counters.connectionsAccepted = connections.get();
+        }
+        return page;
+    }
+
+    /**
+     * Secondary result reporting the connections the server accepted.
+     * <p>
+     * JMH sums event counters across threads, so only the first benchmark thread samples the
+     * server's count and the others leave theirs at zero.
+     * </p>
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Connections {
+
+        public int connectionsAccepted;
+
+        private boolean sampler;
+
+        @Setup
+        public void setUp(ThreadParams threads) {
+            sampler = threads.getThreadIndex() == 0;
+        }
+    }
+}
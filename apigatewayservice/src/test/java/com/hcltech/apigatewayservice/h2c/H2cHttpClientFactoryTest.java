@@ -0,0 +1,105 @@
+package com.hcltech.apigatewayservice.h2c;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for H2cHttpClientFactory.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class H2cHttpClientFactoryTest {
+
+    private static final int CONCURRENCY = 20;
+
+    private DisposableServer server;
+    private AtomicInteger connections;
+    private Set<String> protocols;
+
+    @BeforeEach
+    void setUp() {
+        connections = new AtomicInteger();
+        protocols = ConcurrentHashMap.newKeySet();
+        server = HttpServer.create()
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .doOnChannelInit((observer, channel, address) -> connections.incrementAndGet())
+                .handle((request, response) -> {
+                    protocols.add(request.protocol());
+                    return response.sendString(Mono.just("ok").delayElement(Duration.ofMillis(100)));
+                })
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    /**
+     * Test that concurrent requests are multiplexed as HTTP/2 streams over the pool's connections.
+     */
+    @Test
+    void testConcurrentRequests_MultiplexedOverFewConnections() throws Exception {
+        HttpClient client = factory(new H2cHttpClientFactory(new HttpClientProperties(), new ServerProperties(),
+                sslConfigurer(), List.of(), 2, 100));
+
+        assertEquals(CONCURRENCY, fire(client));
+        assertEquals(Set.of("HTTP/2.0"), protocols);
+        assertTrue(connections.get() <= 2, "connections: " + connections.get());
+    }
+
+    /**
+     * Test that the default HTTP/1.1 client needs a connection per concurrent request, for comparison.
+     */
+    @Test
+    void testDefaultClient_ConnectionPerRequest() throws Exception {
+        HttpClient client = factory(new HttpClientFactory(new HttpClientProperties(), new ServerProperties(),
+                sslConfigurer(), List.of()));
+
+        assertEquals(CONCURRENCY, fire(client));
+        assertEquals(Set.of("HTTP/1.1"), protocols);
+        assertEquals(CONCURRENCY, connections.get());
+    }
+
+    private int fire(HttpClient client) {
+        return Flux.range(0, CONCURRENCY)
+                .flatMap(i -> client.get()
+                        .uri("http://localhost:" + server.port() + "/api/universities")
+                        .responseSingle((response, body) -> body.asString()), CONCURRENCY)
+                .filter("ok"::equals)
+                .count()
+                .block(Duration.ofSeconds(10))
+                .intValue();
+    }
+
+    private static HttpClient factory(HttpClientFactory factory) throws Exception {
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static HttpClientSslConfigurer sslConfigurer() {
+        return new HttpClientSslConfigurer(new HttpClientProperties().getSsl(), new ServerProperties(), null);
+    }
+}
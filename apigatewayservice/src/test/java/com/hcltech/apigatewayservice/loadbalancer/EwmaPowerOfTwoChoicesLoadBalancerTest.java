@@ -0,0 +1,142 @@
+package com.hcltech.apigatewayservice.loadbalancer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EwmaPowerOfTwoChoicesLoadBalancer and InstanceLoadTracker.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class EwmaPowerOfTwoChoicesLoadBalancerTest {
+
+    private static final ServiceInstance FAST = instance("fast", 8081);
+    private static final ServiceInstance SLOW = instance("slow", 8082);
+
+    private AtomicLong clock;
+    private InstanceLoadTracker tracker;
+    private EwmaPowerOfTwoChoicesLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000_000L);
+        tracker = new InstanceLoadTracker(Duration.ofSeconds(10), Duration.ofSeconds(1), clock::get);
+        loadBalancer = new EwmaPowerOfTwoChoicesLoadBalancer(null, "UNIVERSITYSERVICE", tracker);
+    }
+
+    /**
+     * Test that the instance with the lower latency average always wins between two instances.
+     */
+    @Test
+    void testChoose_PrefersLowerLatency() {
+        record(FAST, Duration.ofMillis(5), false);
+        record(SLOW, Duration.ofMillis(500), false);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(FAST, loadBalancer.choose(List.of(SLOW, FAST)).getServer());
+        }
+    }
+
+    /**
+     * Test that requests in flight raise the cost of an otherwise faster instance.
+     */
+    @Test
+    void testChoose_PenalizesInFlightRequests() {
+        record(FAST, Duration.ofMillis(10), false);
+        record(SLOW, Duration.ofMillis(30), false);
+        for (int i = 0; i < 5; i++) {
+            tracker.start(FAST.getHost(), FAST.getPort());
+        }
+
+        assertEquals(SLOW, loadBalancer.choose(List.of(FAST, SLOW)).getServer());
+    }
+
+    /**
+     * Test that a fast failure is recorded as the failure penalty.
+     */
+    @Test
+    void testComplete_FailureRecordsPenalty() {
+        record(FAST, Duration.ofMillis(1), true);
+
+        assertEquals(Duration.ofSeconds(1).toNanos(), tracker.cost(FAST), 1);
+
+        record(SLOW, Duration.ofMillis(200), false);
+        assertEquals(SLOW, loadBalancer.choose(List.of(FAST, SLOW)).getServer());
+    }
+
+    /**
+     * Test that the latency of an idle instance decays so it is retried eventually.
+     */
+    @Test
+    void testCost_DecaysWhileIdle() {
+        record(SLOW, Duration.ofMillis(500), false);
+        double before = tracker.cost(SLOW);
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertTrue(tracker.cost(SLOW) < before / 10);
+    }
+
+    /**
+     * Test that an instance without samples is probed by one request at a time.
+     */
+    @Test
+    void testCost_UnmeasuredInstance() {
+        assertEquals(0, tracker.cost(FAST));
+
+        InstanceLoadTracker.InFlightRequest probe = tracker.start(FAST.getHost(), FAST.getPort());
+
+        assertEquals(InstanceLoadTracker.UNMEASURED_BUSY_COST, tracker.cost(FAST));
+        probe.complete(false);
+        probe.complete(false);
+        assertEquals(0, tracker.cost(FAST));
+    }
+
+    /**
+     * Test the totals across all instances, which ignore the failure penalty.
+     */
+    @Test
+    void testTotals_AcrossInstances() {
+        record(FAST, Duration.ofMillis(100), true);
+        InstanceLoadTracker.InFlightRequest pending = tracker.start(SLOW.getHost(), SLOW.getPort());
+        tracker.start(FAST.getHost(), FAST.getPort());
+
+        assertEquals(2, tracker.totalInFlight());
+        assertEquals(Duration.ofMillis(100).toNanos(), tracker.averageLatencyNanos(), 1);
+        pending.complete(false);
+        assertEquals(1, tracker.totalInFlight());
+    }
+
+    /**
+     * Test that a single instance is returned without comparison and no instance gives an empty response.
+     */
+    @Test
+    void testChoose_SingleAndNoInstances() {
+        Response<ServiceInstance> single = loadBalancer.choose(List.of(SLOW));
+        Response<ServiceInstance> none = loadBalancer.choose(List.of());
+
+        assertEquals(SLOW, single.getServer());
+        assertFalse(none.hasServer());
+    }
+
+    private void record(ServiceInstance instance, Duration latency, boolean failed) {
+        InstanceLoadTracker.InFlightRequest request = tracker.start(instance.getHost(), instance.getPort());
+        clock.addAndGet(latency.toNanos());
+        request.complete(failed);
+    }
+
+    private static ServiceInstance instance(String host, int port) {
+        return new DefaultServiceInstance(host + "-1", "UNIVERSITYSERVICE", host, port, false);
+    }
+}
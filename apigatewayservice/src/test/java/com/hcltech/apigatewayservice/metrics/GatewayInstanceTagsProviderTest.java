@@ -0,0 +1,50 @@
+package com.hcltech.apigatewayservice.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GatewayInstanceTagsProvider.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class GatewayInstanceTagsProviderTest {
+
+    private final GatewayInstanceTagsProvider provider = new GatewayInstanceTagsProvider();
+
+    /**
+     * Test that a request routed to an instance is tagged with the instance's host and port.
+     */
+    @Test
+    void testApply_ResolvedInstance() {
+        assertEquals(Tags.of("instance", "10.0.0.7:8082"),
+                provider.apply(exchange(URI.create("http://10.0.0.7:8082/api/universities?page=0"))));
+    }
+
+    /**
+     * Test that exchanges which never reached an instance are tagged none.
+     */
+    @Test
+    void testApply_NoInstance() {
+        assertEquals(Tags.of("instance", "none"), provider.apply(exchange(null)));
+        assertEquals(Tags.of("instance", "none"),
+                provider.apply(exchange(URI.create("lb://UNIVERSITYSERVICE/api/universities"))));
+    }
+
+    private static MockServerWebExchange exchange(URI requestUrl) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities"));
+        if (requestUrl != null) {
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, requestUrl);
+        }
+        return exchange;
+    }
+}
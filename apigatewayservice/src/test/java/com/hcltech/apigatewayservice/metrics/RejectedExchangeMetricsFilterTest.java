@@ -0,0 +1,78 @@
+package com.hcltech.apigatewayservice.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RejectedExchangeMetricsFilter.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class RejectedExchangeMetricsFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private RejectedExchangeMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new RejectedExchangeMetricsFilter(registry);
+    }
+
+    /**
+     * Test that each rejection status is counted under its own tag and other statuses are not counted.
+     */
+    @Test
+    void testFilter_CountsRejectionsByStatus() {
+        respond(HttpStatus.UNAUTHORIZED);
+        respond(HttpStatus.UNAUTHORIZED);
+        respond(HttpStatus.FORBIDDEN);
+        respond(HttpStatus.TOO_MANY_REQUESTS);
+        respond(HttpStatus.SERVICE_UNAVAILABLE);
+        respond(HttpStatus.OK);
+        respond(HttpStatus.NOT_FOUND);
+        respond(HttpStatus.BAD_GATEWAY);
+
+        assertEquals(2, rejected("401"));
+        assertEquals(1, rejected("403"));
+        assertEquals(1, rejected("429"));
+        assertEquals(1, rejected("503"));
+        assertEquals(4, registry.find("gateway.exchanges.rejected").counters().size());
+    }
+
+    /**
+     * Test that a status error raised down the chain, such as no instance being available, is
+     * counted before the error handler writes it.
+     */
+    @Test
+    void testFilter_CountsStatusErrors() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities"));
+
+        assertThrows(NotFoundException.class, () -> filter.filter(exchange,
+                e -> Mono.error(NotFoundException.create(false, "Unable to find instance"))).block());
+        assertThrows(IllegalStateException.class, () -> filter.filter(exchange,
+                e -> Mono.error(new IllegalStateException("boom"))).block());
+
+        assertEquals(1, rejected("503"));
+        assertEquals(0, rejected("401") + rejected("403") + rejected("429"));
+    }
+
+    private void respond(HttpStatus status) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/universities"));
+        filter.filter(exchange, e -> Mono.fromRunnable(() -> e.getResponse().setStatusCode(status))).block();
+    }
+
+    private double rejected(String status) {
+        return registry.get("gateway.exchanges.rejected").tag("status", status).counter().count();
+    }
+}
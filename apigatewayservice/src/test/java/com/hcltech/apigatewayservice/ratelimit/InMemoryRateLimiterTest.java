@@ -0,0 +1,123 @@
+package com.hcltech.apigatewayservice.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryRateLimiter.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class InMemoryRateLimiterTest {
+
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new InMemoryRateLimiter(null, 10, 20, 1000, Duration.ofMinutes(10));
+        rateLimiter.getConfig().put("auth-service-route",
+                new InMemoryRateLimiter.Config().setReplenishRate(1).setBurstCapacity(3));
+    }
+
+    /**
+     * Test that a burst up to capacity is allowed and the next request is denied with Retry-After.
+     */
+    @Test
+    void testIsAllowed_DeniesAfterBurst() {
+        for (int i = 2; i >= 0; i--) {
+            Response response = rateLimiter.isAllowed("auth-service-route", "10.0.0.1").block();
+            assertTrue(response.isAllowed());
+            assertEquals(Integer.toString(i), response.getHeaders().get(InMemoryRateLimiter.REMAINING_HEADER));
+        }
+
+        Response denied = rateLimiter.isAllowed("auth-service-route", "10.0.0.1").block();
+
+        assertFalse(denied.isAllowed());
+        assertEquals("1", denied.getHeaders().get(HttpHeaders.RETRY_AFTER));
+        assertEquals("3", denied.getHeaders().get(InMemoryRateLimiter.BURST_CAPACITY_HEADER));
+        assertEquals("1", denied.getHeaders().get(InMemoryRateLimiter.REPLENISH_RATE_HEADER));
+    }
+
+    /**
+     * Test that keys and routes have independent buckets.
+     */
+    @Test
+    void testIsAllowed_IndependentBuckets() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.isAllowed("auth-service-route", "10.0.0.1").block();
+        }
+
+        assertTrue(rateLimiter.isAllowed("auth-service-route", "10.0.0.2").block().isAllowed());
+        assertTrue(rateLimiter.isAllowed("student-service-route", "10.0.0.1").block().isAllowed());
+    }
+
+    /**
+     * Test that routes without their own limits use the defaults.
+     */
+    @Test
+    void testIsAllowed_DefaultConfig() {
+        Response response = rateLimiter.isAllowed("unconfigured-route", "10.0.0.1").block();
+
+        assertTrue(response.isAllowed());
+        assertEquals("19", response.getHeaders().get(InMemoryRateLimiter.REMAINING_HEADER));
+        assertEquals("10", response.getHeaders().get(InMemoryRateLimiter.REPLENISH_RATE_HEADER));
+    }
+
+    /**
+     * Test that tokens are refilled over time.
+     */
+    @Test
+    void testIsAllowed_Refills() throws InterruptedException {
+        rateLimiter.getConfig().put("fast-route",
+                new InMemoryRateLimiter.Config().setReplenishRate(4).setBurstCapacity(1));
+        assertTrue(rateLimiter.isAllowed("fast-route", "10.0.0.1").block().isAllowed());
+        assertFalse(rateLimiter.isAllowed("fast-route", "10.0.0.1").block().isAllowed());
+
+        Thread.sleep(300);
+
+        assertTrue(rateLimiter.isAllowed("fast-route", "10.0.0.1").block().isAllowed());
+    }
+
+    /**
+     * Test that concurrent callers never take more tokens than the bucket holds.
+     */
+    @Test
+    void testIsAllowed_ConcurrentCallersRespectCapacity() throws InterruptedException {
+        rateLimiter.getConfig().put("contended-route",
+                new InMemoryRateLimiter.Config().setReplenishRate(1).setBurstCapacity(50));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < 400; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (rateLimiter.isAllowed("contended-route", "10.0.0.1").block().isAllowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertTrue(allowed.get() >= 50 && allowed.get() <= 52, "allowed " + allowed.get());
+    }
+}
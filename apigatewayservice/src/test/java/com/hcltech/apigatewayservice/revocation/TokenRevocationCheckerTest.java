@@ -0,0 +1,128 @@
+package com.hcltech.apigatewayservice.revocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.hcltech.commonlib.revocation.RevocationBloomFilter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for TokenRevocationChecker.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class TokenRevocationCheckerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    @Test
+    void acceptsEveryTokenUntilTheFilterIsLoaded() {
+        TokenRevocationChecker checker = checker(request -> Mono.error(new IllegalStateException("not called")));
+
+        assertFalse(checker.mightBeRevoked("revoked-id"));
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void clearsTokensMissingFromTheFilterInMemory() {
+        TokenRevocationChecker checker = checker(filterResponse("\"v1\"", "revoked-id"));
+        checker.poll().block();
+        requests.clear();
+
+        assertFalse(checker.mightBeRevoked("other-id"));
+        assertFalse(checker.mightBeRevoked(null));
+        assertTrue(checker.mightBeRevoked("revoked-id"));
+        assertTrue(requests.isEmpty());
+        assertEquals(2, meterRegistry.get("gateway.revocation.checks").tag("result", "clear").counter().count());
+    }
+
+    @Test
+    void sendsTheEtagAndKeepsTheFilterWhenNotModified() {
+        AtomicReference<Function<ClientRequest, Mono<ClientResponse>>> server =
+            new AtomicReference<>(filterResponse("\"v1\"", "revoked-id"));
+        TokenRevocationChecker checker = checker(request -> server.get().apply(request));
+        checker.poll().block();
+
+        server.set(request -> Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build()));
+        checker.poll().block();
+
+        assertEquals("\"v1\"", requests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertTrue(checker.mightBeRevoked("revoked-id"));
+    }
+
+    @Test
+    void confirmsFilterHitsOnceAndCachesTheAnswer() {
+        TokenRevocationChecker checker = checker(request -> request.url().getPath().endsWith("/filter")
+            ? filterResponse("\"v1\"", "revoked-id").apply(request)
+            : json("{\"tokenId\":\"revoked-id\",\"revoked\":true}"));
+        checker.poll().block();
+
+        assertTrue(checker.confirmRevoked("revoked-id").block());
+        assertTrue(checker.confirmRevoked("revoked-id").block());
+
+        assertEquals(2, requests.size());
+        assertEquals("/internal/revocations/revoked-id", requests.get(1).url().getPath());
+        assertEquals(2, meterRegistry.get("gateway.revocation.checks").tag("result", "revoked").counter().count());
+    }
+
+    @Test
+    void treatsAFailedConfirmationAsRevoked() {
+        TokenRevocationChecker checker = checker(
+            request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()));
+
+        assertTrue(checker.confirmRevoked("token-id").block());
+        assertEquals(1, meterRegistry.get("gateway.revocation.checks").tag("result", "error").counter().count());
+    }
+
+    private TokenRevocationChecker checker(Function<ClientRequest, Mono<ClientResponse>> server) {
+        WebClient client = WebClient.builder()
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return server.apply(request);
+            })
+            .build();
+        return new TokenRevocationChecker(client, meterRegistry, true, Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    private static Function<ClientRequest, Mono<ClientResponse>> filterResponse(String etag, String... tokenIds) {
+        RevocationBloomFilter filter = RevocationBloomFilter.create(1024, 0.01);
+        for (String tokenId : tokenIds) {
+            filter.add(tokenId);
+        }
+        byte[] bytes = filter.toBytes();
+        return request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.ETAG, etag)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
+            .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)))
+            .build());
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body(body)
+            .build());
+    }
+}
@@ -0,0 +1,168 @@
+package com.hcltech.apigatewayservice.shedding;
+
+import com.hcltech.apigatewayservice.filter.BufferedResponse;
+import com.hcltech.apigatewayservice.filter.CatalogResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoadSheddingFilter and LoadShedder.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class LoadSheddingFilterTest {
+
+    private static final Map<String, Object> CATALOG = Map.of(
+            LoadSheddingFilter.ANONYMOUS_PRIORITY_METADATA, "browsing");
+    private static final Map<String, Object> APPLICATIONS = Map.of(
+            LoadSheddingFilter.ROLE_PRIORITIES_METADATA, Map.of("ADMIN", "critical"));
+    private static final Map<String, Object> DOCS = Map.of(LoadSheddingFilter.PRIORITY_METADATA, "docs");
+
+    private AtomicInteger inFlight;
+    private AtomicLong latencyNanos;
+    private LoadShedder shedder;
+    private CatalogResponseCache cache;
+    private SimpleMeterRegistry registry;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        inFlight = new AtomicInteger();
+        latencyNanos = new AtomicLong(Duration.ofMillis(100).toNanos());
+        shedder = new LoadShedder(inFlight::get, latencyNanos::get, 100, Duration.ofSeconds(1));
+        cache = new CatalogResponseCache(DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), DataSize.ofMegabytes(1));
+        registry = new SimpleMeterRegistry();
+        filter = new LoadSheddingFilter(true, shedder, cache, registry);
+    }
+
+    /**
+     * Test that lower classes are shed at lower load and critical requests never are.
+     */
+    @Test
+    void testAdmit_ShedsLowestClassesFirst() {
+        inFlight.set(60);
+        assertFalse(shedder.admit(RequestPriority.BROWSING));
+        assertTrue(shedder.admit(RequestPriority.DOCS));
+
+        inFlight.set(80);
+        assertFalse(shedder.admit(RequestPriority.DOCS));
+        assertTrue(shedder.admit(RequestPriority.STANDARD));
+
+        inFlight.set(10_000);
+        assertFalse(shedder.admit(RequestPriority.STANDARD));
+        assertTrue(shedder.admit(RequestPriority.CRITICAL));
+    }
+
+    /**
+     * Test that the capacity shrinks in proportion once latency exceeds the target.
+     */
+    @Test
+    void testCapacity_ShrinksWithLatency() {
+        assertEquals(100, shedder.capacity(), 1e-9);
+
+        latencyNanos.set(Duration.ofSeconds(4).toNanos());
+
+        assertEquals(25, shedder.capacity(), 1e-9);
+        inFlight.set(23);
+        assertFalse(shedder.admit(RequestPriority.STANDARD));
+    }
+
+    /**
+     * Test the classes resolved from route metadata, JWT roles and the submit path.
+     */
+    @Test
+    void testClassify_RouteRolesAndSubmit() {
+        assertEquals(RequestPriority.BROWSING, classify(MockServerHttpRequest.get("/api/universities/1"), CATALOG, null));
+        assertEquals(RequestPriority.STANDARD, classify(MockServerHttpRequest.get("/api/universities/1"), CATALOG, "STUDENT"));
+        assertEquals(RequestPriority.STANDARD, classify(MockServerHttpRequest.put("/api/universities/1"), CATALOG, "ADMIN"));
+        assertEquals(RequestPriority.DOCS, classify(MockServerHttpRequest.get("/authservice/v3/api-docs"), DOCS, null));
+        assertEquals(RequestPriority.STANDARD, classify(MockServerHttpRequest.get("/api/applications/1"), APPLICATIONS, "STUDENT"));
+        assertEquals(RequestPriority.CRITICAL, classify(MockServerHttpRequest.put("/api/applications/1/APPROVED"), APPLICATIONS, "ADMIN"));
+        assertEquals(RequestPriority.CRITICAL, classify(MockServerHttpRequest.post("/api/applications/1/submit"), APPLICATIONS, "STUDENT"));
+        assertEquals(RequestPriority.STANDARD, classify(MockServerHttpRequest.get("/api/students/1"), Map.of(), null));
+    }
+
+    /**
+     * Test that a shed request gets a JSON 503 with Retry-After and never reaches the route,
+     * while a submission under the same load goes through.
+     */
+    @Test
+    void testFilter_ShedsBrowsingButAdmitsSubmit() {
+        inFlight.set(90);
+
+        MockServerWebExchange browsing = exchange(MockServerHttpRequest.get("/api/universities"), CATALOG, null);
+        AtomicBoolean browsingRouted = new AtomicBoolean();
+        filter.filter(browsing, e -> Mono.fromRunnable(() -> browsingRouted.set(true))).block();
+
+        MockServerWebExchange submit = exchange(MockServerHttpRequest.post("/api/applications/3/submit"), APPLICATIONS, "STUDENT");
+        AtomicBoolean submitRouted = new AtomicBoolean();
+        filter.filter(submit, e -> Mono.fromRunnable(() -> submitRouted.set(true))).block();
+
+        assertFalse(browsingRouted.get());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, browsing.getResponse().getStatusCode());
+        assertEquals("1", browsing.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(browsing.getResponse().getBodyAsString().block().contains("overloaded"));
+        assertEquals(1, registry.get("gateway.load.shed").tag("priority", "browsing").counter().count());
+        assertTrue(submitRouted.get());
+    }
+
+    /**
+     * Test that a catalog read the cache can answer is admitted under overload.
+     */
+    @Test
+    void testFilter_AdmitsCachedCatalogRead() {
+        cache.put("/api/universities", BufferedResponse.of(HttpStatus.OK, new HttpHeaders(), "[]".getBytes()),
+                Duration.ofMinutes(1));
+        inFlight.set(90);
+
+        AtomicBoolean routed = new AtomicBoolean();
+        filter.filter(exchange(MockServerHttpRequest.get("/api/universities"), CATALOG, null),
+                e -> Mono.fromRunnable(() -> routed.set(true))).block();
+
+        assertTrue(routed.get());
+    }
+
+    private RequestPriority classify(MockServerHttpRequest.BaseBuilder<?> request, Map<String, Object> metadata, String role) {
+        MockServerWebExchange exchange = exchange(request, metadata, role);
+        return filter.classify(exchange, exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR)).block();
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request,
+                                                  Map<String, Object> metadata, String role) {
+        MockServerWebExchange.Builder builder = MockServerWebExchange.builder(request.build());
+        if (role != null) {
+            builder.principal(new UsernamePasswordAuthenticationToken("user", null,
+                    AuthorityUtils.createAuthorityList("ROLE_" + role)));
+        }
+        MockServerWebExchange exchange = builder.build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("route")
+                .uri(URI.create("lb://SERVICE"))
+                .predicate(e -> true)
+                .metadata(metadata)
+                .build());
+        return exchange;
+    }
+}
@@ -16,6 +16,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
 import com.hcltech.applicationservice.util.JwtUtil;
 
 import java.io.IOException;
@@ -101,18 +103,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			return;
 		}
 		String jwt = authorizationHeader.substring(7);
-		String username = jwtUtil.extractUsername(jwt);
-		String role = jwtUtil.extractRole(jwt);
-
-		List<String> roles = jwtUtil.extractRoles(jwt);
+		// Requests proxied by the gateway carry an already verified identity bound to this token
+		JwtClaimsView claims = jwtUtil.parseAssertion(request.getHeader(IdentityAssertionCodec.HEADER), jwt);
+		if (claims == null) {
+			claims = jwtUtil.parse(jwt);
+		}
+		String username = claims.getSubject();
 
 		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-			if (role != null && !role.startsWith("ROLE_")) {
-				role = "ROLE_" + role; // Ensure role format is correct
-			}
-			List<GrantedAuthority> authorities = roles.stream().filter(r -> r != null && !r.isBlank())
+			List<GrantedAuthority> authorities = claims.getRoles().stream().filter(r -> r != null && !r.isBlank())
 					.map(SimpleGrantedAuthority::new).collect(Collectors.toList());
-			if (jwtUtil.validateToken(jwt, username)) {
+			if (!claims.isExpired()) {
 				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, null,
 						authorities);
 				authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
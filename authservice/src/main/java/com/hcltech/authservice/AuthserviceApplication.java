@@ -2,6 +2,7 @@ package com.hcltech.authservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for the Authentication Service.
@@ -13,11 +14,14 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * <p>The application includes JWT-based authentication, role-based access control,
  * and integration with Spring Security for secure API endpoints.</p>
  *
+ * <p>Scheduling is enabled for housekeeping such as purging expired refresh tokens.</p>
+ *
  * @author Boobesh Kumar S
  * @version 1.0
  * @since 2025-01-01
  */
 @SpringBootApplication
+@EnableScheduling
 public class AuthserviceApplication {
 
 	/**
@@ -1,10 +1,20 @@
 package com.hcltech.authservice.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.hcltech.authservice.security.BoundedPasswordEncoder;
+import com.hcltech.authservice.security.CalibratedBCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Application configuration class for common beans and utilities.
  *
@@ -25,10 +35,42 @@ public class AppConfig {
 	 * against rainbow table attacks. This encoder is used for securely hashing
 	 * user passwords before storing them in the database.</p>
 	 *
+	 * <p>The work factor is {@code password-hashing.cost} if set, otherwise the highest
+	 * cost whose hash completes within {@code password-hashing.target-latency} on this
+	 * host, bounded by {@code password-hashing.min-cost} and {@code password-hashing.max-cost}.
+	 * New hashes are written with a <code>{bcrypt}</code> prefix through a
+	 * {@link DelegatingPasswordEncoder}; hashes stored before the prefix was introduced are
+	 * still verified as BCrypt and reported by {@code upgradeEncoding}, as are hashes of a
+	 * lower cost, so they are replaced on the next login.</p>
+	 *
+	 * <p>Hashing and verification run on a dedicated pool of {@code password-hashing.threads}
+	 * threads (default: one per CPU) with room for {@code password-hashing.queue-capacity}
+	 * waiting operations, so BCrypt cannot take over the request threads. See
+	 * {@link BoundedPasswordEncoder}.</p>
+	 *
+	 * @param cost the fixed BCrypt cost, or {@code 0} to calibrate
+	 * @param targetLatency the hash latency the calibration aims for
+	 * @param minCost the lowest cost the calibration may pick
+	 * @param maxCost the highest cost the calibration may pick
+	 * @param threads the number of hashing threads, or {@code 0} for one per CPU
+	 * @param queueCapacity the number of operations allowed to wait for a hashing thread
+	 * @param meterRegistry the registry to publish the cost and pool metrics to
 	 * @return a {@link PasswordEncoder} instance configured with BCrypt algorithm
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${password-hashing.cost:0}") int cost,
+			@Value("${password-hashing.target-latency:250ms}") Duration targetLatency,
+			@Value("${password-hashing.min-cost:10}") int minCost,
+			@Value("${password-hashing.max-cost:14}") int maxCost,
+			@Value("${password-hashing.threads:0}") int threads,
+			@Value("${password-hashing.queue-capacity:32}") int queueCapacity, MeterRegistry meterRegistry) {
+		CalibratedBCryptPasswordEncoder bcrypt = cost > 0 ? new CalibratedBCryptPasswordEncoder(cost)
+				: CalibratedBCryptPasswordEncoder.calibrate(targetLatency, minCost, maxCost);
+		Gauge.builder("auth.password.bcrypt.cost", bcrypt, CalibratedBCryptPasswordEncoder::getCost)
+				.description("BCrypt work factor of new password hashes").register(meterRegistry);
+		DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+		delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		return new BoundedPasswordEncoder(delegating, poolSize, queueCapacity, meterRegistry);
 	}
 }
@@ -25,6 +25,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.hcltech.authservice.entity.User;
 import com.hcltech.authservice.entity.UserRole;
 import com.hcltech.authservice.repository.UserRepository;
+import com.hcltech.authservice.security.InternalApiAuthorizationManager;
 import com.hcltech.authservice.security.JwtAuthenticationFilter;
 import com.hcltech.authservice.security.MyUserDetailsService;
 
@@ -78,12 +79,14 @@ public class WebSecurityConfig {
 	 * @param userDetailsService the custom user details service for loading user data
 	 * @param passwordEncoder the password encoder for authentication
 	 * @param jwtAuthenticationFilter the JWT filter for token validation
+	 * @param internalApiAuthorizationManager authorizes the gateway's calls to "/internal/**"
 	 * @return the configured {@link SecurityFilterChain}
 	 * @throws Exception if an error occurs during configuration
 	 */
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http, MyUserDetailsService userDetailsService,
-			PasswordEncoder passwordEncoder, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+			PasswordEncoder passwordEncoder, JwtAuthenticationFilter jwtAuthenticationFilter,
+			InternalApiAuthorizationManager internalApiAuthorizationManager) throws Exception {
 		http.csrf(AbstractHttpConfigurer::disable)
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.authorizeHttpRequests(auth -> auth
@@ -95,8 +98,11 @@ public class WebSecurityConfig {
 
 								"/api/auth/test",
 
-								"/api/auth/register", "/api/auth/login")
-						.permitAll().requestMatchers("/api/auth/**").hasAnyRole("ADMIN", "STUDENT").anyRequest()
+								"/api/auth/register", "/api/auth/login", "/api/auth/refresh")
+						.permitAll()
+						// Service-to-service endpoints, called by the gateway with the shared secret
+						.requestMatchers("/internal/**").access(internalApiAuthorizationManager)
+						.requestMatchers("/api/auth/**").hasAnyRole("ADMIN", "STUDENT").anyRequest()
 						.authenticated())
 				.authenticationProvider(authenticationProvider(userDetailsService, passwordEncoder))
 //				.addFilterAfter(new JWTTokenGeneratorFilter(), org.springframework.security.web.authentication.www.BasicAuthenticationFilter.class)
@@ -13,6 +13,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import com.hcltech.authservice.dto.MessageResponseDTO;
+import com.hcltech.authservice.dto.RefreshTokenRequestDTO;
 import com.hcltech.authservice.dto.UserLoginRequestDTO;
 import com.hcltech.authservice.dto.UserLoginResponseDTO;
 import com.hcltech.authservice.dto.UserRegisterRequestDTO;
@@ -30,6 +31,7 @@ import com.hcltech.authservice.service.AuthService;
  * <ul>
  *   <li>User registration with role-based access</li>
  *   <li>User authentication with JWT token generation</li>
+ *   <li>Refresh token rotation without re-entering credentials</li>
  *   <li>Secure logout with cookie clearance</li>
  *   <li>User information retrieval for authenticated users</li>
  *   <li>Role-based authorization using Spring Security annotations</li>
@@ -47,6 +49,7 @@ import com.hcltech.authservice.service.AuthService;
 @RequestMapping("/api/auth")
 public class AuthController {
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+    private static final String BEARER_PREFIX = "Bearer ";
 
     @Autowired
     private AuthService authService;
@@ -79,6 +82,26 @@ public class AuthController {
         return ResponseEntity.ok().body(result);
     }
 
+    /**
+     * Exchanges a refresh token for a new JWT token and a new refresh token.
+     *
+     * <p>Clients call this when their short-lived JWT token expires instead of
+     * logging in again, which avoids a password verification. The presented
+     * refresh token is used up and must be replaced by the one returned.
+     *
+     * @param refreshRequest the refresh token returned by the previous login or refresh
+     * @return ResponseEntity containing UserLoginResponseDTO with the new tokens
+     * @throws com.hcltech.authservice.exception.InvalidRefreshTokenException if the refresh token
+     *         is unknown, expired or already used
+     * @see RefreshTokenRequestDTO
+     * @see UserLoginResponseDTO
+     */
+    // ✅ REFRESH → Rotates the refresh token, issues a new JWT
+    @PostMapping("/refresh")
+    public ResponseEntity<UserLoginResponseDTO> refreshToken(@Valid @RequestBody RefreshTokenRequestDTO refreshRequest) {
+        return ResponseEntity.ok().body(authService.refresh(refreshRequest));
+    }
+
     /**
      * Registers a new user in the system.
      *
@@ -140,21 +163,26 @@ public class AuthController {
     }
 
     /**
-     * Logs out the currently authenticated user by clearing the JWT cookie.
+     * Logs out the currently authenticated user by revoking the JWT token and clearing the JWT cookie.
      *
-     * <p>This endpoint requires the user to be authenticated and invalidates
-     * the session by clearing the authentication cookie.
+     * <p>This endpoint requires the user to be authenticated. It revokes the presented
+     * token and the refresh tokens of its login session, and clears the authentication cookie.
      *
+     * @param authorization the Authorization header carrying the Bearer token to revoke
      * @return ResponseEntity with MessageResponseDTO indicating successful logout
-     *         and SET-COOKIE header to clear the authentication cookie
+     *         and SET-COOKIE header to clear the authentication cookie, or 400 Bad Request
+     *         if the header does not carry a Bearer token
      * @see ResponseCookie
      * @see MessageResponseDTO
      */
-    // ✅ LOGOUT → Clears the JWT cookie
+    // ✅ LOGOUT → Revokes the JWT, clears the JWT cookie
     @PostMapping("/logout")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<MessageResponseDTO> signoutUser() {
-        ResponseCookie cookie = authService.logoutUser();
+    public ResponseEntity<MessageResponseDTO> signoutUser(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        if (!authorization.startsWith(BEARER_PREFIX) || authorization.length() == BEARER_PREFIX.length()) {
+            return ResponseEntity.badRequest().body(new MessageResponseDTO("Error: A Bearer token is required to sign out!"));
+        }
+        ResponseCookie cookie = authService.logoutUser(authorization.substring(BEARER_PREFIX.length()));
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, cookie.toString())
                 .body(new MessageResponseDTO("You've been signed out!"));
@@ -0,0 +1,70 @@
+package com.hcltech.authservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hcltech.authservice.dto.RevocationStatusDTO;
+import com.hcltech.authservice.service.TokenRevocationService;
+
+/**
+ * REST Controller publishing token revocations to the API gateway.
+ *
+ * <p>The endpoints are prefixed with "/internal/revocations". They are reached over service
+ * discovery and are not routed by the gateway, which only exposes "/api/auth/**":
+ * <ul>
+ *   <li>{@code GET /filter} returns the Bloom filter of revoked token IDs, answering
+ *       {@code 304 Not Modified} when the caller's {@code If-None-Match} is current</li>
+ *   <li>{@code GET /{tokenId}} confirms whether a token matched by the filter is revoked</li>
+ * </ul>
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see TokenRevocationService
+ * @see com.hcltech.commonlib.revocation.RevocationBloomFilter
+ */
+@RestController
+@RequestMapping("/internal/revocations")
+public class RevocationController {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    /**
+     * Returns the current revocation filter.
+     *
+     * @param ifNoneMatch the entity tag of the filter the caller already has, may be null
+     * @return ResponseEntity with the filter bytes and their entity tag, or 304 if unchanged
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<byte[]> getFilter(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TokenRevocationService.Snapshot snapshot = tokenRevocationService.snapshot();
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(snapshot.filter());
+    }
+
+    /**
+     * Confirms whether a token has been revoked.
+     *
+     * @param tokenId the token's {@code jti} claim
+     * @return ResponseEntity containing RevocationStatusDTO for the token
+     */
+    @GetMapping("/{tokenId}")
+    public ResponseEntity<RevocationStatusDTO> getStatus(@PathVariable String tokenId) {
+        return ResponseEntity.ok(new RevocationStatusDTO(tokenId, tokenRevocationService.isRevoked(tokenId)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.hcltech.authservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for refresh requests.
+ * Carries the refresh token returned by the previous login or refresh.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see UserLoginResponseDTO
+ */
+@Data
+public class RefreshTokenRequestDTO {
+    /**
+     * The opaque refresh token to exchange.
+     * Cannot be empty.
+     *
+     * @see NotBlank
+     */
+    @NotBlank(message = "Refresh token is required")
+    @Size(max = 128)
+    private String refreshToken;
+}
@@ -0,0 +1,28 @@
+package com.hcltech.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object answering whether a token has been revoked.
+ * Used by the API gateway to confirm a hit in the revocation filter.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationStatusDTO {
+    /**
+     * The token ID that was looked up.
+     */
+    private String tokenId;
+
+    /**
+     * Whether the token has been revoked.
+     */
+    private boolean revoked;
+}
@@ -49,6 +49,17 @@ public class UserLoginResponseDTO {
      */
     private String token;
 
+    /**
+     * Seconds until the JWT token expires.
+     */
+    private Long expiresIn;
+
+    /**
+     * Opaque refresh token, exchanged at {@code /api/auth/refresh} for a new JWT token
+     * and a new refresh token once the JWT token has expired. Usable once.
+     */
+    private String refreshToken;
+
     /**
      * Expiration time of the JWT token in milliseconds since epoch.
      * Indicates when the token will become invalid.
@@ -0,0 +1,82 @@
+package com.hcltech.authservice.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Entity class representing an issued refresh token.
+ *
+ * <p>This JPA entity maps to the "refresh_tokens" table. Only a SHA-256 hash of the
+ * opaque token is stored, so a leaked table cannot be replayed; the hash column is unique
+ * and therefore indexed, which makes a refresh a single index lookup.
+ *
+ * <p>Key features:
+ * <ul>
+ *   <li>Tokens issued from one login share a family and are rotated on every use</li>
+ *   <li>A used token is kept, marked rotated, until it expires, so presenting it again
+ *       can be recognised as a replay and the whole family revoked</li>
+ *   <li>Expired rows are purged periodically</li>
+ * </ul>
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see User
+ * @see com.hcltech.authservice.service.RefreshTokenService
+ */
+@Entity
+@Data
+@Table(name = "refresh_tokens", indexes = { @Index(name = "idx_refresh_tokens_family", columnList = "family_id") })
+public class RefreshToken {
+    /**
+     * Unique identifier for the token row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Hex-encoded SHA-256 hash of the opaque token handed to the client.
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /**
+     * The user the token was issued to.
+     */
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * Identifier shared by all tokens descending from the same login.
+     */
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    /**
+     * Instant after which the token can no longer be used.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Instant the token was exchanged for a new one, or null while it is still unused.
+     */
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+}
@@ -0,0 +1,43 @@
+package com.hcltech.authservice.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a revoked JWT token.
+ *
+ * <p>This JPA entity maps to the "revoked_tokens" table and records the ID ({@code jti}
+ * claim) of every token revoked before its expiry, e.g. on logout. A row is only needed
+ * until the token would have expired anyway, after which it is purged.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see com.hcltech.authservice.service.TokenRevocationService
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_tokens")
+public class RevokedToken {
+    /**
+     * The revoked token's ID, its {@code jti} claim.
+     */
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    /**
+     * The revoked token's own expiry, after which the row can be purged.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
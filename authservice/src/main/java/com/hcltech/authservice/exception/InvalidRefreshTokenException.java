@@ -0,0 +1,27 @@
+package com.hcltech.authservice.exception;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired, or has already been used.
+ *
+ * <p>The client has to log in again. When the token had already been used, the whole
+ * token family is revoked before this exception is thrown, since the token may have
+ * been stolen.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see RuntimeException
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new InvalidRefreshTokenException with the given message.
+     *
+     * @param message the detail message
+     */
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.hcltech.authservice.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,6 +16,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * <ul>
  *   <li>UserNotFoundException - Returns 404 NOT_FOUND</li>
  *   <li>ResourceAlreadyExistsException - Returns 409 CONFLICT</li>
+ *   <li>InvalidRefreshTokenException - Returns 401 UNAUTHORIZED</li>
+ *   <li>PasswordHashingRejectedException - Returns 503 SERVICE_UNAVAILABLE with Retry-After</li>
  * </ul>
  *
  * @author Boobesh Kumar S
@@ -52,4 +55,31 @@ public class MyGlobalExceptionHandler {
         return new ResponseEntity<>(apiResponse,HttpStatus.CONFLICT);
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Handles InvalidRefreshTokenException and returns appropriate HTTP response.
+     *
+     * @param ex the InvalidRefreshTokenException instance
+     * @return ResponseEntity with APIResponse and HTTP 401 status
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<APIResponse> myInvalidRefreshTokenException(InvalidRefreshTokenException ex){
+        APIResponse apiResponse = new APIResponse(ex.getMessage(),false);
+        return new ResponseEntity<>(apiResponse,HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * Handles PasswordHashingRejectedException and returns appropriate HTTP response.
+     *
+     * <p>The hashing pool is saturated, so the client is asked to retry after a second
+     * rather than being made to wait.
+     *
+     * @param ex the PasswordHashingRejectedException instance
+     * @return ResponseEntity with APIResponse, a Retry-After header and HTTP 503 status
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<APIResponse> myPasswordHashingRejectedException(PasswordHashingRejectedException ex){
+        APIResponse apiResponse = new APIResponse(ex.getMessage(),false);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(apiResponse);
+    }
+}
@@ -0,0 +1,27 @@
+package com.hcltech.authservice.exception;
+
+/**
+ * Exception thrown when a password cannot be hashed or verified because the hashing pool is saturated.
+ *
+ * <p>Raised by {@link com.hcltech.authservice.security.BoundedPasswordEncoder} when its queue is
+ * full. It is a transient condition: the request is rejected quickly so the client can retry,
+ * rather than waiting on a request thread for a hash slot.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see RuntimeException
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new PasswordHashingRejectedException with the given message.
+     *
+     * @param message the detail message
+     */
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
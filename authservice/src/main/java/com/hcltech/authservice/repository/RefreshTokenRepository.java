@@ -0,0 +1,73 @@
+package com.hcltech.authservice.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hcltech.authservice.entity.RefreshToken;
+
+/**
+ * Repository interface for RefreshToken entity operations.
+ *
+ * <p>Extends JpaRepository to provide standard data access methods and adds the
+ * lookups and conditional updates used when refresh tokens are rotated.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see RefreshToken
+ * @see org.springframework.data.jpa.repository.JpaRepository
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    /**
+     * Finds a token by its hash together with its user, in a single query.
+     *
+     * @param tokenHash the hex-encoded SHA-256 hash of the token
+     * @return Optional containing the token with its user loaded, empty if unknown
+     */
+    @Query("select t from RefreshToken t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Marks a token as used, unless it already was.
+     *
+     * @param id the token's identifier
+     * @param rotatedAt the instant of use
+     * @return 1 if this call used the token, 0 if another call got there first
+     */
+    @Modifying
+    @Transactional
+    @Query("update RefreshToken t set t.rotatedAt = :rotatedAt where t.id = :id and t.rotatedAt is null")
+    int markRotated(@Param("id") UUID id, @Param("rotatedAt") Instant rotatedAt);
+
+    /**
+     * Deletes every token of a family, revoking the login it descends from.
+     *
+     * @param familyId the family identifier
+     * @return the number of tokens deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") UUID familyId);
+
+    /**
+     * Deletes tokens that expired before the given instant.
+     *
+     * @param now the current instant
+     * @return the number of tokens deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
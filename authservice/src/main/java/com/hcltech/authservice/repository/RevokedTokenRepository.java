@@ -0,0 +1,49 @@
+package com.hcltech.authservice.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hcltech.authservice.entity.RevokedToken;
+
+/**
+ * Repository interface for RevokedToken entity operations.
+ *
+ * <p>Extends JpaRepository to provide standard data access methods, keyed by token ID,
+ * and adds the queries used to rebuild and purge the revocation store.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see RevokedToken
+ * @see org.springframework.data.jpa.repository.JpaRepository
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Lists the IDs of revoked tokens that have not expired yet.
+     *
+     * @param now the current instant
+     * @return the token IDs still worth denying
+     */
+    @Query("select t.tokenId from RevokedToken t where t.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") Instant now);
+
+    /**
+     * Deletes revocations of tokens that have expired by themselves.
+     *
+     * @param now the current instant
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
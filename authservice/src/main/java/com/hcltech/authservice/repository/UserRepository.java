@@ -4,7 +4,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hcltech.authservice.entity.User;
 
@@ -66,4 +70,21 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @throws jakarta.persistence.EntityNotFoundException if user not found
      */
     User findUserByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Replaces a user's password hash, but only if it is still the expected one.
+     *
+     * <p>Used to store a rehashed password after login without overwriting a
+     * password the user changed in the meantime.
+     *
+     * @param id the user's identifier
+     * @param expectedPassword the hash the new one was derived from
+     * @param newPassword the new hash
+     * @return the number of rows updated, 0 if the hash had already changed
+     */
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :expectedPassword")
+    int updatePasswordIfUnchanged(@Param("id") UUID id, @Param("expectedPassword") String expectedPassword,
+                                  @Param("newPassword") String newPassword);
+}
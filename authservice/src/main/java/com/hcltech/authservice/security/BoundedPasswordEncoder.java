@@ -0,0 +1,161 @@
+package com.hcltech.authservice.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.hcltech.authservice.exception.PasswordHashingRejectedException;
+import com.hcltech.commonlib.deadline.DeadlineExceededException;
+import com.hcltech.commonlib.deadline.RequestDeadline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password encoder that runs hashing and verification on a dedicated, bounded thread pool.
+ *
+ * <p>BCrypt is deliberately CPU-heavy. Run directly on Tomcat request threads, a burst of
+ * registrations or logins can occupy every request thread, so that cheap requests such as
+ * {@code /api/auth/user} time out waiting behind them. This decorator hands each
+ * {@link #encode(CharSequence)} and {@link #matches(CharSequence, String)} call to a pool
+ * sized to the CPU count with a bounded queue:
+ * <ol>
+ *   <li>At most {@code threads} hashes run at once, which is all the CPU can do in parallel anyway</li>
+ *   <li>Up to {@code queueCapacity} more wait in the queue</li>
+ *   <li>Anything beyond that fails immediately with {@link PasswordHashingRejectedException},
+ *       answered with {@code 503 Service Unavailable}, instead of holding a request thread</li>
+ * </ol>
+ *
+ * <p>The calling thread waits for the result, but no longer than the gateway deadline of its
+ * request, if it has one; past that it gives up with a {@link DeadlineExceededException}.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code executor.queued}, {@code executor.active} and related gauges, tagged
+ *       {@code name=password-hashing}</li>
+ *   <li>{@code auth.password.hashing} timer, tagged {@code operation=encode|matches}, measuring
+ *       the hash itself on the pool</li>
+ *   <li>{@code auth.password.hashing.rejected} counter</li>
+ * </ul>
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see PasswordEncoder
+ * @see com.hcltech.authservice.config.AppConfig
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    /**
+     * Creates the encoder and its pool, and registers the pool metrics.
+     *
+     * @param delegate the encoder doing the actual hashing
+     * @param threads the number of hashing threads
+     * @param queueCapacity the number of hashes allowed to wait for a thread
+     * @param registry the registry to publish metrics to
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry registry) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(registry);
+        this.encodeTimer = Timer.builder("auth.password.hashing").tag("operation", "encode")
+                .description("Time spent hashing a password").register(registry);
+        this.matchesTimer = Timer.builder("auth.password.hashing").tag("operation", "matches")
+                .description("Time spent verifying a password").register(registry);
+        this.rejected = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashes rejected because the hashing queue was full").register(registry);
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @param rawPassword the password to hash
+     * @return the encoded password
+     * @throws PasswordHashingRejectedException if the hashing queue is full
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    /**
+     * Verifies a raw password against an encoded one on the hashing pool.
+     *
+     * @param rawPassword the password to check
+     * @param encodedPassword the stored encoded password
+     * @return {@code true} if the passwords match
+     * @throws PasswordHashingRejectedException if the hashing queue is full
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Checks whether an encoded password should be encoded again. Does not hash, so it runs on
+     * the calling thread.
+     *
+     * @param encodedPassword the stored encoded password
+     * @return {@code true} if the password should be encoded again
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing pool when the application context closes.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException("Too many password operations in progress, try again shortly");
+        }
+        try {
+            long remaining = RequestDeadline.remainingMillis();
+            return remaining == Long.MAX_VALUE ? future.get() : future.get(Math.max(remaining, 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new DeadlineExceededException("Request deadline exceeded while waiting for password hashing", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
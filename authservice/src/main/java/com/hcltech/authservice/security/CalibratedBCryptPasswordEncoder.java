@@ -0,0 +1,119 @@
+package com.hcltech.authservice.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose work factor is fitted to the host at startup.
+ *
+ * <p>{@link #calibrate(Duration, int, int)} times a hash at increasing costs and keeps the
+ * highest cost whose hash still completes within the target latency, so the CPU spent on a
+ * login can be tuned per node with one setting instead of a code change.
+ *
+ * <p>{@link #upgradeEncoding(String)} reports only stored hashes with a lower cost than the
+ * current one, so a hash is strengthened on its next login but never weakened. Nodes
+ * calibrate independently, and a node that picked a lower cost on slower hardware leaves the
+ * stronger hashes written elsewhere alone instead of rewriting them on every login. A fleet
+ * whose hosts differ should still pin the cost with {@code password-hashing.cost}, so every
+ * node hashes new passwords alike.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see BCryptPasswordEncoder
+ * @see com.hcltech.authservice.config.AppConfig
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    /**
+     * Logger instance for calibration results.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CalibratedBCryptPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+    private static final int WARMUP_COST = 4;
+    private static final int WARMUP_ROUNDS = 5;
+
+    private final int cost;
+
+    /**
+     * Creates an encoder with a fixed cost.
+     *
+     * @param cost the BCrypt log rounds, between 4 and 31
+     */
+    public CalibratedBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    /**
+     * Creates an encoder with the highest cost whose hash meets the target latency on this host.
+     *
+     * @param targetLatency the longest a single hash should take
+     * @param minCost the lowest cost to use, even if it exceeds the target
+     * @param maxCost the highest cost to use, even if the host is faster
+     * @return the calibrated encoder
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration targetLatency, int minCost, int maxCost) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            measureNanos(WARMUP_COST);
+        }
+        return calibrate(targetLatency, minCost, maxCost, CalibratedBCryptPasswordEncoder::measureNanos);
+    }
+
+    static CalibratedBCryptPasswordEncoder calibrate(Duration targetLatency, int minCost, int maxCost,
+                                                    IntToLongFunction hashNanos) {
+        long target = targetLatency.toNanos();
+        int chosen = minCost;
+        long chosenNanos = hashNanos.applyAsLong(minCost);
+        // Each extra round doubles the work, so stop at the first cost over the target
+        for (int candidate = minCost + 1; candidate <= maxCost && chosenNanos <= target; candidate++) {
+            long nanos = hashNanos.applyAsLong(candidate);
+            if (nanos > target) {
+                break;
+            }
+            chosen = candidate;
+            chosenNanos = nanos;
+        }
+        logger.info("BCrypt cost {} selected: {} ms per hash against a target of {} ms",
+                chosen, Duration.ofNanos(chosenNanos).toMillis(), targetLatency.toMillis());
+        return new CalibratedBCryptPasswordEncoder(chosen);
+    }
+
+    /**
+     * Returns the cost new hashes are created with.
+     *
+     * @return the BCrypt log rounds
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Checks whether a stored BCrypt hash was created with a lower cost than the current one.
+     *
+     * @param encodedPassword the stored hash, without an algorithm prefix
+     * @return {@code true} if the hash should be recreated at the current cost
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < cost;
+    }
+
+    private static long measureNanos(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long start = System.nanoTime();
+        encoder.encode("calibration-password");
+        return System.nanoTime() - start;
+    }
+}
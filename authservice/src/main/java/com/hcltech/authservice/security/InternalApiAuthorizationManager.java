@@ -0,0 +1,63 @@
+package com.hcltech.authservice.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authorizes service-to-service calls to the "/internal/**" endpoints.
+ *
+ * <p>These endpoints are called by the API gateway without a user token, so instead of a JWT
+ * the caller must send the shared {@code internal-api.secret} in the {@value #HEADER} header.
+ * The property is required and the header is compared in constant time; requests without it,
+ * or with another value, are denied.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see com.hcltech.authservice.controller.RevocationController
+ */
+@Component
+public class InternalApiAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    /**
+     * Name of the request header carrying the shared secret.
+     */
+    public static final String HEADER = "X-Internal-Secret";
+
+    private final byte[] secret;
+
+    /**
+     * Creates the authorization manager.
+     *
+     * @param secret the secret shared with the API gateway
+     * @throws IllegalArgumentException if the secret is blank
+     */
+    public InternalApiAuthorizationManager(@Value("${internal-api.secret}") String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalArgumentException("internal-api.secret must be set");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Grants access when the request carries the shared secret.
+     *
+     * @param authentication the current authentication, not used
+     * @param context the request being authorized
+     * @return the authorization decision
+     */
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        String presented = context.getRequest().getHeader(HEADER);
+        return new AuthorizationDecision(presented != null
+                && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8)));
+    }
+}
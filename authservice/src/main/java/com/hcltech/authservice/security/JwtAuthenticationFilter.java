@@ -17,6 +17,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.hcltech.authservice.util.JwtUtil;
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
 
 import java.io.IOException;
 import java.util.List;
@@ -70,8 +72,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * <p>This method:
      * <ul>
      *   <li>Extracts Bearer token from Authorization header</li>
-     *   <li>Validates JWT token signature and expiration</li>
-     *   <li>Extracts username and roles from token claims</li>
+     *   <li>Accepts the gateway's identity assertion if present and valid</li>
+     *   <li>Otherwise parses the JWT token once, verifying its signature and expiration</li>
+     *   <li>Reads username and roles from the parsed claims</li>
      *   <li>Creates Spring Security authentication token</li>
      *   <li>Sets authentication in SecurityContextHolder</li>
      * </ul>
@@ -91,17 +94,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         String jwt = authorizationHeader.substring(7);
-        String username = jwtUtil.extractUsername(jwt);
-
-        List<String> roles = jwtUtil.extractRoles(jwt);
+        // Requests proxied by the gateway carry an already verified identity bound to this token
+        JwtClaimsView claims = jwtUtil.parseAssertion(request.getHeader(IdentityAssertionCodec.HEADER), jwt);
+        if (claims == null) {
+            claims = jwtUtil.parse(jwt);
+        }
+        String username = claims.getSubject();
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            List<GrantedAuthority> authorities = roles.stream()
+            List<GrantedAuthority> authorities = claims.getRoles().stream()
                     .filter(r -> r != null && !r.isBlank())
                     .map(SimpleGrantedAuthority::new)
                     .<GrantedAuthority>map(a -> a)
                     .toList();
-            if (jwtUtil.validateToken(jwt, username)) {
+            if (!claims.isExpired()) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, null,
                         authorities);
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
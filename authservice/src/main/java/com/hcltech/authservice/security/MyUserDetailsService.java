@@ -9,7 +9,6 @@ import org.springframework.stereotype.Service;
 
 import com.hcltech.authservice.entity.User;
 import com.hcltech.authservice.exception.UserNotFoundException;
-import com.hcltech.authservice.repository.UserRepository;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -21,7 +20,8 @@ import java.util.Optional;
  * converts application User entities into Spring Security UserDetails objects.
  *
  * <p>The service uses email as the username for authentication purposes
- * and provides user details including credentials and authorities.
+ * and provides user details including credentials and authorities. Users are read
+ * through the {@link UserLookupCache}.
  *
  * @author Boobesh Kumar S
  * @version 1.0
@@ -33,14 +33,14 @@ import java.util.Optional;
 public class MyUserDetailsService implements UserDetailsService {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserLookupCache userLookupCache;
 
     /**
      * Loads user by email address during authentication.
      *
      * <p>This method:
      * <ul>
-     *   <li>Finds user by email in the database</li>
+     *   <li>Finds user by email in the cache, or else in the database</li>
      *   <li>Creates Spring Security UserDetails object</li>
      *   <li>Assigns default "ROLE_USER" authority</li>
      *   <li>Throws exception if user not found</li>
@@ -53,12 +53,25 @@ public class MyUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = userLookupCache.findByEmail(email);
         if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            return new org.springframework.security.core.userdetails.User(user.getUsername(),  user.getPassword(),
-                    Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
+            return toUserDetails(userOpt.get());
         }
         throw new UserNotFoundException("User not found", "email", email);
     }
+
+    /**
+     * Converts an already loaded User entity into Spring Security UserDetails.
+     *
+     * <p>Shared by {@link #loadUserByUsername(String)} and by callers that have
+     * the entity in hand, such as the login flow, so they do not have to load
+     * the same row again to obtain the principal.
+     *
+     * @param user the user entity
+     * @return UserDetails carrying the username, encoded password and default "ROLE_USER" authority
+     */
+    public static UserDetails toUserDetails(User user) {
+        return new org.springframework.security.core.userdetails.User(user.getUsername(),  user.getPassword(),
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
+    }
 }
\ No newline at end of file
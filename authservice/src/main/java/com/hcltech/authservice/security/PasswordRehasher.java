@@ -0,0 +1,140 @@
+package com.hcltech.authservice.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.hcltech.authservice.entity.User;
+import com.hcltech.authservice.exception.PasswordHashingRejectedException;
+import com.hcltech.authservice.repository.UserRepository;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upgrades stored password hashes in the background after a successful login.
+ *
+ * <p>A login is the only time the raw password is available, so it is the only chance to
+ * move a hash to the current algorithm or BCrypt cost without a password reset. Doing it in
+ * the login request would add a second hash and a write to the response time, so the work is
+ * queued instead:
+ * <ol>
+ *   <li>A single background thread takes the task from a bounded queue</li>
+ *   <li>The password is hashed through the shared {@link PasswordEncoder}, i.e. on the same
+ *       bounded hashing pool as logins</li>
+ *   <li>The new hash is stored only if the old one is still in place, and the user is dropped
+ *       from the {@link UserLookupCache}</li>
+ * </ol>
+ *
+ * <p>Upgrades are best effort: if the queue is full or the hashing pool is saturated the upgrade
+ * is dropped and happens on a later login. Outcomes are counted in {@code auth.password.rehash},
+ * tagged {@code outcome=updated|stale|dropped|failed}.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see PasswordEncoder#upgradeEncoding(String)
+ * @see UserRepository#updatePasswordIfUnchanged(UUID, String, String)
+ */
+@Component
+public class PasswordRehasher implements DisposableBean {
+
+    /**
+     * Logger instance for rehash failures.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(PasswordRehasher.class);
+
+    private final PasswordEncoder encoder;
+    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates the rehasher and its background thread.
+     *
+     * @param encoder the encoder producing the new hashes
+     * @param userRepository the repository storing them
+     * @param userLookupCache the cache to drop upgraded users from
+     * @param meterRegistry the registry to count outcomes in
+     * @param queueCapacity the number of upgrades allowed to wait
+     */
+    @Autowired
+    public PasswordRehasher(PasswordEncoder encoder, UserRepository userRepository, UserLookupCache userLookupCache,
+                            MeterRegistry meterRegistry,
+                            @Value("${password-hashing.rehash-queue-capacity:100}") int queueCapacity) {
+        this.encoder = encoder;
+        this.userRepository = userRepository;
+        this.userLookupCache = userLookupCache;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-rehash");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Checks whether a stored hash is out of date.
+     *
+     * @param user the user who just logged in
+     * @return {@code true} if the user's hash should be recreated
+     */
+    public boolean needsRehash(User user) {
+        return encoder.upgradeEncoding(user.getPassword());
+    }
+
+    /**
+     * Queues an upgrade of the user's hash. Returns immediately.
+     *
+     * @param user the user who just logged in, with the hash that was verified
+     * @param rawPassword the password that was verified against it
+     */
+    public void rehash(User user, String rawPassword) {
+        UUID id = user.getId();
+        String oldHash = user.getPassword();
+        try {
+            executor.execute(() -> upgrade(id, oldHash, rawPassword, user));
+        } catch (RejectedExecutionException ex) {
+            count("dropped");
+        }
+    }
+
+    /**
+     * Stops the background thread when the application context closes.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void upgrade(UUID id, String oldHash, String rawPassword, User user) {
+        try {
+            String newHash = encoder.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(id, oldHash, newHash) == 1) {
+                userLookupCache.invalidate(user);
+                count("updated");
+            } else {
+                count("stale");
+            }
+        } catch (PasswordHashingRejectedException ex) {
+            count("dropped");
+        } catch (RuntimeException ex) {
+            logger.warn("Could not upgrade password hash of user {}: {}", id, ex.getMessage());
+            count("failed");
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("auth.password.rehash", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,127 @@
+package com.hcltech.authservice.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hcltech.authservice.entity.User;
+import com.hcltech.authservice.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based in-process cache of user records, keyed by email and by username.
+ *
+ * <p>Every authenticated request to {@code /api/auth/user}, which the frontend polls on
+ * each page, and every call to {@link MyUserDetailsService} used to read the user row.
+ * This cache answers repeated lookups from memory:
+ * <ul>
+ *   <li>Users are loaded through {@link UserRepository} on a miss; a user that does not
+ *       exist is not cached</li>
+ *   <li>Callers get a copy of the cached record, so changing it cannot change the cache</li>
+ *   <li>Entries expire after {@code user-cache.ttl} (default 5 minutes), which bounds how long
+ *       another instance's change can go unseen; at most {@code user-cache.maximum-size}
+ *       (default 10000) users are kept per key</li>
+ * </ul>
+ *
+ * <p>Code that changes a user's password or roles must call {@link #invalidate(User)}
+ * afterwards. Login does not use the cache, so it always verifies against the stored hash.
+ *
+ * <p>Hit rates are published as {@code cache.gets}, tagged {@code result=hit|miss} and
+ * {@code cache=users-by-email|users-by-username}, alongside {@code cache.size} and
+ * {@code cache.evictions}.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see MyUserDetailsService
+ * @see com.hcltech.authservice.service.impl.AuthServiceImpl#getCurrentUserDetails
+ */
+@Component
+public class UserLookupCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> byEmail;
+    private final Cache<String, User> byUsername;
+
+    /**
+     * Creates the caches and registers their metrics.
+     *
+     * @param userRepository the repository to load users from on a miss
+     * @param meterRegistry the registry to publish hit rates to
+     * @param maximumSize the maximum number of users cached per key
+     * @param ttl how long a user stays cached after being loaded
+     */
+    public UserLookupCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                           @Value("${user-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${user-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.byEmail = CaffeineCacheMetrics.monitor(meterRegistry, build(maximumSize, ttl), "users-by-email");
+        this.byUsername = CaffeineCacheMetrics.monitor(meterRegistry, build(maximumSize, ttl), "users-by-username");
+    }
+
+    /**
+     * Finds a user by email address.
+     *
+     * @param email the email address
+     * @return Optional containing a copy of the user, empty if no user has that email
+     */
+    public Optional<User> findByEmail(String email) {
+        return lookup(byEmail, email, key -> userRepository.findByEmail(key).orElse(null));
+    }
+
+    /**
+     * Finds a user by username.
+     *
+     * @param username the username
+     * @return Optional containing a copy of the user, empty if no user has that username
+     */
+    public Optional<User> findByUsername(String username) {
+        return lookup(byUsername, username, key -> userRepository.findByUsername(key).orElse(null));
+    }
+
+    /**
+     * Drops a user from the cache after it was created or changed.
+     *
+     * @param user the user, with the email and username it is cached under
+     */
+    public void invalidate(User user) {
+        if (user.getEmail() != null) {
+            byEmail.invalidate(user.getEmail());
+        }
+        if (user.getUsername() != null) {
+            byUsername.invalidate(user.getUsername());
+        }
+    }
+
+    private static Optional<User> lookup(Cache<String, User> cache, String key, Function<String, User> loader) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(key, loader)).map(UserLookupCache::copyOf);
+    }
+
+    private static Cache<String, User> build(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private static User copyOf(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setEmail(user.getEmail());
+        copy.setPassword(user.getPassword());
+        copy.setRoles(user.getRoles() == null ? null : new HashSet<>(user.getRoles()));
+        return copy;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 
 import com.hcltech.authservice.dto.MessageResponseDTO;
+import com.hcltech.authservice.dto.RefreshTokenRequestDTO;
 import com.hcltech.authservice.dto.UserLoginRequestDTO;
 import com.hcltech.authservice.dto.UserLoginResponseDTO;
 import com.hcltech.authservice.dto.UserRegisterRequestDTO;
@@ -39,6 +40,21 @@ public interface AuthService {
      */
     UserLoginResponseDTO login(UserLoginRequestDTO loginRequest);
 
+    /**
+     * Exchanges a refresh token for a new JWT token and a new refresh token.
+     *
+     * <p>Costs a single indexed lookup and no password hashing. The presented
+     * refresh token is used up; presenting it again revokes the login it came from.
+     *
+     * @param refreshRequest the refresh token returned by the previous login or refresh
+     * @return UserLoginResponseDTO containing user details, the new JWT token and refresh token
+     * @throws com.hcltech.authservice.exception.InvalidRefreshTokenException if the refresh token
+     *         is unknown, expired or already used
+     * @see RefreshTokenRequestDTO
+     * @see UserLoginResponseDTO
+     */
+    UserLoginResponseDTO refresh(RefreshTokenRequestDTO refreshRequest);
+
     /**
      * Registers a new user in the system.
      *
@@ -53,12 +69,14 @@ public interface AuthService {
     ResponseEntity<MessageResponseDTO> register(UserRegisterRequestDTO registerRequest);
 
     /**
-     * Creates a response cookie to clear the JWT token during logout.
+     * Revokes the caller's JWT token and the refresh tokens of its login session, and
+     * creates a response cookie to clear the JWT token during logout.
      *
+     * @param token the caller's JWT token
      * @return ResponseCookie configured to clear the authentication cookie
      * @see ResponseCookie
      */
-    ResponseCookie logoutUser();
+    ResponseCookie logoutUser(String token);
 
     /**
      * Retrieves detailed information about the currently authenticated user.
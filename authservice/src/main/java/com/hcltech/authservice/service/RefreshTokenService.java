@@ -0,0 +1,57 @@
+package com.hcltech.authservice.service;
+
+import java.util.UUID;
+
+import com.hcltech.authservice.entity.RefreshToken;
+import com.hcltech.authservice.entity.User;
+
+/**
+ * Service interface for issuing and rotating refresh tokens.
+ *
+ * <p>Refresh tokens are opaque random strings paired with short-lived access tokens. Trading
+ * one for a new access token costs a single indexed lookup and no password hashing, so long
+ * sessions do not come back through the BCrypt login.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see RefreshToken
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Issues a refresh token starting a new token family, e.g. after a login.
+     *
+     * @param user the user to issue the token to
+     * @return the opaque token to hand to the client; only its hash is stored
+     */
+    String issue(User user);
+
+    /**
+     * Issues a refresh token continuing an existing token family, after a rotation.
+     *
+     * @param user the user to issue the token to
+     * @param familyId the family of the token being replaced
+     * @return the opaque token to hand to the client; only its hash is stored
+     */
+    String issue(User user, UUID familyId);
+
+    /**
+     * Uses up a refresh token so it cannot be presented again.
+     *
+     * <p>Presenting a token that was already used revokes its whole family.
+     *
+     * @param rawToken the opaque token presented by the client
+     * @return the used token, with its user loaded
+     * @throws com.hcltech.authservice.exception.InvalidRefreshTokenException if the token is
+     *         unknown, expired or already used
+     */
+    RefreshToken consume(String rawToken);
+
+    /**
+     * Revokes every refresh token of a family, ending the login session it belongs to.
+     *
+     * @param familyId the token family
+     */
+    void revokeFamily(UUID familyId);
+}
@@ -0,0 +1,51 @@
+package com.hcltech.authservice.service;
+
+import java.time.Instant;
+
+/**
+ * Service interface for revoking JWT tokens before they expire.
+ *
+ * <p>Revoked token IDs are kept in a store and summarised in a Bloom filter that the API
+ * gateway polls, so the gateway can clear almost every request in memory and only asks
+ * {@link #isRevoked(String)} about the few tokens the filter matches.
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see com.hcltech.commonlib.revocation.RevocationBloomFilter
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Published state of the revocation filter.
+     *
+     * @param etag entity tag identifying the filter content
+     * @param filter the filter in the binary form of
+     *        {@link com.hcltech.commonlib.revocation.RevocationBloomFilter#toBytes()}
+     */
+    record Snapshot(String etag, byte[] filter) {
+    }
+
+    /**
+     * Revokes a token until its expiry.
+     *
+     * @param tokenId the token's {@code jti} claim
+     * @param expiresAt the token's expiry
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * Checks the store for a revoked token.
+     *
+     * @param tokenId the token's {@code jti} claim
+     * @return true if the token has been revoked
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Returns the current revocation filter.
+     *
+     * @return the latest snapshot
+     */
+    Snapshot snapshot();
+}
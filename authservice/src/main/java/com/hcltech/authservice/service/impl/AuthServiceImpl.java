@@ -3,7 +3,7 @@ package com.hcltech.authservice.service.impl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,21 +12,29 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.hcltech.authservice.dto.MessageResponseDTO;
+import com.hcltech.authservice.dto.RefreshTokenRequestDTO;
 import com.hcltech.authservice.dto.UserLoginRequestDTO;
 import com.hcltech.authservice.dto.UserLoginResponseDTO;
 import com.hcltech.authservice.dto.UserRegisterRequestDTO;
 import com.hcltech.authservice.dto.UserRegisterResponseDTO;
+import com.hcltech.authservice.entity.RefreshToken;
 import com.hcltech.authservice.entity.User;
 import com.hcltech.authservice.entity.UserRole;
 import com.hcltech.authservice.exception.UserNotFoundException;
 import com.hcltech.authservice.repository.UserRepository;
 import com.hcltech.authservice.security.MyUserDetailsService;
+import com.hcltech.authservice.security.PasswordRehasher;
+import com.hcltech.authservice.security.UserLookupCache;
 import com.hcltech.authservice.service.AuthService;
+import com.hcltech.authservice.service.RefreshTokenService;
+import com.hcltech.authservice.service.TokenRevocationService;
 import com.hcltech.authservice.util.JwtUtil;
 import com.hcltech.authservice.util.UserConverter;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Implementation of the AuthService interface providing authentication business logic.
@@ -47,15 +55,12 @@ import java.util.Set;
  * @version 1.0
  * @since 2025-11-17
  * @see AuthService
- * @see AuthenticationManager
+ * @see MyUserDetailsService
  * @see UserRepository
  */
 @Service
 public class AuthServiceImpl implements AuthService {
 
-    @Autowired
-    private AuthenticationManager authenticationManager;
-
     @Autowired
     private UserRepository userRepository;
 
@@ -66,10 +71,19 @@ public class AuthServiceImpl implements AuthService {
     private UserConverter userConverter;
 
     @Autowired
-    private MyUserDetailsService userDetailsService;
+    private JwtUtil jwtUtil;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private PasswordRehasher passwordRehasher;
+
+    @Autowired
+    private UserLookupCache userLookupCache;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
 
     /**
      * Authenticates a user and returns login response with JWT token.
@@ -77,16 +91,22 @@ public class AuthServiceImpl implements AuthService {
      * <p>Process flow:
      * <ol>
      *   <li>Find user by email</li>
-     *   <li>Authenticate credentials using Spring Security</li>
+     *   <li>Verify the raw password against the stored hash of that user</li>
+     *   <li>Queue a rehash if the stored hash uses an outdated algorithm or cost</li>
      *   <li>Set authentication in security context</li>
-     *   <li>Generate JWT token with user details</li>
+     *   <li>Generate JWT token with user details and issue a refresh token</li>
      *   <li>Build and return login response</li>
      * </ol>
      *
+     * <p>The user row is read once and every later step works from that entity.
+     * Authenticating through the {@link org.springframework.security.authentication.AuthenticationManager}
+     * would load it again via {@link MyUserDetailsService}, which costs an extra
+     * query per login for no additional check.
+     *
      * @param loginRequest the user credentials for authentication
      * @return UserLoginResponseDTO containing user details, JWT token, and expiration
      * @throws UserNotFoundException if no user found with the provided email
-     * @throws org.springframework.security.authentication.BadCredentialsException if password is incorrect
+     * @throws BadCredentialsException if password is incorrect
      */
     @Override
     public UserLoginResponseDTO login(UserLoginRequestDTO loginRequest) {
@@ -94,20 +114,44 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new UserNotFoundException("User not found", "Email", loginRequest.getEmail()));
 
         // ✅ Use raw password from request, not encoded one
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+        if (!encoder.matches(loginRequest.getPassword(), userToLogin.getPassword())) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+        if (passwordRehasher.needsRehash(userToLogin)) {
+            passwordRehasher.rehash(userToLogin, loginRequest.getPassword());
+        }
 
+        UserDetails userDetails = MyUserDetailsService.toUserDetails(userToLogin);
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userToLogin.getEmail());
-        String token = jwtUtil.generateToken(userDetails.getUsername(), userToLogin.getEmail(), userToLogin.getRoles());
-        long validityHours = jwtUtil.getTokenValidityInHours(token);
-
-        UserLoginResponseDTO response = userConverter.loginEntityToResponse(userToLogin);
-        response.setToken(token);
-        response.setExpiry(validityHours);
+        UUID familyId = UUID.randomUUID();
+        return buildLoginResponse(userToLogin, refreshTokenService.issue(userToLogin, familyId), familyId);
+    }
 
-        return response;
+    /**
+     * Exchanges a refresh token for a new JWT token and refresh token.
+     *
+     * <p>Process flow:
+     * <ol>
+     *   <li>Find the refresh token by its hash, together with its user</li>
+     *   <li>Mark it used, revoking its family if it had been used before</li>
+     *   <li>Issue a new refresh token in the same family</li>
+     *   <li>Generate JWT token from the user's current roles</li>
+     *   <li>Build and return login response</li>
+     * </ol>
+     *
+     * @param refreshRequest the refresh token to exchange
+     * @return UserLoginResponseDTO containing user details, JWT token, refresh token and expiration
+     * @throws com.hcltech.authservice.exception.InvalidRefreshTokenException if the refresh token
+     *         is unknown, expired or already used
+     */
+    @Override
+    public UserLoginResponseDTO refresh(RefreshTokenRequestDTO refreshRequest) {
+        RefreshToken used = refreshTokenService.consume(refreshRequest.getRefreshToken());
+        User user = used.getUser();
+        return buildLoginResponse(user, refreshTokenService.issue(user, used.getFamilyId()), used.getFamilyId());
     }
 
     /**
@@ -154,12 +198,22 @@ public class AuthServiceImpl implements AuthService {
         }
 
         userRepository.save(user);
+        userLookupCache.invalidate(user);
 
         return ResponseEntity.ok(new MessageResponseDTO("User registered successfully!"));
     }
 
     /**
-     * Creates a response cookie to clear the JWT token during logout.
+     * Revokes the caller's tokens and creates a response cookie to clear the JWT token during logout.
+     *
+     * <p>Clearing the cookie alone would leave a bearer token usable until it expires, so:
+     * <ol>
+     *   <li>The JWT token's ID is revoked until the token's expiry, which the API gateway
+     *       picks up with its next poll of the revocation filter</li>
+     *   <li>The refresh tokens of the token's login session are deleted, so that session cannot
+     *       obtain a new JWT token; the user's other sessions stay signed in</li>
+     * </ol>
+     * Tokens issued before token IDs or session IDs were introduced carry none and simply expire.
      *
      * <p>The cookie is configured with:
      * <ul>
@@ -169,13 +223,41 @@ public class AuthServiceImpl implements AuthService {
      *   <li>Max age of 0 to expire immediately</li>
      * </ul>
      *
+     * @param token the caller's JWT token
      * @return ResponseCookie configured to clear the authentication cookie
      */
     @Override
-    public ResponseCookie logoutUser() {
+    public ResponseCookie logoutUser(String token) {
+        JwtClaimsView claims = jwtUtil.parse(token);
+        if (claims.getId() != null) {
+            tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+        }
+        String sessionId = claims.getClaim(JwtUtil.SESSION_CLAIM, String.class);
+        if (sessionId != null) {
+            refreshTokenService.revokeFamily(UUID.fromString(sessionId));
+        }
         return ResponseCookie.from("jwt", null).path("/").httpOnly(true).maxAge(0).build();
     }
 
+    /**
+     * Builds the login response for a user with a fresh JWT token.
+     *
+     * @param user the authenticated user
+     * @param refreshToken the refresh token issued alongside
+     * @param familyId the refresh token family, identifying the login session
+     * @return UserLoginResponseDTO with user details, tokens and expiration
+     */
+    private UserLoginResponseDTO buildLoginResponse(User user, String refreshToken, UUID familyId) {
+        String token = jwtUtil.generateToken(user.getUsername(), user.getEmail(), user.getRoles(), familyId);
+
+        UserLoginResponseDTO response = userConverter.loginEntityToResponse(user);
+        response.setToken(token);
+        response.setExpiry(jwtUtil.getTokenValidityInHours(token));
+        response.setExpiresIn(jwtUtil.getTokenValidityInSeconds(token));
+        response.setRefreshToken(refreshToken);
+        return response;
+    }
+
     /**
      * Retrieves detailed information about the currently authenticated user.
      *
@@ -186,6 +268,9 @@ public class AuthServiceImpl implements AuthService {
      *   <li>Throws exception if user not found by either identifier</li>
      * </ol>
      *
+     * <p>Both lookups go through the {@link UserLookupCache}, since the frontend polls
+     * this on every page.
+     *
      * @param authentication the Spring Security authentication object
      * @return UserRegisterResponseDTO with user details
      * @throws RuntimeException if user cannot be found in the database
@@ -197,8 +282,8 @@ public class AuthServiceImpl implements AuthService {
         String identifier = authentication.getName();
 
         // ✅ Try email first, then username
-        User user = userRepository.findByEmail(identifier)
-                .or(() -> userRepository.findByUsername(identifier))
+        User user = userLookupCache.findByEmail(identifier)
+                .or(() -> userLookupCache.findByUsername(identifier))
                 .orElseThrow(() -> new RuntimeException("User not found: " + identifier));
 
         return userConverter.registerEntityToResponse(user);
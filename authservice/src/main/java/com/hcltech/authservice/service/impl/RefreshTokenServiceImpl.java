@@ -0,0 +1,169 @@
+package com.hcltech.authservice.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hcltech.authservice.entity.RefreshToken;
+import com.hcltech.authservice.entity.User;
+import com.hcltech.authservice.exception.InvalidRefreshTokenException;
+import com.hcltech.authservice.repository.RefreshTokenRepository;
+import com.hcltech.authservice.service.RefreshTokenService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Implementation of the RefreshTokenService interface storing hashed, rotating refresh tokens.
+ *
+ * <p>Tokens are 256 random bits, Base64url-encoded. They carry enough entropy that a fast
+ * SHA-256 hash is a safe storage format; unlike passwords they need no BCrypt, which is the
+ * point of refreshing instead of logging in again.
+ *
+ * <p>Rotation:
+ * <ol>
+ *   <li>Look up the hash of the presented token, fetching the user in the same query</li>
+ *   <li>Reject it if unknown or expired</li>
+ *   <li>If it was already used, revoke the whole family and reject it</li>
+ *   <li>Mark it used with a conditional update, so two concurrent uses cannot both succeed</li>
+ * </ol>
+ * The caller then issues the replacement in the same family.
+ *
+ * <p>Tokens live for {@code refresh-token.expiration} (default 14 days). Expired rows are
+ * purged every {@code refresh-token.purge-interval} (default 1 hour).
+ *
+ * @author Boobesh Kumar S
+ * @version 1.0
+ * @since 2025-11-17
+ * @see RefreshTokenService
+ * @see RefreshTokenRepository
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    /**
+     * Logger instance for token replays and purges.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration expiration;
+    private final Clock clock;
+
+    /**
+     * Creates the service.
+     *
+     * @param refreshTokenRepository the repository storing token hashes
+     * @param expiration how long a refresh token stays valid
+     */
+    @Autowired
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                   @Value("${refresh-token.expiration:14d}") Duration expiration) {
+        this(refreshTokenRepository, expiration, Clock.systemUTC());
+    }
+
+    RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository, Duration expiration, Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expiration = expiration;
+        this.clock = clock;
+    }
+
+    /**
+     * Issues a refresh token starting a new token family.
+     *
+     * @param user the user to issue the token to
+     * @return the opaque token to hand to the client
+     */
+    @Override
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Issues a refresh token in the given family and stores its hash.
+     *
+     * @param user the user to issue the token to
+     * @param familyId the token family
+     * @return the opaque token to hand to the client
+     */
+    @Override
+    public String issue(User user, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setUser(user);
+        token.setFamilyId(familyId);
+        token.setExpiresAt(clock.instant().plus(expiration));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    /**
+     * Validates a presented token and marks it used.
+     *
+     * @param rawToken the opaque token presented by the client
+     * @return the used token, with its user loaded
+     * @throws InvalidRefreshTokenException if the token is unknown, expired or already used
+     */
+    @Override
+    public RefreshToken consume(String rawToken) {
+        Instant now = clock.instant();
+        RefreshToken token = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token is invalid"));
+        if (!token.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+        if (token.getRotatedAt() != null || refreshTokenRepository.markRotated(token.getId(), now) == 0) {
+            logger.warn("Refresh token of family {} presented again; revoking the family", token.getFamilyId());
+            refreshTokenRepository.deleteByFamilyId(token.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+        return token;
+    }
+
+    /**
+     * Revokes every refresh token of a family by deleting them.
+     *
+     * @param familyId the token family
+     */
+    @Override
+    public void revokeFamily(UUID familyId) {
+        int deleted = refreshTokenRepository.deleteByFamilyId(familyId);
+        logger.debug("Revoked {} refresh tokens", deleted);
+    }
+
+    /**
+     * Deletes expired refresh tokens.
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.purge-interval:1h}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(clock.instant());
+        logger.debug("Purged {} expired refresh tokens", deleted);
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,23 +1,22 @@
 package com.hcltech.authservice.util;
 
-import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.hcltech.authservice.entity.UserRole;
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
+import com.hcltech.commonlib.jwt.JwtTokenParser;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import java.security.Key;
 
 /**
  * Utility class for JWT token operations including generation, validation, and extraction.
@@ -32,6 +31,8 @@ import java.security.Key;
  * </ul>
  *
  * <p>Uses HMAC-SHA512 algorithm for token signing and Base64-encoded secret key.
+ * The key and parser are built once, at construction, by the shared {@link JwtTokenParser}, and every
+ * token is verified a single time per call to {@link #parse(String)}.
  *
  * @author Boobesh Kumar S
  * @version 1.0
@@ -41,10 +42,51 @@ import java.security.Key;
  */
 @Component
 public class JwtUtil {
-    @Value("${jwt.secret}")
-    private String secret;
-    @Value("${jwt.expiration}")
-    private long jwtExpirationInMs;
+    /**
+     * Claim carrying the refresh token family of the login a token was issued for.
+     */
+    public static final String SESSION_CLAIM = "sid";
+
+    private final long jwtExpirationInMs;
+    private final JwtTokenParser tokenParser;
+    private final IdentityAssertionCodec assertionCodec;
+
+    /**
+     * Creates the utility and builds the signing and assertion keys once.
+     *
+     * @param secret the Base64-encoded token signing secret
+     * @param jwtExpirationInMs the validity of generated tokens in milliseconds
+     * @param assertionSecret the Base64-encoded secret of gateway identity assertions
+     */
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") long jwtExpirationInMs,
+                   @Value("${identity-assertion.secret}") String assertionSecret) {
+        this.jwtExpirationInMs = jwtExpirationInMs;
+        this.tokenParser = new JwtTokenParser(secret);
+        this.assertionCodec = new IdentityAssertionCodec(assertionSecret, secret);
+    }
+
+    /**
+     * Verifies the JWT token once and returns all of its claims.
+     *
+     * @param token the JWT token
+     * @return immutable view of the token claims
+     */
+    public JwtClaimsView parse(String token) {
+        return tokenParser.parse(token);
+    }
+
+    /**
+     * Verifies the identity assertion forwarded by the API gateway.
+     *
+     * @param assertion the assertion header value, may be null
+     * @param token the bearer token sent with the assertion
+     * @return the asserted identity, or null if the assertion is missing, invalid, expired
+     *         or was issued for another token
+     */
+    public JwtClaimsView parseAssertion(String assertion, String token) {
+        return assertion == null ? null : assertionCodec.decode(assertion, token);
+    }
 
     /**
      * Extracts username from JWT token.
@@ -53,7 +95,7 @@ public class JwtUtil {
      * @return username extracted from token subject
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parse(token).getSubject();
     }
 
     /**
@@ -63,42 +105,31 @@ public class JwtUtil {
      * @return number of hours until token expiration
      */
     public long getTokenValidityInHours(String token) {
-        Date expiration = extractClaim(token, Claims::getExpiration);
+        Date expiration = parse(token).getExpiration();
         long durationMillis = expiration.getTime() - System.currentTimeMillis();
         return TimeUnit.MILLISECONDS.toHours(durationMillis);
     }
 
     /**
-     * Extracts role from JWT token claims.
-     *
-     * @param token the JWT token
-     * @return role string from token claims
-     */
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
-    }
-
-    /**
-     * Generic method to extract specific claim from JWT token.
+     * Calculates remaining validity time of the token in seconds.
      *
-     * @param <T> the type of claim to extract
-     * @param token the JWT token
-     * @param claimsResolver function to extract specific claim from Claims
-     * @return the extracted claim value
+     * @param token the JWT token to check
+     * @return number of seconds until token expiration
      */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public long getTokenValidityInSeconds(String token) {
+        Date expiration = parse(token).getExpiration();
+        long durationMillis = expiration.getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toSeconds(durationMillis);
     }
 
     /**
-     * Extracts all claims from JWT token.
+     * Extracts role from JWT token claims.
      *
      * @param token the JWT token
-     * @return Claims object containing all token claims
+     * @return role string from token claims
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+    public String extractRole(String token) {
+        return parse(token).getClaim("role", String.class);
     }
 
     /**
@@ -109,49 +140,50 @@ public class JwtUtil {
      * @return true if token is valid and not expired, false otherwise
      */
     public boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        return parse(token).isValidFor(username);
     }
 
     /**
-     * Checks if JWT token is expired.
+     * Generates a new JWT token for authenticated user.
      *
-     * @param token the JWT token to check
-     * @return true if token is expired, false otherwise
+     * @param username the user's username
+     * @param email the user's email address
+     * @param roles the set of user roles for authorization
+     * @return signed JWT token string
      */
-    private Boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
+    public String generateToken(String username, String email, Set<UserRole> roles) {
+        return generateToken(username, email, roles, null);
     }
 
     /**
-     * Generates a new JWT token for authenticated user.
+     * Generates a new JWT token for a login session.
+     *
+     * <p>The session is the refresh token family the token was issued with. It is carried in
+     * the {@value #SESSION_CLAIM} claim so that logging out can revoke that family alone.
      *
      * @param username the user's username
      * @param email the user's email address
      * @param roles the set of user roles for authorization
+     * @param sessionId the refresh token family of the login, may be null
      * @return signed JWT token string
      */
-    public String generateToken(String username, String email, Set<UserRole> roles) {
+    public String generateToken(String username, String email, Set<UserRole> roles, UUID sessionId) {
         Map<String, Object> claims = new HashMap<>();
 //        claims.put("roles", roles); // Ensure role is correctly added
         claims.put("roles", roles.stream().map(r -> "ROLE_" + r.name()).toList());
+        if (sessionId != null) {
+            claims.put(SESSION_CLAIM, sessionId.toString());
+        }
 
         return createToken(claims, username, email);
     }
 
-    /**
-     * Creates the signing key from Base64 encoded secret.
-     *
-     * @return Key object for JWT signing
-     */
-    private Key getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     /**
      * Creates JWT token with specified claims and subject.
      *
+     * <p>Every token gets a random ID ({@code jti} claim) so that it can be revoked
+     * on its own before it expires.
+     *
      * @param claims additional claims to include in token
      * @param subject the token subject (typically username)
      * @param email the user's email address
@@ -161,11 +193,12 @@ public class JwtUtil {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(email)
+                .setId(UUID.randomUUID().toString())
                 .claim("email", email)
                 .claim("username", subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512).compact();
+                .signWith(tokenParser.getSigningKey(), SignatureAlgorithm.HS512).compact();
     }
 
     /**
@@ -175,6 +208,6 @@ public class JwtUtil {
      * @return list of role strings from token claims
      */
     public List<String> extractRoles(String token) {
-        return extractClaim(token, claims -> claims.get("roles", List.class));
+        return parse(token).getRoles();
     }
 }
\ No newline at end of file
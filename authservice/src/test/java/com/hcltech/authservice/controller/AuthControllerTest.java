@@ -1,6 +1,7 @@
 package com.hcltech.authservice.controller;
 
 import com.hcltech.authservice.dto.MessageResponseDTO;
+import com.hcltech.authservice.dto.RefreshTokenRequestDTO;
 import com.hcltech.authservice.dto.UserLoginRequestDTO;
 import com.hcltech.authservice.dto.UserLoginResponseDTO;
 import com.hcltech.authservice.dto.UserRegisterRequestDTO;
@@ -97,6 +98,25 @@ class AuthControllerTest {
         verify(authService).login(loginRequest);
     }
 
+    /**
+     * Test successful token refresh.
+     */
+    @Test
+    void testRefreshToken_Success() {
+        // Arrange
+        RefreshTokenRequestDTO refreshRequest = new RefreshTokenRequestDTO();
+        refreshRequest.setRefreshToken("refresh-token");
+        when(authService.refresh(refreshRequest)).thenReturn(loginResponse);
+
+        // Act
+        ResponseEntity<UserLoginResponseDTO> result = authController.refreshToken(refreshRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(loginResponse, result.getBody());
+        verify(authService).refresh(refreshRequest);
+    }
+
     /**
      * Test successful user registration.
      */
@@ -170,15 +190,30 @@ class AuthControllerTest {
         // Arrange
         var responseCookie = mock(org.springframework.http.ResponseCookie.class);
         when(responseCookie.toString()).thenReturn("jwt=; Path=/; HttpOnly; Max-Age=0");
-        when(authService.logoutUser()).thenReturn(responseCookie);
+        when(authService.logoutUser("jwt-token")).thenReturn(responseCookie);
 
         // Act
-        ResponseEntity<MessageResponseDTO> result = authController.signoutUser();
+        ResponseEntity<MessageResponseDTO> result = authController.signoutUser("Bearer jwt-token");
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals("You've been signed out!", result.getBody().getMessage());
-        verify(authService).logoutUser();
+        verify(authService).logoutUser("jwt-token");
+    }
+
+    /**
+     * Test logout with an Authorization header that carries no Bearer token.
+     */
+    @Test
+    void testSignoutUser_NotBearer() {
+        // Act
+        ResponseEntity<MessageResponseDTO> basic = authController.signoutUser("Basic dXNlcjpwYXNz");
+        ResponseEntity<MessageResponseDTO> empty = authController.signoutUser("Bearer ");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, basic.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, empty.getStatusCode());
+        verify(authService, never()).logoutUser(anyString());
     }
-}
\ No newline at end of file
+}
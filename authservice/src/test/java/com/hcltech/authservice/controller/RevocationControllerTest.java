@@ -0,0 +1,83 @@
+package com.hcltech.authservice.controller;
+
+import com.hcltech.authservice.dto.RevocationStatusDTO;
+import com.hcltech.authservice.service.TokenRevocationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RevocationController class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RevocationControllerTest {
+
+    private static final TokenRevocationService.Snapshot SNAPSHOT =
+            new TokenRevocationService.Snapshot("\"abc-1\"", new byte[] { 1, 2, 3 });
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private RevocationController revocationController;
+
+    /**
+     * Test that the filter is returned with its entity tag.
+     */
+    @Test
+    void testGetFilter() {
+        // Arrange
+        when(tokenRevocationService.snapshot()).thenReturn(SNAPSHOT);
+
+        // Act
+        ResponseEntity<byte[]> result = revocationController.getFilter(null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"abc-1\"", result.getHeaders().getETag());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, result.getBody());
+    }
+
+    /**
+     * Test that an unchanged filter is not sent again.
+     */
+    @Test
+    void testGetFilter_NotModified() {
+        // Arrange
+        when(tokenRevocationService.snapshot()).thenReturn(SNAPSHOT);
+
+        // Act
+        ResponseEntity<byte[]> result = revocationController.getFilter("\"abc-1\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+    }
+
+    /**
+     * Test confirming a revoked token.
+     */
+    @Test
+    void testGetStatus() {
+        // Arrange
+        when(tokenRevocationService.isRevoked("token-id")).thenReturn(true);
+
+        // Act
+        ResponseEntity<RevocationStatusDTO> result = revocationController.getStatus("token-id");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(new RevocationStatusDTO("token-id", true), result.getBody());
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -60,4 +61,39 @@ class MyGlobalExceptionHandlerTest {
         assertEquals("User already exists with email : test@example.com", response.getBody().getMessage());
         assertFalse(response.getBody().isStatus());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test handling InvalidRefreshTokenException.
+     */
+    @Test
+    void testHandleInvalidRefreshTokenException() {
+        // Arrange
+        InvalidRefreshTokenException exception = new InvalidRefreshTokenException("Refresh token has expired");
+
+        // Act
+        ResponseEntity<APIResponse> response = exceptionHandler.myInvalidRefreshTokenException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Refresh token has expired", response.getBody().getMessage());
+        assertFalse(response.getBody().isStatus());
+    }
+
+    /**
+     * Test handling PasswordHashingRejectedException.
+     */
+    @Test
+    void testHandlePasswordHashingRejectedException() {
+        // Arrange
+        PasswordHashingRejectedException exception = new PasswordHashingRejectedException("busy");
+
+        // Act
+        ResponseEntity<APIResponse> response = exceptionHandler.myPasswordHashingRejectedException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("busy", response.getBody().getMessage());
+        assertFalse(response.getBody().isStatus());
+    }
+}
@@ -0,0 +1,122 @@
+package com.hcltech.authservice.security;
+
+import com.hcltech.authservice.exception.PasswordHashingRejectedException;
+import com.hcltech.commonlib.deadline.DeadlineExceededException;
+import com.hcltech.commonlib.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedPasswordEncoder class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry registry;
+    private CountDownLatch release;
+    private CountDownLatch started;
+    private BoundedPasswordEncoder encoder;
+
+    /**
+     * Setup method to create an encoder whose delegate blocks until released.
+     */
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+        started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, registry);
+    }
+
+    /**
+     * Cleanup method to release blocked hashes and stop the pool.
+     */
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+        RequestDeadline.clear();
+    }
+
+    /**
+     * Test that encode and matches are delegated and timed per operation.
+     */
+    @Test
+    void testEncodeAndMatches_DelegatedAndTimed() {
+        BoundedPasswordEncoder bcrypt = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, registry);
+        try {
+            String hash = bcrypt.encode("Password@1");
+
+            assertTrue(bcrypt.matches("Password@1", hash));
+            assertFalse(bcrypt.matches("Wrong@123", hash));
+            assertEquals(1, registry.get("auth.password.hashing").tag("operation", "encode").timer().count());
+            assertEquals(2, registry.get("auth.password.hashing").tag("operation", "matches").timer().count());
+        } finally {
+            bcrypt.close();
+        }
+    }
+
+    /**
+     * Test that a hash is rejected at once when the thread and the queue are both taken.
+     */
+    @Test
+    void testQueueFull_RejectedImmediately() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (registry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        long start = System.nanoTime();
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("third"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(1, registry.get("auth.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("encoded:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that the caller stops waiting once its request deadline has passed.
+     */
+    @Test
+    void testDeadlinePassed_StopsWaiting() {
+        RequestDeadline.set(System.currentTimeMillis() + 100);
+
+        assertThrows(DeadlineExceededException.class, () -> encoder.encode("slow"));
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
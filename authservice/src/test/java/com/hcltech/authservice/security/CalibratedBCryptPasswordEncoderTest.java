@@ -0,0 +1,67 @@
+package com.hcltech.authservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CalibratedBCryptPasswordEncoder class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+class CalibratedBCryptPasswordEncoderTest {
+
+    /**
+     * Test that calibration picks the highest cost within the target, bounded by min and max.
+     */
+    @Test
+    void testCalibrate_HighestCostWithinTarget() {
+        // 1 ms at cost 4, doubling per round: cost 12 takes 256 ms
+        Duration target = Duration.ofMillis(300);
+
+        assertEquals(12, CalibratedBCryptPasswordEncoder.calibrate(target, 10, 14, CalibratedBCryptPasswordEncoderTest::simulated).getCost());
+        assertEquals(11, CalibratedBCryptPasswordEncoder.calibrate(target, 8, 11, CalibratedBCryptPasswordEncoderTest::simulated).getCost());
+        assertEquals(13, CalibratedBCryptPasswordEncoder.calibrate(target, 13, 15, CalibratedBCryptPasswordEncoderTest::simulated).getCost());
+    }
+
+    /**
+     * Test that only a hash of a lower cost is reported for upgrade, never a stronger one.
+     */
+    @Test
+    void testUpgradeEncoding_OnlyLowerCost() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertFalse(encoder.upgradeEncoding(encoder.encode("Password@1")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("Password@1")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("Password@1")));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    /**
+     * Test that legacy hashes without an algorithm prefix still match through the delegating encoder and are upgraded.
+     */
+    @Test
+    void testDelegating_LegacyHashMatchesAndUpgrades() {
+        CalibratedBCryptPasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(4);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        String legacy = new BCryptPasswordEncoder(4).encode("Password@1");
+        String current = delegating.encode("Password@1");
+
+        assertTrue(delegating.matches("Password@1", legacy));
+        assertTrue(delegating.upgradeEncoding(legacy));
+        assertTrue(current.startsWith("{bcrypt}$2a$04$"));
+        assertFalse(delegating.upgradeEncoding(current));
+    }
+
+    private static long simulated(int cost) {
+        return Duration.ofMillis(1L << (cost - 4)).toNanos();
+    }
+}
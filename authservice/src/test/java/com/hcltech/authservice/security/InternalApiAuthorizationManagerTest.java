@@ -0,0 +1,69 @@
+package com.hcltech.authservice.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InternalApiAuthorizationManager class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+class InternalApiAuthorizationManagerTest {
+
+    private InternalApiAuthorizationManager authorizationManager;
+
+    /**
+     * Setup method to initialize the manager with a known secret.
+     */
+    @BeforeEach
+    void setUp() {
+        authorizationManager = new InternalApiAuthorizationManager("internal-secret");
+    }
+
+    /**
+     * Test that a request carrying the shared secret is granted.
+     */
+    @Test
+    void testCheck_MatchingSecret() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/revocations/filter");
+        request.addHeader(InternalApiAuthorizationManager.HEADER, "internal-secret");
+
+        // Act & Assert
+        assertTrue(authorizationManager.check(() -> null, context(request)).isGranted());
+    }
+
+    /**
+     * Test that requests without the secret, or with another one, are denied.
+     */
+    @Test
+    void testCheck_MissingOrWrongSecret() {
+        // Arrange
+        MockHttpServletRequest missing = new MockHttpServletRequest("GET", "/internal/revocations/filter");
+        MockHttpServletRequest wrong = new MockHttpServletRequest("GET", "/internal/revocations/filter");
+        wrong.addHeader(InternalApiAuthorizationManager.HEADER, "guessed-secret");
+
+        // Act & Assert
+        assertFalse(authorizationManager.check(() -> null, context(missing)).isGranted());
+        assertFalse(authorizationManager.check(() -> null, context(wrong)).isGranted());
+    }
+
+    /**
+     * Test that a blank secret is rejected at startup.
+     */
+    @Test
+    void testConstructor_BlankSecret() {
+        assertThrows(IllegalArgumentException.class, () -> new InternalApiAuthorizationManager(" "));
+    }
+
+    private static RequestAuthorizationContext context(HttpServletRequest request) {
+        return new RequestAuthorizationContext(request);
+    }
+}
@@ -1,6 +1,8 @@
 package com.hcltech.authservice.security;
 
 import com.hcltech.authservice.util.JwtUtil;
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +13,9 @@ import org.mockito.*;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 
@@ -80,12 +84,28 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_validJwt_setsAuthentication() throws ServletException, IOException {
         String jwt = "valid.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtUtil.extractUsername(jwt)).thenReturn("testUser");
-        when(jwtUtil.extractRoles(jwt)).thenReturn(List.of("ROLE_USER"));
-        when(jwtUtil.validateToken(jwt, "testUser")).thenReturn(true);
+        when(jwtUtil.parse(jwt)).thenReturn(new JwtClaimsView("testUser", List.of("ROLE_USER"),
+                new Date(System.currentTimeMillis() + 60_000), Map.of()));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
+        verify(jwtUtil, times(1)).parse(jwt);
+        verify(filterChain, times(1)).doFilter(request, response);
+        assert SecurityContextHolder.getContext().getAuthentication() != null;
+        assert SecurityContextHolder.getContext().getAuthentication().getName().equals("testUser");
+    }
+
+    @Test
+    void doFilterInternal_gatewayAssertion_skipsJwtParsing() throws ServletException, IOException {
+        String jwt = "valid.jwt.token";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(request.getHeader(IdentityAssertionCodec.HEADER)).thenReturn("assertion");
+        when(jwtUtil.parseAssertion("assertion", jwt)).thenReturn(new JwtClaimsView("testUser", List.of("ROLE_USER"),
+                new Date(System.currentTimeMillis() + 60_000), Map.of()));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(jwtUtil, never()).parse(anyString());
         verify(filterChain, times(1)).doFilter(request, response);
         assert SecurityContextHolder.getContext().getAuthentication() != null;
         assert SecurityContextHolder.getContext().getAuthentication().getName().equals("testUser");
@@ -95,9 +115,8 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_invalidJwt_noAuthentication() throws ServletException, IOException {
         String jwt = "invalid.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtUtil.extractUsername(jwt)).thenReturn("testUser");
-        when(jwtUtil.extractRoles(jwt)).thenReturn(List.of("ROLE_USER"));
-        when(jwtUtil.validateToken(jwt, "testUser")).thenReturn(false);
+        when(jwtUtil.parse(jwt)).thenReturn(new JwtClaimsView("testUser", List.of("ROLE_USER"),
+                new Date(System.currentTimeMillis() - 60_000), Map.of()));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
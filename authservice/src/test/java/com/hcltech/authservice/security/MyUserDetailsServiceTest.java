@@ -3,7 +3,6 @@ package com.hcltech.authservice.security;
 import com.hcltech.authservice.entity.User;
 import com.hcltech.authservice.entity.UserRole;
 import com.hcltech.authservice.exception.UserNotFoundException;
-import com.hcltech.authservice.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,7 +31,7 @@ import static org.mockito.Mockito.*;
 class MyUserDetailsServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserLookupCache userLookupCache;
 
     @InjectMocks
     private MyUserDetailsService userDetailsService;
@@ -61,7 +60,7 @@ class MyUserDetailsServiceTest {
     @Test
     void testLoadUserByUsername_Success() {
         // Arrange
-        when(userRepository.findByEmail("test@example.com"))
+        when(userLookupCache.findByEmail("test@example.com"))
                 .thenReturn(Optional.of(testUser));
 
         // Act
@@ -73,7 +72,7 @@ class MyUserDetailsServiceTest {
         assertEquals("encodedPassword", userDetails.getPassword());
         assertTrue(userDetails.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_USER")));
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userLookupCache).findByEmail("test@example.com");
     }
 
     /**
@@ -82,13 +81,13 @@ class MyUserDetailsServiceTest {
     @Test
     void testLoadUserByUsername_UserNotFound() {
         // Arrange
-        when(userRepository.findByEmail("nonexistent@example.com"))
+        when(userLookupCache.findByEmail("nonexistent@example.com"))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(UserNotFoundException.class,
                 () -> userDetailsService.loadUserByUsername("nonexistent@example.com"));
-        verify(userRepository).findByEmail("nonexistent@example.com");
+        verify(userLookupCache).findByEmail("nonexistent@example.com");
     }
 
     /**
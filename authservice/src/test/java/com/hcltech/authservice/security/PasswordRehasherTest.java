@@ -0,0 +1,111 @@
+package com.hcltech.authservice.security;
+
+import com.hcltech.authservice.entity.User;
+import com.hcltech.authservice.exception.PasswordHashingRejectedException;
+import com.hcltech.authservice.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PasswordRehasher class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+class PasswordRehasherTest {
+
+    private PasswordEncoder encoder;
+    private UserRepository userRepository;
+    private UserLookupCache userLookupCache;
+    private SimpleMeterRegistry registry;
+    private PasswordRehasher rehasher;
+    private User user;
+
+    /**
+     * Setup method to create the rehasher with mocked collaborators.
+     */
+    @BeforeEach
+    void setUp() {
+        encoder = mock(PasswordEncoder.class);
+        userRepository = mock(UserRepository.class);
+        userLookupCache = mock(UserLookupCache.class);
+        registry = new SimpleMeterRegistry();
+        rehasher = new PasswordRehasher(encoder, userRepository, userLookupCache, registry, 10);
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setPassword("$2a$10$old");
+    }
+
+    /**
+     * Cleanup method to stop the background thread.
+     */
+    @AfterEach
+    void tearDown() {
+        rehasher.destroy();
+    }
+
+    /**
+     * Test that the new hash is stored in the background, conditional on the old one.
+     */
+    @Test
+    void testRehash_StoresNewHash() {
+        when(encoder.encode("Password@1")).thenReturn("{bcrypt}$2a$12$new");
+        when(userRepository.updatePasswordIfUnchanged(user.getId(), "$2a$10$old", "{bcrypt}$2a$12$new")).thenReturn(1);
+
+        rehasher.rehash(user, "Password@1");
+
+        assertEquals(1, awaitCount("updated"));
+        verify(userRepository).updatePasswordIfUnchanged(user.getId(), "$2a$10$old", "{bcrypt}$2a$12$new");
+        verify(userLookupCache).invalidate(user);
+    }
+
+    /**
+     * Test that a hash changed in the meantime is left alone and a saturated hashing pool drops the upgrade.
+     */
+    @Test
+    void testRehash_StaleOrRejected() {
+        when(encoder.encode("Password@1"))
+                .thenReturn("{bcrypt}$2a$12$new")
+                .thenThrow(new PasswordHashingRejectedException("busy"));
+        when(userRepository.updatePasswordIfUnchanged(any(), any(), any())).thenReturn(0);
+
+        rehasher.rehash(user, "Password@1");
+        assertEquals(1, awaitCount("stale"));
+        rehasher.rehash(user, "Password@1");
+        assertEquals(1, awaitCount("dropped"));
+        verify(userRepository, times(1)).updatePasswordIfUnchanged(any(), any(), any());
+    }
+
+    /**
+     * Test that needsRehash asks the encoder about the stored hash.
+     */
+    @Test
+    void testNeedsRehash_DelegatesToEncoder() {
+        when(encoder.upgradeEncoding("$2a$10$old")).thenReturn(true);
+
+        assertTrue(rehasher.needsRehash(user));
+    }
+
+    private double awaitCount(String outcome) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Counter counter = registry.find("auth.password.rehash").tag("outcome", outcome).counter();
+            if (counter != null && counter.count() > 0) {
+                return counter.count();
+            }
+            Thread.onSpinWait();
+        }
+        return 0;
+    }
+}
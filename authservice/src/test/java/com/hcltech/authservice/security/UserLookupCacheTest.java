@@ -0,0 +1,130 @@
+package com.hcltech.authservice.security;
+
+import com.hcltech.authservice.entity.User;
+import com.hcltech.authservice.entity.UserRole;
+import com.hcltech.authservice.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserLookupCache class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserLookupCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry registry;
+    private UserLookupCache userLookupCache;
+    private User testUser;
+
+    /**
+     * Setup method to create the cache and a stored user before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        userLookupCache = new UserLookupCache(userRepository, registry, 100, Duration.ofMinutes(5));
+
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setUsername("testuser");
+        testUser.setEmail("test@example.com");
+        testUser.setPassword("encodedPassword");
+        testUser.setRoles(new HashSet<>(Set.of(UserRole.STUDENT)));
+    }
+
+    /**
+     * Test that a user is loaded once per key and then served from the cache, with hits and misses counted.
+     */
+    @Test
+    void testFindByEmail_LoadsOnce() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        // Act
+        userLookupCache.findByEmail("test@example.com");
+        Optional<User> result = userLookupCache.findByEmail("test@example.com");
+
+        // Assert
+        assertEquals("testuser", result.orElseThrow().getUsername());
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+        assertEquals(1, registry.get("cache.gets").tag("cache", "users-by-email").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tag("cache", "users-by-email").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    /**
+     * Test that changing a returned user does not change the cached one.
+     */
+    @Test
+    void testFindByUsername_ReturnsCopy() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act
+        userLookupCache.findByUsername("testuser").orElseThrow().getRoles().add(UserRole.ADMIN);
+        User result = userLookupCache.findByUsername("testuser").orElseThrow();
+
+        // Assert
+        assertEquals(Set.of(UserRole.STUDENT), result.getRoles());
+    }
+
+    /**
+     * Test that unknown users are not cached.
+     */
+    @Test
+    void testFindByEmail_NotFoundNotCached() {
+        // Arrange
+        when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
+
+        // Act
+        userLookupCache.findByEmail("new@example.com");
+        Optional<User> result = userLookupCache.findByEmail("new@example.com");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(userRepository, times(2)).findByEmail("new@example.com");
+        assertTrue(userLookupCache.findByEmail(null).isEmpty());
+    }
+
+    /**
+     * Test that an invalidated user is loaded again under both keys.
+     */
+    @Test
+    void testInvalidate() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        userLookupCache.findByEmail("test@example.com");
+        userLookupCache.findByUsername("testuser");
+
+        // Act
+        userLookupCache.invalidate(testUser);
+        userLookupCache.findByEmail("test@example.com");
+        userLookupCache.findByUsername("testuser");
+
+        // Assert
+        verify(userRepository, times(2)).findByEmail("test@example.com");
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+}
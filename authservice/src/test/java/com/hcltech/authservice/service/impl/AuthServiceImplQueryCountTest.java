@@ -0,0 +1,167 @@
+package com.hcltech.authservice.service.impl;
+
+import com.hcltech.authservice.dto.RefreshTokenRequestDTO;
+import com.hcltech.authservice.dto.UserLoginRequestDTO;
+import com.hcltech.authservice.dto.UserLoginResponseDTO;
+import com.hcltech.authservice.entity.User;
+import com.hcltech.authservice.exception.InvalidRefreshTokenException;
+import com.hcltech.authservice.repository.RefreshTokenRepository;
+import com.hcltech.authservice.repository.UserRepository;
+import com.hcltech.authservice.security.PasswordRehasher;
+import com.hcltech.authservice.security.UserLookupCache;
+import com.hcltech.authservice.util.JwtUtil;
+import com.hcltech.authservice.util.UserConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query count tests for AuthServiceImpl login, refresh and user lookups against an in-memory database.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jwt.secret=jMArLpHsJw0NlMuvz7esYfcgeNEmbijL0+TH/MRl86ozbrkMTWJPztO7qRQkop8bKe4lCvh8GW2FnJCj2Oy/ig==",
+        "identity-assertion.secret=c2VwYXJhdGUtaWRlbnRpdHktYXNzZXJ0aW9uLXNlY3JldC1mb3ItdGVzdHM=",
+        "jwt.expiration=7200000"
+})
+@Import({ AuthServiceImpl.class, UserConverter.class, JwtUtil.class, BCryptPasswordEncoder.class,
+        PasswordRehasher.class, SimpleMeterRegistry.class, RefreshTokenServiceImpl.class,
+        TokenRevocationServiceImpl.class, UserLookupCache.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceImplQueryCountTest {
+
+    @Autowired
+    private AuthServiceImpl authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserLookupCache userLookupCache;
+
+    private Statistics statistics;
+    private User user;
+
+    /**
+     * Setup method to store a user and reset the Hibernate statistics before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("testuser");
+        user.setEmail("test@example.com");
+        user.setPassword(passwordEncoder.encode("Password@1"));
+        userRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Cleanup method to remove the stored user and the security context after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        userLookupCache.invalidate(user);
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test that a successful login reads the user with exactly one query and only adds the refresh token insert.
+     */
+    @Test
+    void testLogin_Success_SingleQuery() {
+        UserLoginRequestDTO request = new UserLoginRequestDTO();
+        request.setEmail("test@example.com");
+        request.setPassword("Password@1");
+
+        UserLoginResponseDTO response = authService.login(request);
+
+        assertNotNull(response.getToken());
+        assertNotNull(response.getRefreshToken());
+        assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Test that a login with a wrong password also issues exactly one query.
+     */
+    @Test
+    void testLogin_InvalidCredentials_SingleQuery() {
+        UserLoginRequestDTO request = new UserLoginRequestDTO();
+        request.setEmail("test@example.com");
+        request.setPassword("Wrong@123");
+
+        assertThrows(BadCredentialsException.class, () -> authService.login(request));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Test that a refresh finds token and user with one lookup, then only rotates: one update and one insert.
+     */
+    @Test
+    void testRefresh_SingleLookup() {
+        UserLoginRequestDTO loginRequest = new UserLoginRequestDTO();
+        loginRequest.setEmail("test@example.com");
+        loginRequest.setPassword("Password@1");
+        RefreshTokenRequestDTO refreshRequest = new RefreshTokenRequestDTO();
+        refreshRequest.setRefreshToken(authService.login(loginRequest).getRefreshToken());
+        statistics.clear();
+
+        UserLoginResponseDTO response = authService.refresh(refreshRequest);
+
+        assertNotNull(response.getToken());
+        assertEquals("testuser", response.getUsername());
+        assertNotEquals(refreshRequest.getRefreshToken(), response.getRefreshToken());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(refreshRequest));
+    }
+
+    /**
+     * Test that repeated current-user lookups read the user once and then come from the cache.
+     */
+    @Test
+    void testGetCurrentUserDetails_Cached() {
+        var authentication = UsernamePasswordAuthenticationToken.authenticated("test@example.com", null, null);
+
+        assertEquals("testuser", authService.getCurrentUserDetails(authentication).getUsername());
+        assertEquals("testuser", authService.getCurrentUserDetails(authentication).getUsername());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -1,17 +1,24 @@
 package com.hcltech.authservice.service.impl;
 
 import com.hcltech.authservice.dto.MessageResponseDTO;
+import com.hcltech.authservice.dto.RefreshTokenRequestDTO;
 import com.hcltech.authservice.dto.UserLoginRequestDTO;
 import com.hcltech.authservice.dto.UserLoginResponseDTO;
 import com.hcltech.authservice.dto.UserRegisterRequestDTO;
 import com.hcltech.authservice.dto.UserRegisterResponseDTO;
+import com.hcltech.authservice.entity.RefreshToken;
 import com.hcltech.authservice.entity.User;
 import com.hcltech.authservice.entity.UserRole;
+import com.hcltech.authservice.exception.InvalidRefreshTokenException;
 import com.hcltech.authservice.exception.UserNotFoundException;
 import com.hcltech.authservice.repository.UserRepository;
-import com.hcltech.authservice.security.MyUserDetailsService;
+import com.hcltech.authservice.security.PasswordRehasher;
+import com.hcltech.authservice.security.UserLookupCache;
+import com.hcltech.authservice.service.RefreshTokenService;
+import com.hcltech.authservice.service.TokenRevocationService;
 import com.hcltech.authservice.util.JwtUtil;
 import com.hcltech.authservice.util.UserConverter;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,14 +27,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -47,9 +55,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceImplTest {
 
-    @Mock
-    private AuthenticationManager authenticationManager;
-
     @Mock
     private UserRepository userRepository;
 
@@ -60,10 +65,19 @@ class AuthServiceImplTest {
     private UserConverter userConverter;
 
     @Mock
-    private MyUserDetailsService userDetailsService;
+    private JwtUtil jwtUtil;
 
     @Mock
-    private JwtUtil jwtUtil;
+    private PasswordRehasher passwordRehasher;
+
+    @Mock
+    private UserLookupCache userLookupCache;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
 
     @Mock
     private Authentication authentication;
@@ -108,7 +122,6 @@ class AuthServiceImplTest {
     @Test
     void testLogin_Success() {
         // Arrange
-        UserDetails userDetails = mock(UserDetails.class);
         UserLoginResponseDTO expectedResponse = new UserLoginResponseDTO();
         expectedResponse.setId(userId);
         expectedResponse.setUsername("testuser");
@@ -118,16 +131,16 @@ class AuthServiceImplTest {
 
         when(userRepository.findByEmail(loginRequest.getEmail()))
                 .thenReturn(Optional.of(testUser));
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(userDetailsService.loadUserByUsername(loginRequest.getEmail()))
-                .thenReturn(userDetails);
-        when(jwtUtil.generateToken(null, "test@example.com", Set.of(UserRole.STUDENT)))
+        when(passwordEncoder.matches("password", "encodedPassword"))
+                .thenReturn(true);
+        when(jwtUtil.generateToken(eq("testuser"), eq("test@example.com"), eq(Set.of(UserRole.STUDENT)), any(UUID.class)))
                 .thenReturn("jwt-token");
         when(jwtUtil.getTokenValidityInHours(anyString()))
                 .thenReturn(24L);
         when(userConverter.loginEntityToResponse(testUser))
                 .thenReturn(expectedResponse);
+        when(refreshTokenService.issue(eq(testUser), any(UUID.class)))
+                .thenReturn("refresh-token");
 
         // Act
         UserLoginResponseDTO result = authService.login(loginRequest);
@@ -136,8 +149,35 @@ class AuthServiceImplTest {
         assertNotNull(result);
         assertEquals("jwt-token", result.getToken());
         assertEquals(24L, result.getExpiry());
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        assertEquals("refresh-token", result.getRefreshToken());
+        assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
         verify(userRepository).findByEmail(loginRequest.getEmail());
+        verifyNoMoreInteractions(userRepository);
+        verify(passwordRehasher, never()).rehash(any(User.class), anyString());
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test that a successful login with an outdated hash queues a rehash.
+     */
+    @Test
+    void testLogin_OutdatedHash_RehashQueued() {
+        // Arrange
+        when(userRepository.findByEmail(loginRequest.getEmail()))
+                .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password", "encodedPassword"))
+                .thenReturn(true);
+        when(passwordRehasher.needsRehash(testUser))
+                .thenReturn(true);
+        when(userConverter.loginEntityToResponse(testUser))
+                .thenReturn(new UserLoginResponseDTO());
+
+        // Act
+        authService.login(loginRequest);
+
+        // Assert
+        verify(passwordRehasher).rehash(testUser, "password");
+        SecurityContextHolder.clearContext();
     }
 
     /**
@@ -152,7 +192,7 @@ class AuthServiceImplTest {
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> authService.login(loginRequest));
         verify(userRepository).findByEmail(loginRequest.getEmail());
-        verifyNoInteractions(authenticationManager);
+        verifyNoInteractions(passwordEncoder, jwtUtil);
     }
 
     /**
@@ -163,13 +203,63 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmail(loginRequest.getEmail()))
                 .thenReturn(Optional.of(testUser));
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new BadCredentialsException("Invalid credentials"));
+        when(passwordEncoder.matches("password", "encodedPassword"))
+                .thenReturn(false);
 
         // Act & Assert
         assertThrows(BadCredentialsException.class, () -> authService.login(loginRequest));
         verify(userRepository).findByEmail(loginRequest.getEmail());
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verifyNoInteractions(jwtUtil, passwordRehasher, refreshTokenService);
+    }
+
+    /**
+     * Test that a refresh rotates the token within its family and issues a new JWT token without hashing a password.
+     */
+    @Test
+    void testRefresh_Success() {
+        // Arrange
+        RefreshTokenRequestDTO refreshRequest = new RefreshTokenRequestDTO();
+        refreshRequest.setRefreshToken("old-refresh-token");
+        RefreshToken used = new RefreshToken();
+        used.setUser(testUser);
+        used.setFamilyId(UUID.randomUUID());
+
+        when(refreshTokenService.consume("old-refresh-token"))
+                .thenReturn(used);
+        when(refreshTokenService.issue(testUser, used.getFamilyId()))
+                .thenReturn("new-refresh-token");
+        when(jwtUtil.generateToken("testuser", "test@example.com", Set.of(UserRole.STUDENT), used.getFamilyId()))
+                .thenReturn("jwt-token");
+        when(jwtUtil.getTokenValidityInSeconds("jwt-token"))
+                .thenReturn(900L);
+        when(userConverter.loginEntityToResponse(testUser))
+                .thenReturn(new UserLoginResponseDTO());
+
+        // Act
+        UserLoginResponseDTO result = authService.refresh(refreshRequest);
+
+        // Assert
+        assertEquals("jwt-token", result.getToken());
+        assertEquals(900L, result.getExpiresIn());
+        assertEquals("new-refresh-token", result.getRefreshToken());
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
+    /**
+     * Test refresh with an invalid refresh token.
+     */
+    @Test
+    void testRefresh_InvalidToken() {
+        // Arrange
+        RefreshTokenRequestDTO refreshRequest = new RefreshTokenRequestDTO();
+        refreshRequest.setRefreshToken("unknown");
+        when(refreshTokenService.consume("unknown"))
+                .thenThrow(new InvalidRefreshTokenException("Refresh token is invalid"));
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(refreshRequest));
+        verify(refreshTokenService, never()).issue(any(User.class), any(UUID.class));
+        verifyNoInteractions(jwtUtil);
     }
 
     /**
@@ -198,6 +288,7 @@ class AuthServiceImplTest {
         verify(userRepository).existsByEmail(registerRequest.getEmail());
         verify(passwordEncoder).encode(registerRequest.getPassword());
         verify(userRepository).save(any(User.class));
+        verify(userLookupCache).invalidate(any(User.class));
     }
 
     /**
@@ -273,18 +364,43 @@ class AuthServiceImplTest {
     }
 
     /**
-     * Test successful user logout.
+     * Test successful user logout, which ends only the token's own login session.
      */
     @Test
     void testLogoutUser() {
+        // Arrange
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        UUID sessionId = UUID.randomUUID();
+        when(jwtUtil.parse("jwt-token")).thenReturn(new JwtClaimsView("test@example.com", List.of(), expiration,
+                Map.of("jti", "token-id", JwtUtil.SESSION_CLAIM, sessionId.toString())));
+
         // Act
-        var result = authService.logoutUser();
+        var result = authService.logoutUser("jwt-token");
 
         // Assert
         assertNotNull(result);
         assertEquals("jwt", result.getName());
 //        assertNull(result.getValue());
         assertEquals(0, result.getMaxAge().getSeconds());
+        verify(tokenRevocationService).revoke("token-id", expiration.toInstant());
+        verify(refreshTokenService).revokeFamily(sessionId);
+    }
+
+    /**
+     * Test logout with a token issued before token and session IDs, which cannot be revoked.
+     */
+    @Test
+    void testLogoutUser_TokenWithoutId() {
+        // Arrange
+        when(jwtUtil.parse("jwt-token")).thenReturn(new JwtClaimsView("test@example.com", List.of(),
+                new Date(System.currentTimeMillis() + 60_000), Map.of()));
+
+        // Act
+        var result = authService.logoutUser("jwt-token");
+
+        // Assert
+        assertEquals(0, result.getMaxAge().getSeconds());
+        verifyNoInteractions(tokenRevocationService, refreshTokenService);
     }
 
     /**
@@ -299,7 +415,7 @@ class AuthServiceImplTest {
         expectedResponse.setEmail("test@example.com");
 
         when(authentication.getName()).thenReturn("test@example.com");
-        when(userRepository.findByEmail("test@example.com"))
+        when(userLookupCache.findByEmail("test@example.com"))
                 .thenReturn(Optional.of(testUser));
         when(userConverter.registerEntityToResponse(testUser))
                 .thenReturn(expectedResponse);
@@ -311,7 +427,7 @@ class AuthServiceImplTest {
         assertNotNull(result);
         assertEquals("testuser", result.getUsername());
         assertEquals("test@example.com", result.getEmail());
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userLookupCache).findByEmail("test@example.com");
         verify(userConverter).registerEntityToResponse(testUser);
     }
 
@@ -334,9 +450,9 @@ class AuthServiceImplTest {
     void testGetCurrentUserDetails_UserNotFound() {
         // Arrange
         when(authentication.getName()).thenReturn("nonexistent@example.com");
-        when(userRepository.findByEmail("nonexistent@example.com"))
+        when(userLookupCache.findByEmail("nonexistent@example.com"))
                 .thenReturn(Optional.empty());
-        when(userRepository.findByUsername("nonexistent@example.com"))
+        when(userLookupCache.findByUsername("nonexistent@example.com"))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
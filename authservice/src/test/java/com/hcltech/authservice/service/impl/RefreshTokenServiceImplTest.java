@@ -0,0 +1,163 @@
+package com.hcltech.authservice.service.impl;
+
+import com.hcltech.authservice.entity.RefreshToken;
+import com.hcltech.authservice.entity.User;
+import com.hcltech.authservice.exception.InvalidRefreshTokenException;
+import com.hcltech.authservice.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RefreshTokenServiceImpl class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-17T10:00:00Z");
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+    private User testUser;
+
+    /**
+     * Setup method to initialize the service with a fixed clock before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, Duration.ofDays(14),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setUsername("testuser");
+    }
+
+    /**
+     * Test that only the hash of an issued token is stored, with a new family and the configured expiry.
+     */
+    @Test
+    void testIssue_StoresHashOnly() {
+        // Act
+        String rawToken = refreshTokenService.issue(testUser);
+
+        // Assert
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(43, rawToken.length());
+        assertEquals(RefreshTokenServiceImpl.hash(rawToken), saved.getValue().getTokenHash());
+        assertNotEquals(rawToken, saved.getValue().getTokenHash());
+        assertNotNull(saved.getValue().getFamilyId());
+        assertEquals(NOW.plus(Duration.ofDays(14)), saved.getValue().getExpiresAt());
+        assertSame(testUser, saved.getValue().getUser());
+    }
+
+    /**
+     * Test that revoking a family deletes only that family's tokens.
+     */
+    @Test
+    void testRevokeFamily() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+
+        // Act
+        refreshTokenService.revokeFamily(familyId);
+
+        // Assert
+        verify(refreshTokenRepository).deleteByFamilyId(familyId);
+        verifyNoMoreInteractions(refreshTokenRepository);
+    }
+
+    /**
+     * Test that a valid token is marked used and returned.
+     */
+    @Test
+    void testConsume_Success() {
+        // Arrange
+        RefreshToken token = token(NOW.plusSeconds(60), null);
+        when(refreshTokenRepository.findByTokenHashWithUser(RefreshTokenServiceImpl.hash("raw")))
+                .thenReturn(Optional.of(token));
+        when(refreshTokenRepository.markRotated(token.getId(), NOW)).thenReturn(1);
+
+        // Act & Assert
+        assertSame(token, refreshTokenService.consume("raw"));
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+    }
+
+    /**
+     * Test that unknown and expired tokens are rejected.
+     */
+    @Test
+    void testConsume_UnknownOrExpired() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHashWithUser(RefreshTokenServiceImpl.hash("unknown")))
+                .thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHashWithUser(RefreshTokenServiceImpl.hash("expired")))
+                .thenReturn(Optional.of(token(NOW, null)));
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consume("unknown"));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consume("expired"));
+        verify(refreshTokenRepository, never()).markRotated(any(), any());
+    }
+
+    /**
+     * Test that presenting a used token revokes its whole family.
+     */
+    @Test
+    void testConsume_ReplayRevokesFamily() {
+        // Arrange
+        RefreshToken token = token(NOW.plusSeconds(60), NOW.minusSeconds(5));
+        when(refreshTokenRepository.findByTokenHashWithUser(RefreshTokenServiceImpl.hash("raw")))
+                .thenReturn(Optional.of(token));
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consume("raw"));
+        verify(refreshTokenRepository).deleteByFamilyId(token.getFamilyId());
+    }
+
+    /**
+     * Test that of two concurrent uses of the same token only one succeeds.
+     */
+    @Test
+    void testConsume_ConcurrentUseLoses() {
+        // Arrange
+        RefreshToken token = token(NOW.plusSeconds(60), null);
+        when(refreshTokenRepository.findByTokenHashWithUser(RefreshTokenServiceImpl.hash("raw")))
+                .thenReturn(Optional.of(token));
+        when(refreshTokenRepository.markRotated(token.getId(), NOW)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consume("raw"));
+        verify(refreshTokenRepository).deleteByFamilyId(token.getFamilyId());
+    }
+
+    private RefreshToken token(Instant expiresAt, Instant rotatedAt) {
+        RefreshToken token = new RefreshToken();
+        token.setId(UUID.randomUUID());
+        token.setUser(testUser);
+        token.setFamilyId(UUID.randomUUID());
+        token.setExpiresAt(expiresAt);
+        token.setRotatedAt(rotatedAt);
+        return token;
+    }
+}
@@ -0,0 +1,145 @@
+package com.hcltech.authservice.service.impl;
+
+import com.hcltech.authservice.entity.RevokedToken;
+import com.hcltech.authservice.repository.RevokedTokenRepository;
+import com.hcltech.authservice.service.TokenRevocationService;
+import com.hcltech.commonlib.revocation.RevocationBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenRevocationServiceImpl class.
+ *
+ * @author HCL Technologies
+ * @version 1.0
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-17T10:00:00Z");
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    /**
+     * Setup method to build the service from a store holding one revoked token.
+     */
+    @BeforeEach
+    void setUp() {
+        when(revokedTokenRepository.findActiveTokenIds(NOW)).thenReturn(List.of("stored-id"));
+        tokenRevocationService = new TokenRevocationServiceImpl(revokedTokenRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    /**
+     * Test that the initial filter is built from the store after purging expired revocations.
+     */
+    @Test
+    void testSnapshot_BuiltFromStore() {
+        // Act
+        RevocationBloomFilter filter = RevocationBloomFilter.fromBytes(tokenRevocationService.snapshot().filter());
+
+        // Assert
+        verify(revokedTokenRepository).deleteExpired(NOW);
+        assertTrue(filter.mightContain("stored-id"));
+        assertEquals(1, filter.entries());
+    }
+
+    /**
+     * Test that a revocation is stored and the filter rebuilt from the store under a new entity tag.
+     */
+    @Test
+    void testRevoke_PublishesNewSnapshot() {
+        // Arrange
+        TokenRevocationService.Snapshot before = tokenRevocationService.snapshot();
+        when(revokedTokenRepository.findActiveTokenIds(NOW)).thenReturn(List.of("stored-id", "new-id"));
+
+        // Act
+        tokenRevocationService.revoke("new-id", NOW.plusSeconds(60));
+
+        // Assert
+        TokenRevocationService.Snapshot after = tokenRevocationService.snapshot();
+        verify(revokedTokenRepository).save(new RevokedToken("new-id", NOW.plusSeconds(60)));
+        assertNotEquals(before.etag(), after.etag());
+        assertTrue(RevocationBloomFilter.fromBytes(after.filter()).mightContain("new-id"));
+    }
+
+    /**
+     * Test that instances holding the same rows publish the same filter and entity tag.
+     */
+    @Test
+    void testSnapshot_DeterministicAcrossInstances() {
+        // Arrange
+        when(revokedTokenRepository.findActiveTokenIds(NOW)).thenReturn(List.of("b-id", "a-id"));
+        TokenRevocationServiceImpl first = new TokenRevocationServiceImpl(revokedTokenRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+        when(revokedTokenRepository.findActiveTokenIds(NOW)).thenReturn(List.of("a-id", "b-id"));
+
+        // Act
+        TokenRevocationServiceImpl second = new TokenRevocationServiceImpl(revokedTokenRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Assert
+        assertEquals(first.snapshot().etag(), second.snapshot().etag());
+        assertArrayEquals(first.snapshot().filter(), second.snapshot().filter());
+        assertNotEquals(tokenRevocationService.snapshot().etag(), first.snapshot().etag());
+    }
+
+    /**
+     * Test that an already expired token is not stored.
+     */
+    @Test
+    void testRevoke_ExpiredToken() {
+        // Arrange
+        TokenRevocationService.Snapshot before = tokenRevocationService.snapshot();
+
+        // Act
+        tokenRevocationService.revoke("old-id", NOW);
+
+        // Assert
+        verify(revokedTokenRepository, never()).save(any());
+        assertSame(before, tokenRevocationService.snapshot());
+    }
+
+    /**
+     * Test that a rebuild drops revocations no longer in the store.
+     */
+    @Test
+    void testRebuild_DropsPurgedTokens() {
+        // Arrange
+        when(revokedTokenRepository.findActiveTokenIds(NOW)).thenReturn(List.of());
+
+        // Act
+        tokenRevocationService.rebuild();
+
+        // Assert
+        RevocationBloomFilter filter = RevocationBloomFilter.fromBytes(tokenRevocationService.snapshot().filter());
+        assertFalse(filter.mightContain("stored-id"));
+        assertEquals(0, filter.entries());
+    }
+
+    /**
+     * Test that a filter hit is confirmed against the store.
+     */
+    @Test
+    void testIsRevoked() {
+        // Arrange
+        when(revokedTokenRepository.existsById("stored-id")).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(tokenRevocationService.isRevoked("stored-id"));
+        assertFalse(tokenRevocationService.isRevoked("other-id"));
+    }
+}
@@ -1,14 +1,12 @@
 package com.hcltech.authservice.util;
 
 import com.hcltech.authservice.entity.UserRole;
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.HashSet;
 import java.util.List;
@@ -23,13 +21,12 @@ import static org.junit.jupiter.api.Assertions.*;
  * @version 1.0
  * @since 1.0
  */
-@ExtendWith(MockitoExtension.class)
 class JwtUtilTest {
 
-    @InjectMocks
     private JwtUtil jwtUtil;
 
     private String testSecret = "jMArLpHsJw0NlMuvz7esYfcgeNEmbijL0+TH/MRl86ozbrkMTWJPztO7qRQkop8bKe4lCvh8GW2FnJCj2Oy/ig==";
+    private String testAssertionSecret = "c2VwYXJhdGUtaWRlbnRpdHktYXNzZXJ0aW9uLXNlY3JldC1mb3ItdGVzdHM=";
     private long testExpiration = 3600000; // 1 hour
 
     private String testToken;
@@ -41,8 +38,7 @@ class JwtUtilTest {
      */
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(jwtUtil, "secret", testSecret);
-        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationInMs", testExpiration);
+        jwtUtil = new JwtUtil(testSecret, testExpiration, testAssertionSecret);
 
         Set<UserRole> roles = new HashSet<>();
         roles.add(UserRole.STUDENT);
@@ -66,6 +62,19 @@ class JwtUtilTest {
         assertFalse(token.isEmpty());
     }
 
+    /**
+     * Test that every token gets its own ID.
+     */
+    @Test
+    void testGenerateToken_UniqueId() {
+        // Act
+        String other = jwtUtil.generateToken(username, email, Set.of(UserRole.STUDENT));
+
+        // Assert
+        assertNotNull(jwtUtil.parse(testToken).getId());
+        assertNotEquals(jwtUtil.parse(testToken).getId(), jwtUtil.parse(other).getId());
+    }
+
     /**
      * Test username extraction from token.
      */
@@ -134,4 +143,23 @@ class JwtUtilTest {
         // Assert
         assertNull(role); // This returns null as we're using roles list now
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that a gateway assertion is only accepted with the token it was issued for.
+     */
+    @Test
+    void testParseAssertion_BoundToToken() {
+        // Arrange
+        IdentityAssertionCodec codec = new IdentityAssertionCodec(testAssertionSecret, testSecret);
+        String assertion = codec.encode(email, List.of("ROLE_STUDENT"), System.currentTimeMillis() + 60_000, testToken);
+        String otherToken = jwtUtil.generateToken(username, email, new HashSet<>(Set.of(UserRole.ADMIN)));
+
+        // Act
+        JwtClaimsView claims = jwtUtil.parseAssertion(assertion, testToken);
+
+        // Assert
+        assertNotNull(claims);
+        assertEquals(email, claims.getSubject());
+        assertNull(jwtUtil.parseAssertion(assertion, otherToken));
+    }
+}
@@ -0,0 +1,36 @@
+package com.hcltech.commonlib.deadline;
+
+/**
+ * Thrown when work is about to start after the request's {@link RequestDeadline} has passed.
+ * <p>
+ * Services translate it into a {@code 504 Gateway Timeout}; by then the gateway has already
+ * answered the client, so the status mainly shows up in logs and metrics.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message the detail message
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates the exception for an operation that failed after the deadline passed.
+     *
+     * @param message the detail message
+     * @param cause the failure of the operation
+     */
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,83 @@
+package com.hcltech.commonlib.deadline;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestInterceptor;
+
+/**
+ * Propagates the gateway deadline of the current request to Feign calls.
+ * <p>
+ * Outbound calls forward the same {@value RequestDeadline#HEADER} header, so the called
+ * service stops when this request's caller stops waiting. Each call's connect and read
+ * timeouts are cut to the time remaining before the deadline, and a call that would start
+ * after the deadline fails with a {@link DeadlineExceededException} without being sent. Calls
+ * made outside a request with a deadline keep their configured timeouts. Auto-configured for
+ * services using Feign.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ * @see RequestDeadline
+ */
+@AutoConfiguration
+@ConditionalOnClass(Capability.class)
+public class DeadlineFeignConfig {
+
+    /**
+     * Forwards the current deadline on every Feign request.
+     *
+     * @return the request interceptor
+     */
+    @Bean
+    public RequestInterceptor deadlineHeaderInterceptor() {
+        return template -> {
+            long deadline = RequestDeadline.get();
+            if (deadline > 0) {
+                template.header(RequestDeadline.HEADER, Long.toString(deadline));
+            }
+        };
+    }
+
+    /**
+     * Cuts the timeouts of every Feign call to the remaining deadline budget.
+     *
+     * @return the capability wrapping the Feign client
+     */
+    @Bean
+    public Capability deadlineTimeoutCapability() {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> {
+                    long remaining = RequestDeadline.remainingMillis();
+                    if (remaining == Long.MAX_VALUE) {
+                        return client.execute(request, options);
+                    }
+                    RequestDeadline.check(request.httpMethod() + " " + request.url());
+                    Request.Options budget = new Request.Options(
+                        Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                        Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                        options.isFollowRedirects());
+                    try {
+                        return client.execute(request, budget);
+                    } catch (IOException ex) {
+                        if (RequestDeadline.remainingMillis() <= 0) {
+                            throw new DeadlineExceededException("Request deadline exceeded during "
+                                + request.httpMethod() + " " + request.url(), ex);
+                        }
+                        throw ex;
+                    }
+                };
+            }
+        };
+    }
+}
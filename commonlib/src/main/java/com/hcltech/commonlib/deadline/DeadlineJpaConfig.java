@@ -0,0 +1,41 @@
+package com.hcltech.commonlib.deadline;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Stops JDBC work for requests whose gateway deadline has passed.
+ * <p>
+ * Registers a Hibernate {@link StatementInspector} that checks {@link RequestDeadline} before
+ * every SQL statement is prepared, so a request that has outlived its deadline fails with a
+ * {@link DeadlineExceededException} instead of issuing more queries. Statements outside a
+ * request with a deadline are not affected. Auto-configured for services using Hibernate.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ * @see RequestDeadlineFilter
+ */
+@AutoConfiguration
+@ConditionalOnClass({ StatementInspector.class, HibernatePropertiesCustomizer.class })
+public class DeadlineJpaConfig {
+
+    /**
+     * Installs the deadline check as Hibernate's statement inspector.
+     *
+     * @return the customizer registering the inspector
+     */
+    @Bean
+    public HibernatePropertiesCustomizer deadlineStatementInspector() {
+        StatementInspector inspector = sql -> {
+            RequestDeadline.check("JDBC statement");
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hcltech.commonlib.deadline;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * Installs the {@link RequestDeadlineFilter} in every servlet-based service.
+ * <p>
+ * Auto-configured for any service depending on commonlib, so the services no longer carry
+ * their own copy. The filter runs first, ahead of Spring Security, so a request whose deadline
+ * has passed is rejected before any work is done. Reactive applications such as the API
+ * gateway are not affected.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DeadlineServletConfig {
+
+    /**
+     * Registers the deadline filter ahead of all other filters.
+     *
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter() {
+        FilterRegistrationBean<RequestDeadlineFilter> registration = new FilterRegistrationBean<>(new RequestDeadlineFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
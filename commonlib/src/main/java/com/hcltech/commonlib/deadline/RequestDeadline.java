@@ -0,0 +1,102 @@
+package com.hcltech.commonlib.deadline;
+
+/**
+ * Absolute deadline of the request being served by the current thread.
+ * <p>
+ * The API gateway stamps every proxied request with the {@value #HEADER} header, the epoch
+ * millisecond by which the gateway will have given up on it, derived from the route's timeout.
+ * A service's servlet filter parses the header into this holder for the duration of the
+ * request. Outbound Feign calls then cut their timeouts to {@link #remainingMillis()} and
+ * forward the same deadline, and JDBC statements call {@link #check(String)}, so no work is
+ * started once nobody is waiting for the answer.
+ * </p>
+ * <p>
+ * Deadlines are wall-clock times and assume the hosts' clocks are kept in sync, e.g. by NTP. A
+ * thread without a deadline is never considered expired.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RequestDeadline {
+
+    /**
+     * Name of the request header carrying the deadline in epoch milliseconds.
+     */
+    public static final String HEADER = "X-Request-Deadline";
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Parses a {@value #HEADER} header value.
+     *
+     * @param value the header value, may be {@code null}
+     * @return the deadline in epoch milliseconds, or {@code 0} if the value is missing or invalid
+     */
+    public static long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            long deadline = Long.parseLong(value.trim());
+            return Math.max(deadline, 0);
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * Sets the deadline of the current thread's request.
+     *
+     * @param deadlineMillis the deadline in epoch milliseconds
+     */
+    public static void set(long deadlineMillis) {
+        CURRENT.set(deadlineMillis);
+    }
+
+    /**
+     * Removes the deadline from the current thread once its request has completed.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the deadline of the current thread's request.
+     *
+     * @return the deadline in epoch milliseconds, or {@code 0} if there is none
+     */
+    public static long get() {
+        Long deadline = CURRENT.get();
+        return deadline == null ? 0 : deadline;
+    }
+
+    /**
+     * Returns the time left before the deadline.
+     *
+     * @return the remaining milliseconds, zero or negative once the deadline has passed, or
+     *         {@link Long#MAX_VALUE} if there is no deadline
+     */
+    public static long remainingMillis() {
+        long deadline = get();
+        return deadline == 0 ? Long.MAX_VALUE : deadline - System.currentTimeMillis();
+    }
+
+    /**
+     * Fails fast if the deadline of the current thread's request has passed.
+     *
+     * @param operation short description of the work about to start, used in the message
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public static void check(String operation) {
+        long remaining = remainingMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("Request deadline exceeded by " + -remaining
+                + " ms before " + operation);
+        }
+    }
+}
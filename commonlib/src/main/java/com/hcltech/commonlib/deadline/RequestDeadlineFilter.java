@@ -0,0 +1,78 @@
+package com.hcltech.commonlib.deadline;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter that honors the deadline the API gateway stamps on proxied requests.
+ * <p>
+ * The {@value RequestDeadline#HEADER} header is parsed into {@link RequestDeadline} for the
+ * duration of the request, where Feign clients and JDBC statements pick it up. A request that
+ * arrives after its deadline is rejected with {@code 504 Gateway Timeout} before any work is
+ * done, and a request that runs past it fails with the same status at its next outbound call
+ * or query instead of finishing work nobody is waiting for. Requests without the header, e.g.
+ * direct calls, are not limited.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ * @see DeadlineServletConfig
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    /**
+     * Runs the request with its deadline, rejecting it if the deadline has already passed.
+     *
+     * @param request the HTTP servlet request
+     * @param response the HTTP servlet response
+     * @param filterChain the filter chain to continue processing the request
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs during filter processing
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long deadline = RequestDeadline.parse(request.getHeader(RequestDeadline.HEADER));
+        if (deadline == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (deadline <= System.currentTimeMillis()) {
+            logger.warn("Rejecting {} {}: deadline already passed", request.getMethod(), request.getRequestURI());
+            response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Request deadline exceeded");
+            return;
+        }
+        RequestDeadline.set(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException ex) {
+            if (!deadlineExceeded(ex) || response.isCommitted()) {
+                throw ex;
+            }
+            logger.warn("Aborted {} {}: {}", request.getMethod(), request.getRequestURI(), ex.getMessage());
+            response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Request deadline exceeded");
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private static boolean deadlineExceeded(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DeadlineExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,150 @@
+package com.hcltech.commonlib.identity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.hcltech.commonlib.jwt.JwtClaimsView;
+
+/**
+ * Encodes and verifies the identity assertion the API gateway forwards to downstream services.
+ * <p>
+ * Once the gateway has verified a request's JWT, it sends the resolved subject, roles and
+ * expiry in the {@value #HEADER} header as {@code base64url(payload).base64url(hmac)}, where the
+ * payload is {@code subject \n expiresAtMillis \n role1,role2 \n tokenDigest} and the HMAC is
+ * HMAC-SHA256 over the encoded payload. {@code tokenDigest} is the base64url SHA-256 of the
+ * bearer token the assertion was issued for, so an assertion is only accepted alongside that
+ * same token and cannot be replayed with another one or on its own. Checking that assertion costs one short HMAC and no JSON parsing, so
+ * services accept it in place of re-verifying the JWT and only fall back to the full
+ * {@link com.hcltech.commonlib.jwt.JwtTokenParser} path for calls that did not come through
+ * the gateway.
+ * </p>
+ * <p>
+ * The gateway always strips a client-supplied {@value #HEADER} header, and an assertion that
+ * does not carry a valid HMAC, has expired or belongs to another token is ignored, so it cannot
+ * be used to bypass JWT verification. The assertion secret must be separate from the JWT
+ * signing secret, so that holding one does not allow forging the other.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class IdentityAssertionCodec {
+
+    /**
+     * Name of the request header carrying the assertion.
+     */
+    public static final String HEADER = "X-Identity-Assertion";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> mac;
+
+    /**
+     * Creates a codec for the given shared secret.
+     *
+     * @param base64Secret the Base64-encoded secret shared by the gateway and the services
+     * @param jwtSecret the Base64-encoded JWT signing secret, which the assertion secret must differ from
+     * @throws IllegalArgumentException if the secret is missing, not valid Base64 or equal to the JWT secret
+     * @throws IllegalStateException if HMAC-SHA256 is not available
+     */
+    public IdentityAssertionCodec(String base64Secret, String jwtSecret) {
+        if (base64Secret == null || base64Secret.isBlank()) {
+            throw new IllegalArgumentException("identity-assertion.secret must be set");
+        }
+        if (base64Secret.equals(jwtSecret)) {
+            throw new IllegalArgumentException("identity-assertion.secret must differ from jwt.secret");
+        }
+        SecretKeySpec key = new SecretKeySpec(Base64.getDecoder().decode(base64Secret), ALGORITHM);
+        newMac(key);
+        this.mac = ThreadLocal.withInitial(() -> newMac(key));
+    }
+
+    /**
+     * Encodes an assertion for an already verified identity.
+     *
+     * @param subject the token subject
+     * @param roles the role names of the subject
+     * @param expiresAtMillis the token expiry in epoch milliseconds
+     * @param token the bearer token the identity was verified from
+     * @return the signed assertion header value
+     */
+    public String encode(String subject, Collection<String> roles, long expiresAtMillis, String token) {
+        String payload = subject + '\n' + expiresAtMillis + '\n' + String.join(",", roles) + '\n' + digest(token);
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + '.' + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    /**
+     * Verifies an assertion and returns the identity it carries.
+     *
+     * @param assertion the header value, may be {@code null}
+     * @param token the bearer token sent with the assertion, may be {@code null}
+     * @return the claims view, or {@code null} if the assertion is missing, malformed,
+     *         not signed with the shared secret, expired or not issued for {@code token}
+     */
+    public JwtClaimsView decode(String assertion, String token) {
+        if (assertion == null || token == null) {
+            return null;
+        }
+        int dot = assertion.indexOf('.');
+        if (dot <= 0 || dot == assertion.length() - 1) {
+            return null;
+        }
+        String encodedPayload = assertion.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(assertion.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return null;
+            }
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\n", -1);
+            if (fields.length != 4 || fields[0].isEmpty()
+                    || !MessageDigest.isEqual(fields[3].getBytes(StandardCharsets.US_ASCII),
+                        digest(token).getBytes(StandardCharsets.US_ASCII))) {
+                return null;
+            }
+            Date expiration = new Date(Long.parseLong(fields[1]));
+            List<String> roles = fields[2].isEmpty() ? List.of() : Arrays.asList(fields[2].split(","));
+            JwtClaimsView view = new JwtClaimsView(fields[0], roles, expiration, Map.of());
+            return view.isExpired() ? null : view;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        return mac.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String digest(String token) {
+        try {
+            return ENCODER.encodeToString(MessageDigest.getInstance(DIGEST_ALGORITHM)
+                .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hcltech.commonlib.jwt;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Immutable view of the claims of a verified JWT token.
+ * <p>
+ * A view is produced by {@link JwtTokenParser#parse(String)} after the signature has been
+ * checked, so everything a request needs (subject, roles and expiry) is read from a single
+ * parse instead of re-parsing the token for every claim.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class JwtClaimsView {
+
+    /**
+     * Name of the custom claim that carries the list of role names.
+     */
+    public static final String ROLES_CLAIM = "roles";
+
+    private final String subject;
+    private final List<String> roles;
+    private final Date expiration;
+    private final Map<String, Object> claims;
+
+    /**
+     * Creates a view with the given values.
+     *
+     * @param subject the token subject
+     * @param roles the role names carried by the token
+     * @param expiration the token expiry, or {@code null} if the token has none
+     * @param claims all claims of the token
+     */
+    public JwtClaimsView(String subject, List<String> roles, Date expiration, Map<String, Object> claims) {
+        this.subject = subject;
+        this.roles = roles == null ? List.of() : List.copyOf(roles);
+        this.expiration = expiration == null ? null : new Date(expiration.getTime());
+        this.claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+    }
+
+    /**
+     * Builds a view from parsed JJWT claims.
+     *
+     * @param claims the parsed claims
+     * @return the immutable view
+     */
+    static JwtClaimsView of(Claims claims) {
+        Object rawRoles = claims.get(ROLES_CLAIM);
+        List<String> roles = rawRoles instanceof List<?> list
+                ? list.stream().filter(Objects::nonNull).map(Object::toString).toList()
+                : List.of();
+        return new JwtClaimsView(claims.getSubject(), roles, claims.getExpiration(), claims);
+    }
+
+    /**
+     * Returns the token subject (the standard {@code sub} claim).
+     *
+     * @return the subject, or {@code null} if absent
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Returns the token ID (the standard {@code jti} claim).
+     *
+     * @return the token ID, or {@code null} if absent
+     */
+    public String getId() {
+        return getClaim("jti", String.class);
+    }
+
+    /**
+     * Returns the role names carried in the {@code roles} claim.
+     *
+     * @return an unmodifiable list of roles, empty if the claim is absent
+     */
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * Returns the token expiry.
+     *
+     * @return a copy of the expiry date, or {@code null} if the token has none
+     */
+    public Date getExpiration() {
+        return expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    /**
+     * Returns a single claim converted to the requested type.
+     *
+     * @param <T> the claim type
+     * @param name the claim name
+     * @param type the expected claim type
+     * @return the claim value, or {@code null} if absent or of another type
+     */
+    public <T> T getClaim(String name, Class<T> type) {
+        Object value = claims.get(name);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * Checks whether the token has expired.
+     *
+     * @return true if the token has an expiry in the past, false otherwise
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * Validates the view against the expected subject and the current time.
+     *
+     * @param expectedSubject the subject the token must carry
+     * @return true if the subject matches and the token has not expired
+     */
+    public boolean isValidFor(String expectedSubject) {
+        return subject != null && subject.equals(expectedSubject) && !isExpired();
+    }
+}
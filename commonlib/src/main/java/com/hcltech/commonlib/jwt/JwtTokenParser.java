@@ -0,0 +1,63 @@
+package com.hcltech.commonlib.jwt;
+
+import java.security.Key;
+import java.util.Base64;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Thread-safe JWT parser shared by all services.
+ * <p>
+ * The HMAC signing key is decoded from the Base64 secret and the {@link JwtParser} is built
+ * exactly once, at construction time. Each call to {@link #parse(String)} then verifies the
+ * signature and expiry a single time and returns an immutable {@link JwtClaimsView}, which
+ * replaces the previous pattern of decoding the key, building a parser and re-parsing the
+ * token for every claim that was read.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class JwtTokenParser {
+
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    /**
+     * Creates a parser for tokens signed with the given secret.
+     *
+     * @param base64Secret the Base64-encoded HMAC secret ({@code jwt.secret})
+     * @throws IllegalArgumentException if the secret is not valid Base64
+     * @throws io.jsonwebtoken.security.WeakKeyException if the secret is too short for HMAC-SHA
+     */
+    public JwtTokenParser(String base64Secret) {
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64Secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
+    /**
+     * Verifies the token and returns a view of its claims.
+     *
+     * @param token the compact JWT string
+     * @return the immutable claims view
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     * @throws io.jsonwebtoken.JwtException if the token is malformed or the signature is invalid
+     */
+    public JwtClaimsView parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return JwtClaimsView.of(claims);
+    }
+
+    /**
+     * Returns the signing key, for services that also issue tokens.
+     *
+     * @return the HMAC signing key
+     */
+    public Key getSigningKey() {
+        return signingKey;
+    }
+}
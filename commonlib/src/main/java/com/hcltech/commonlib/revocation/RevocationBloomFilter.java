@@ -0,0 +1,182 @@
+package com.hcltech.commonlib.revocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Bloom filter over the IDs ({@code jti} claims) of revoked tokens, shared by the service that
+ * revokes tokens and the gateway that checks them.
+ * <p>
+ * The auth service builds the filter from its revocation store and publishes it in the binary
+ * form of {@link #toBytes()}; the gateway reads it back with {@link #fromBytes(byte[])} and asks
+ * {@link #mightContain(String)} for every authenticated request. A negative answer is
+ * definite, so almost every request is cleared in memory by hashing one short string; only a
+ * positive answer, either a revoked token or a false positive at roughly the configured rate,
+ * has to be confirmed with the auth service.
+ * </p>
+ * <p>
+ * Bit positions are derived by double hashing from a 64-bit FNV-1a hash of the ID, so a lookup
+ * allocates nothing. {@link #add(String)} is not thread-safe; a filter is filled by one thread
+ * and only read once it is shared.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RevocationBloomFilter {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int MIN_BITS = 1024;
+    private static final int MAX_HASHES = 16;
+    private static final double LN2 = Math.log(2);
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+    private int entries;
+
+    private RevocationBloomFilter(long[] words, int hashCount, int entries) {
+        this.words = words;
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.hashCount = hashCount;
+        this.entries = entries;
+    }
+
+    /**
+     * Creates an empty filter sized for the expected number of IDs.
+     *
+     * @param expectedEntries the number of IDs the filter should hold at the given rate
+     * @param falsePositiveRate the acceptable probability that an absent ID is reported present
+     * @return the empty filter
+     */
+    public static RevocationBloomFilter create(int expectedEntries, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        int n = Math.max(1, expectedEntries);
+        long bits = Math.max(MIN_BITS, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) bits / n * LN2)));
+        return new RevocationBloomFilter(new long[(int) ((bits + Long.SIZE - 1) / Long.SIZE)], hashes, 0);
+    }
+
+    /**
+     * Adds a token ID.
+     *
+     * @param tokenId the revoked token's ID
+     */
+    public void add(String tokenId) {
+        long hash = fnv1a(tokenId);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(h1, h2, i);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        entries++;
+    }
+
+    /**
+     * Checks whether a token ID may have been added.
+     *
+     * @param tokenId the token ID to look up
+     * @return {@code false} if the ID was definitely not added, {@code true} if it probably was
+     */
+    public boolean mightContain(String tokenId) {
+        long hash = fnv1a(tokenId);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(h1, h2, i);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of IDs added.
+     *
+     * @return the entry count
+     */
+    public int entries() {
+        return entries;
+    }
+
+    /**
+     * Serializes the filter.
+     *
+     * @return the binary form read by {@link #fromBytes(byte[])}
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + words.length * Long.BYTES);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(hashCount);
+            out.writeInt(entries);
+            out.writeInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a filter serialized by {@link #toBytes()}.
+     *
+     * @param bytes the binary form
+     * @return the filter
+     * @throws IllegalArgumentException if the bytes are not a filter of a known format
+     */
+    public static RevocationBloomFilter fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readInt();
+            int hashes = in.readInt();
+            int entries = in.readInt();
+            int wordCount = in.readInt();
+            if (version != FORMAT_VERSION || hashes < 1 || hashes > MAX_HASHES || wordCount < 1
+                || bytes.length != 16 + (long) wordCount * Long.BYTES) {
+                throw new IllegalArgumentException("Not a revocation filter of format " + FORMAT_VERSION);
+            }
+            long[] words = new long[wordCount];
+            for (int i = 0; i < wordCount; i++) {
+                words[i] = in.readLong();
+            }
+            return new RevocationBloomFilter(words, hashes, entries);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated revocation filter", e);
+        }
+    }
+
+    private long bit(long h1, long h2, int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        // MurmurHash3 finalizer, spreading FNV's weak low bits over the whole word
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
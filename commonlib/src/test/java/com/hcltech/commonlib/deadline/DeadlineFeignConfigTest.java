@@ -0,0 +1,112 @@
+package com.hcltech.commonlib.deadline;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DeadlineFeignConfig.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class DeadlineFeignConfigTest {
+
+    private static final Request.Options DEFAULTS =
+            new Request.Options(10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+
+    private final DeadlineFeignConfig config = new DeadlineFeignConfig();
+    private final AtomicReference<Request.Options> sentWith = new AtomicReference<>();
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    /**
+     * Test that the current deadline is forwarded as a header and absent without one.
+     */
+    @Test
+    void testInterceptor_ForwardsDeadline() {
+        RequestTemplate withoutDeadline = new RequestTemplate();
+        config.deadlineHeaderInterceptor().apply(withoutDeadline);
+        long deadline = System.currentTimeMillis() + 5_000;
+        RequestDeadline.set(deadline);
+        RequestTemplate withDeadline = new RequestTemplate();
+        config.deadlineHeaderInterceptor().apply(withDeadline);
+
+        assertFalse(withoutDeadline.headers().containsKey(RequestDeadline.HEADER));
+        assertEquals(Long.toString(deadline), withDeadline.headers().get(RequestDeadline.HEADER).iterator().next());
+    }
+
+    /**
+     * Test that timeouts are cut to the remaining budget and kept without a deadline.
+     */
+    @Test
+    void testCapability_CutsTimeoutsToRemainingBudget() throws Exception {
+        Client client = config.deadlineTimeoutCapability().enrich(recording());
+
+        client.execute(request(), DEFAULTS);
+        assertSame(DEFAULTS, sentWith.get());
+
+        RequestDeadline.set(System.currentTimeMillis() + 2_000);
+        client.execute(request(), DEFAULTS);
+        assertTrue(sentWith.get().readTimeoutMillis() <= 2_000);
+        assertTrue(sentWith.get().connectTimeoutMillis() <= 2_000);
+        assertTrue(sentWith.get().isFollowRedirects());
+    }
+
+    /**
+     * Test that a call after the deadline is not sent and a timeout at the deadline is reported as exceeded.
+     */
+    @Test
+    void testCapability_DeadlineExceeded() {
+        RequestDeadline.set(System.currentTimeMillis() - 1);
+        Client client = config.deadlineTimeoutCapability().enrich(recording());
+
+        assertThrows(DeadlineExceededException.class, () -> client.execute(request(), DEFAULTS));
+        assertNull(sentWith.get());
+
+        RequestDeadline.set(System.currentTimeMillis() + 20);
+        Client slow = (request, options) -> {
+            try {
+                Thread.sleep(40);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SocketTimeoutException("Read timed out");
+        };
+        Client timingOut = config.deadlineTimeoutCapability().enrich(slow);
+        DeadlineExceededException ex = assertThrows(DeadlineExceededException.class,
+                () -> timingOut.execute(request(), DEFAULTS));
+        assertInstanceOf(SocketTimeoutException.class, ex.getCause());
+    }
+
+    private Client recording() {
+        return (request, options) -> {
+            sentWith.set(options);
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Map.of())
+                    .build();
+        };
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://authservice/api/auth/users/1", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+}
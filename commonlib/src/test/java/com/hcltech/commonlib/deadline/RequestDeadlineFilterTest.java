@@ -0,0 +1,110 @@
+package com.hcltech.commonlib.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for RequestDeadlineFilter.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class RequestDeadlineFilterTest {
+
+    private StubController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        controller = new StubController();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new RequestDeadlineFilter())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    /**
+     * Test that a request arriving after its deadline is answered with 504 without reaching the handler.
+     */
+    @Test
+    void testExpiredDeadline_Returns504WithoutWork() throws Exception {
+        mockMvc.perform(get("/work").header(RequestDeadline.HEADER, System.currentTimeMillis() - 1))
+                .andExpect(status().isGatewayTimeout());
+
+        assertEquals(0, controller.calls.get());
+    }
+
+    /**
+     * Test that a deadline passing during the request is mapped to 504.
+     */
+    @Test
+    void testDeadlineExceededInHandler_Returns504() throws Exception {
+        mockMvc.perform(get("/late").header(RequestDeadline.HEADER, System.currentTimeMillis() + 60_000))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    /**
+     * Test that the deadline is visible to the handler and cleared afterwards.
+     */
+    @Test
+    void testValidDeadline_SetDuringRequest() throws Exception {
+        long deadline = System.currentTimeMillis() + 60_000;
+
+        mockMvc.perform(get("/work").header(RequestDeadline.HEADER, deadline))
+                .andExpect(status().isOk());
+
+        assertEquals(deadline, controller.seenDeadline.get());
+        assertEquals(0, RequestDeadline.get());
+    }
+
+    /**
+     * Test that requests without a deadline and other failures are left alone.
+     */
+    @Test
+    void testNoDeadlineOrOtherFailure_NotMapped() {
+        assertDoesNotThrow(() -> mockMvc.perform(get("/work")).andExpect(status().isOk()));
+        assertThrows(Exception.class, () -> mockMvc.perform(get("/broken")
+                .header(RequestDeadline.HEADER, System.currentTimeMillis() + 60_000)));
+    }
+
+    @RestController
+    static class StubController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicLong seenDeadline = new AtomicLong();
+
+        @GetMapping("/work")
+        String work() {
+            calls.incrementAndGet();
+            seenDeadline.set(RequestDeadline.get());
+            return "done";
+        }
+
+        @GetMapping("/late")
+        String late() {
+            throw new DeadlineExceededException("Request deadline exceeded during JDBC statement");
+        }
+
+        @GetMapping("/broken")
+        String broken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+}
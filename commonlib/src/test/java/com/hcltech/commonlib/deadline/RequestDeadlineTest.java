@@ -0,0 +1,71 @@
+package com.hcltech.commonlib.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestDeadline.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class RequestDeadlineTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    /**
+     * Test that valid header values are parsed and invalid ones are ignored.
+     */
+    @Test
+    void testParse() {
+        assertEquals(1_700_000_000_000L, RequestDeadline.parse(" 1700000000000 "));
+        assertEquals(0, RequestDeadline.parse(null));
+        assertEquals(0, RequestDeadline.parse(""));
+        assertEquals(0, RequestDeadline.parse("soon"));
+        assertEquals(0, RequestDeadline.parse("-5"));
+    }
+
+    /**
+     * Test that a thread without a deadline has unlimited time and never fails the check.
+     */
+    @Test
+    void testNoDeadline_Unlimited() {
+        assertEquals(0, RequestDeadline.get());
+        assertEquals(Long.MAX_VALUE, RequestDeadline.remainingMillis());
+        assertDoesNotThrow(() -> RequestDeadline.check("query"));
+    }
+
+    /**
+     * Test that the remaining time counts down to a future deadline.
+     */
+    @Test
+    void testFutureDeadline_RemainingTime() {
+        RequestDeadline.set(System.currentTimeMillis() + 60_000);
+
+        long remaining = RequestDeadline.remainingMillis();
+
+        assertTrue(remaining > 59_000 && remaining <= 60_000);
+        assertDoesNotThrow(() -> RequestDeadline.check("query"));
+    }
+
+    /**
+     * Test that the check fails once the deadline has passed, and not after the deadline is cleared.
+     */
+    @Test
+    void testPassedDeadline_CheckFails() {
+        RequestDeadline.set(System.currentTimeMillis() - 10);
+
+        DeadlineExceededException ex = assertThrows(DeadlineExceededException.class,
+                () -> RequestDeadline.check("query"));
+        assertTrue(ex.getMessage().endsWith("before query"));
+
+        RequestDeadline.clear();
+        assertDoesNotThrow(() -> RequestDeadline.check("query"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.hcltech.commonlib.identity;
+
+import com.hcltech.commonlib.jwt.JwtClaimsView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IdentityAssertionCodec.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class IdentityAssertionCodecTest {
+
+    private static final String SECRET = "jMArLpHsJw0NlMuvz7esYfcgeNEmbijL0+TH/MRl86ozbrkMTWJPztO7qRQkop8bKe4lCvh8GW2FnJCj2Oy/ig==";
+    private static final String JWT_SECRET = "c2VwYXJhdGUtand0LXNpZ25pbmctc2VjcmV0LWZvci10ZXN0cw==";
+    private static final String TOKEN = "header.payload.signature";
+
+    private IdentityAssertionCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new IdentityAssertionCodec(SECRET, JWT_SECRET);
+    }
+
+    /**
+     * Test that an encoded assertion round-trips subject, roles and expiry.
+     */
+    @Test
+    void testDecode_RoundTrip() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        String assertion = codec.encode("test@example.com", List.of("ROLE_STUDENT", "ROLE_ADMIN"), expiresAt, TOKEN);
+
+        JwtClaimsView view = codec.decode(assertion, TOKEN);
+
+        assertNotNull(view);
+        assertEquals("test@example.com", view.getSubject());
+        assertEquals(List.of("ROLE_STUDENT", "ROLE_ADMIN"), view.getRoles());
+        assertEquals(expiresAt, view.getExpiration().getTime());
+    }
+
+    /**
+     * Test that an assertion without roles yields an empty role list.
+     */
+    @Test
+    void testDecode_NoRoles() {
+        String assertion = codec.encode("test@example.com", List.of(), System.currentTimeMillis() + 60_000, TOKEN);
+
+        JwtClaimsView view = codec.decode(assertion, TOKEN);
+
+        assertNotNull(view);
+        assertTrue(view.getRoles().isEmpty());
+    }
+
+    /**
+     * Test that expired assertions are ignored.
+     */
+    @Test
+    void testDecode_Expired() {
+        String assertion = codec.encode("test@example.com", List.of("ROLE_STUDENT"), System.currentTimeMillis() - 1_000, TOKEN);
+
+        assertNull(codec.decode(assertion, TOKEN));
+    }
+
+    /**
+     * Test that a tampered payload is rejected.
+     */
+    @Test
+    void testDecode_TamperedPayload() {
+        String assertion = codec.encode("test@example.com", List.of("ROLE_STUDENT"), System.currentTimeMillis() + 60_000, TOKEN);
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("test@example.com\n" + (System.currentTimeMillis() + 60_000) + "\nROLE_ADMIN\n").getBytes());
+
+        assertNull(codec.decode(forgedPayload + assertion.substring(assertion.indexOf('.')), TOKEN));
+    }
+
+    /**
+     * Test that assertions signed with another secret are rejected.
+     */
+    @Test
+    void testDecode_WrongSecret() {
+        byte[] otherKey = new byte[64];
+        otherKey[0] = 1;
+        IdentityAssertionCodec other = new IdentityAssertionCodec(Base64.getEncoder().encodeToString(otherKey), JWT_SECRET);
+        String assertion = other.encode("test@example.com", List.of("ROLE_ADMIN"), System.currentTimeMillis() + 60_000, TOKEN);
+
+        assertNull(codec.decode(assertion, TOKEN));
+    }
+
+    /**
+     * Test that missing and malformed header values are ignored.
+     */
+    @Test
+    void testDecode_Malformed() {
+        assertNull(codec.decode(null, TOKEN));
+        assertNull(codec.decode("", TOKEN));
+        assertNull(codec.decode("no-signature", TOKEN));
+        assertNull(codec.decode("payload.", TOKEN));
+        assertNull(codec.decode(".signature", TOKEN));
+        assertNull(codec.decode("!!!.???", TOKEN));
+    }
+
+    /**
+     * Test that an assertion is only accepted together with the token it was issued for.
+     */
+    @Test
+    void testDecode_OtherToken() {
+        String assertion = codec.encode("test@example.com", List.of("ROLE_ADMIN"), System.currentTimeMillis() + 60_000, TOKEN);
+
+        assertNull(codec.decode(assertion, "header.payload.other"));
+        assertNull(codec.decode(assertion, null));
+    }
+
+    /**
+     * Test that the assertion secret is required and must differ from the JWT secret.
+     */
+    @Test
+    void testConstructor_RequiresSeparateSecret() {
+        assertThrows(IllegalArgumentException.class, () -> new IdentityAssertionCodec(null, JWT_SECRET));
+        assertThrows(IllegalArgumentException.class, () -> new IdentityAssertionCodec(" ", JWT_SECRET));
+        assertThrows(IllegalArgumentException.class, () -> new IdentityAssertionCodec(SECRET, SECRET));
+    }
+}
@@ -0,0 +1,93 @@
+package com.hcltech.commonlib.jwt;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JMH benchmark comparing the per-request token handling of the old {@code JwtUtil} copies
+ * with a single {@link JwtTokenParser#parse(String)} call.
+ * <p>
+ * {@link #legacyFilterPath()} reproduces what every {@code JwtAuthenticationFilter} did before:
+ * {@code extractUsername}, {@code extractRoles} and {@code validateToken} (which parses twice
+ * more), each decoding the secret and building a new parser. {@link #singleParse()} is the
+ * replacement, and {@link #identityAssertion()} is what services do for requests proxied by
+ * the gateway.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}.
+ * </p>
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "jMArLpHsJw0NlMuvz7esYfcgeNEmbijL0+TH/MRl86ozbrkMTWJPztO7qRQkop8bKe4lCvh8GW2FnJCj2Oy/ig==";
+    private static final String ASSERTION_SECRET = "c2VydmljZS1hc3NlcnRpb24tc2VjcmV0LWZvci1iZW5jaG1hcmtzLW9ubHkh";
+
+    private String token;
+    private JwtTokenParser parser;
+    private String assertion;
+    private IdentityAssertionCodec codec;
+
+    @Setup
+    public void setUp() {
+        token = JwtTokenParserTest.token(SECRET, 3_600_000, List.of("ROLE_STUDENT"));
+        parser = new JwtTokenParser(SECRET);
+        codec = new IdentityAssertionCodec(ASSERTION_SECRET, SECRET);
+        assertion = codec.encode("test@example.com", List.of("ROLE_STUDENT"), System.currentTimeMillis() + 3_600_000, token);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyClaims().getSubject();
+        List<?> roles = legacyClaims().get("roles", List.class);
+        boolean valid = legacyClaims().getSubject().equals(username)
+                && !legacyClaims().getExpiration().before(new Date());
+        return valid && !roles.isEmpty();
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        JwtClaimsView view = parser.parse(token);
+        return view.isValidFor(view.getSubject()) && !view.getRoles().isEmpty();
+    }
+
+    @Benchmark
+    public boolean identityAssertion() {
+        JwtClaimsView view = codec.decode(assertion, token);
+        return view != null && !view.getRoles().isEmpty();
+    }
+
+    private Claims legacyClaims() {
+        Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+}
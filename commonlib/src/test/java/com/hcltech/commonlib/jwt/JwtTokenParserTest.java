@@ -0,0 +1,109 @@
+package com.hcltech.commonlib.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtTokenParser and JwtClaimsView.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class JwtTokenParserTest {
+
+    private static final String SECRET = "jMArLpHsJw0NlMuvz7esYfcgeNEmbijL0+TH/MRl86ozbrkMTWJPztO7qRQkop8bKe4lCvh8GW2FnJCj2Oy/ig==";
+
+    private JwtTokenParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new JwtTokenParser(SECRET);
+    }
+
+    /**
+     * Test that a single parse exposes subject, roles, expiry and custom claims.
+     */
+    @Test
+    void testParse_ExposesAllClaims() {
+        String token = token(SECRET, 60_000, List.of("ROLE_STUDENT", "ROLE_ADMIN"));
+
+        JwtClaimsView view = parser.parse(token);
+
+        assertEquals("test@example.com", view.getSubject());
+        assertEquals(List.of("ROLE_STUDENT", "ROLE_ADMIN"), view.getRoles());
+        assertNotNull(view.getExpiration());
+        assertEquals("testuser", view.getClaim("username", String.class));
+        assertNull(view.getClaim("role", String.class));
+        assertFalse(view.isExpired());
+        assertTrue(view.isValidFor("test@example.com"));
+        assertFalse(view.isValidFor("other@example.com"));
+    }
+
+    /**
+     * Test that the view cannot be modified by callers.
+     */
+    @Test
+    void testParse_ViewIsImmutable() {
+        JwtClaimsView view = parser.parse(token(SECRET, 60_000, List.of("ROLE_STUDENT")));
+
+        assertThrows(UnsupportedOperationException.class, () -> view.getRoles().add("ROLE_ADMIN"));
+        view.getExpiration().setTime(0);
+        assertFalse(view.isExpired());
+    }
+
+    /**
+     * Test that a token without a roles claim yields an empty role list.
+     */
+    @Test
+    void testParse_MissingRoles() {
+        JwtClaimsView view = parser.parse(token(SECRET, 60_000, null));
+
+        assertTrue(view.getRoles().isEmpty());
+    }
+
+    /**
+     * Test that expired tokens are rejected.
+     */
+    @Test
+    void testParse_ExpiredToken() {
+        String token = token(SECRET, -60_000, List.of("ROLE_STUDENT"));
+
+        assertThrows(ExpiredJwtException.class, () -> parser.parse(token));
+    }
+
+    /**
+     * Test that tokens signed with another key are rejected.
+     */
+    @Test
+    void testParse_WrongSignature() {
+        byte[] otherKey = new byte[64];
+        otherKey[0] = 1;
+        String token = token(Base64.getEncoder().encodeToString(otherKey), 60_000, List.of("ROLE_STUDENT"));
+
+        assertThrows(JwtException.class, () -> parser.parse(token));
+    }
+
+    static String token(String secret, long validityMillis, List<String> roles) {
+        var builder = Jwts.builder()
+                .setClaims(roles == null ? Map.of() : Map.of(JwtClaimsView.ROLES_CLAIM, roles))
+                .setSubject("test@example.com")
+                .claim("username", "testuser")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + validityMillis));
+        return builder.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)), SignatureAlgorithm.HS512)
+                .compact();
+    }
+}
@@ -0,0 +1,81 @@
+package com.hcltech.commonlib.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RevocationBloomFilter.
+ *
+ * @author HCL Tech
+ * @version 1.0
+ * @since 1.0
+ */
+class RevocationBloomFilterTest {
+
+    /**
+     * Test that every added ID is found, also after a serialization round trip.
+     */
+    @Test
+    void testAddedIds_AlwaysFound() {
+        RevocationBloomFilter filter = RevocationBloomFilter.create(1_000, 0.01);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            filter.add(id);
+        }
+
+        RevocationBloomFilter copy = RevocationBloomFilter.fromBytes(filter.toBytes());
+
+        assertEquals(1_000, copy.entries());
+        for (String id : ids) {
+            assertTrue(filter.mightContain(id));
+            assertTrue(copy.mightContain(id));
+        }
+    }
+
+    /**
+     * Test that the false positive rate stays close to the configured rate at the expected size.
+     */
+    @Test
+    void testFalsePositiveRate_NearConfigured() {
+        RevocationBloomFilter filter = RevocationBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 1_500, "false positives: " + falsePositives);
+    }
+
+    /**
+     * Test that an empty filter contains nothing and stays small.
+     */
+    @Test
+    void testEmptyFilter_ContainsNothing() {
+        RevocationBloomFilter filter = RevocationBloomFilter.create(0, 0.01);
+
+        assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+        assertEquals(16 + 1024 / 8, filter.toBytes().length);
+    }
+
+    /**
+     * Test that bytes of another format are rejected.
+     */
+    @Test
+    void testFromBytes_RejectsGarbage() {
+        assertThrows(IllegalArgumentException.class, () -> RevocationBloomFilter.fromBytes(new byte[] {1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> RevocationBloomFilter.fromBytes(new byte[32]));
+    }
+}
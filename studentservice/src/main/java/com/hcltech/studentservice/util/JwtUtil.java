@@ -1,54 +1,46 @@
 package com.hcltech.studentservice.util;
 
-import java.util.Base64;
-import java.util.Date;
 import java.util.List;
-import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.security.Key;
+import com.hcltech.commonlib.identity.IdentityAssertionCodec;
+import com.hcltech.commonlib.jwt.JwtClaimsView;
+import com.hcltech.commonlib.jwt.JwtTokenParser;
 
 @Component
 public class JwtUtil {
-	@Value("${jwt.secret}")
-	private String secret;
+	private final JwtTokenParser tokenParser;
 
-	public String extractUsername(String token) {
-		return extractClaim(token, Claims::getSubject);
-	}
+	private final IdentityAssertionCodec assertionCodec;
 
-	public String extractRole(String token) {
-		return extractClaim(token, claims -> claims.get("role", String.class));
+	public JwtUtil(@Value("${jwt.secret}") String secret,
+			@Value("${identity-assertion.secret}") String assertionSecret) {
+		this.tokenParser = new JwtTokenParser(secret);
+		this.assertionCodec = new IdentityAssertionCodec(assertionSecret, secret);
 	}
 
-	public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-		final Claims claims = extractAllClaims(token);
-		return claimsResolver.apply(claims);
+	public JwtClaimsView parse(String token) {
+		return tokenParser.parse(token);
 	}
 
-	private Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+	public JwtClaimsView parseAssertion(String assertion, String token) {
+		return assertion == null ? null : assertionCodec.decode(assertion, token);
 	}
 
-	public Boolean validateToken(String token, String username) {
-		final String extractedUsername = extractUsername(token);
-		return (extractedUsername.equals(username) && !isTokenExpired(token));
+	public String extractUsername(String token) {
+		return parse(token).getSubject();
 	}
 
-	private Boolean isTokenExpired(String token) {
-		return extractClaim(token, Claims::getExpiration).before(new Date());
+	public String extractRole(String token) {
+		return parse(token).getClaim("role", String.class);
 	}
 
-	private Key getSigningKey() {
-		byte[] keyBytes = Base64.getDecoder().decode(secret);
-		return Keys.hmacShaKeyFor(keyBytes);
+	public Boolean validateToken(String token, String username) {
+		return parse(token).isValidFor(username);
 	}
 
 	public List<String> extractRoles(String token) {
-		return extractClaim(token, claims -> claims.get("roles", List.class));
+		return parse(token).getRoles();
 	}
-}
\ No newline at end of file
+}